@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.instancio.Instancio;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating objects with Bean Validation annotations,
+ * with Bean Validation support enabled and disabled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class BeanValidationBenchmark {
+
+    private Settings beanValidationEnabled;
+    private Settings beanValidationDisabled;
+
+    @Setup
+    public void setup() {
+        beanValidationEnabled = Settings.from(BenchmarkSupport.settings())
+                .set(Keys.BEAN_VALIDATION_ENABLED, true)
+                .lock();
+        beanValidationDisabled = Settings.from(BenchmarkSupport.settings())
+                .set(Keys.BEAN_VALIDATION_ENABLED, false)
+                .lock();
+    }
+
+    @Benchmark
+    public Customer enabled() {
+        return Instancio.of(Customer.class).withSettings(beanValidationEnabled).create();
+    }
+
+    @Benchmark
+    public Customer disabled() {
+        return Instancio.of(Customer.class).withSettings(beanValidationDisabled).create();
+    }
+
+    @SuppressWarnings("unused")
+    public static class Customer {
+        @NotBlank
+        @Size(min = 2, max = 30)
+        private String name;
+
+        @Email
+        private String email;
+
+        @Min(18)
+        @Max(99)
+        private int age;
+
+        @Past
+        private LocalDate dateOfBirth;
+
+        @Positive
+        private long customerId;
+
+        @NotNull
+        @DecimalMin("0.00")
+        @DecimalMax("10000.00")
+        @Digits(integer = 5, fraction = 2)
+        private BigDecimal balance;
+
+        @NotEmpty
+        @Size(max = 5)
+        private List<@Size(min = 5, max = 10) String> tags;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+
+/**
+ * Constants shared by the benchmarks.
+ */
+final class BenchmarkSupport {
+
+    /**
+     * Seed used by all benchmarks, so that each run
+     * generates the same data for a given commit.
+     */
+    static final long SEED = 8_675_309L;
+
+    /**
+     * Collection size used by benchmarks that generate collections.
+     */
+    static final int COLLECTION_SIZE = 10;
+
+    /**
+     * Size of the list created by the benchmark that
+     * measures generating a large number of objects.
+     */
+    static final int LARGE_COLLECTION_SIZE = 1_000;
+
+    static Settings settings() {
+        return Settings.create()
+                .set(Keys.SEED, SEED)
+                .set(Keys.COLLECTION_MIN_SIZE, COLLECTION_SIZE)
+                .set(Keys.COLLECTION_MAX_SIZE, COLLECTION_SIZE)
+                .lock();
+    }
+
+    private BenchmarkSupport() {
+        // non-instantiable
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.misc.StringAndPrimitiveFields;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.instancio.Select.field;
+
+/**
+ * Benchmarks generating cartesian products; scores are per combination.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CartesianProductBenchmark {
+
+    private static final Integer[] VALUES = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+    private static final int THREE_AXES = 1_000;
+    private static final int FOUR_AXES = 10_000;
+
+    private Settings settings;
+
+    @Setup
+    public void setup() {
+        settings = BenchmarkSupport.settings();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(THREE_AXES)
+    public List<StringAndPrimitiveFields> create() {
+        return Instancio.ofCartesianProduct(StringAndPrimitiveFields.class)
+                .withSettings(settings)
+                .with(field(StringAndPrimitiveFields.class, "intOne"), VALUES)
+                .with(field(StringAndPrimitiveFields.class, "intTwo"), VALUES)
+                .with(field(StringAndPrimitiveFields.class, "intThree"), VALUES)
+                .create();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FOUR_AXES)
+    public void stream(final Blackhole blackhole) {
+        Instancio.ofCartesianProduct(StringAndPrimitiveFields.class)
+                .withSettings(settings)
+                .with(field(StringAndPrimitiveFields.class, "intOne"), VALUES)
+                .with(field(StringAndPrimitiveFields.class, "intTwo"), VALUES)
+                .with(field(StringAndPrimitiveFields.class, "intThree"), VALUES)
+                .with(field(StringAndPrimitiveFields.class, "intFour"), VALUES)
+                .stream()
+                .forEach(blackhole::consume);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.Model;
+import org.instancio.TypeToken;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.basic.SupportedNumericTypes;
+import org.instancio.test.support.pojo.collections.maps.MapStringPerson;
+import org.instancio.test.support.pojo.cyclic.onetomany.MainPojoContainer;
+import org.instancio.test.support.pojo.performance.LargeClass;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.record.PersonRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating a single root object of various shapes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CreateBenchmark {
+
+    private Settings settings;
+    private Model<Person> personModel;
+
+    @Setup
+    public void setup() {
+        settings = BenchmarkSupport.settings();
+        personModel = Instancio.of(Person.class).withSettings(settings).toModel();
+    }
+
+    @Benchmark
+    public SupportedNumericTypes flat() {
+        return Instancio.of(SupportedNumericTypes.class).withSettings(settings).create();
+    }
+
+    @Benchmark
+    public LargeClass wide() {
+        return Instancio.of(LargeClass.class).withSettings(settings).create();
+    }
+
+    @Benchmark
+    public Person deep() {
+        return Instancio.of(Person.class).withSettings(settings).create();
+    }
+
+    @Benchmark
+    public Person deepFromModel() {
+        return Instancio.create(personModel);
+    }
+
+    @Benchmark
+    public MainPojoContainer cyclic() {
+        return Instancio.of(MainPojoContainer.class).withSettings(settings).create();
+    }
+
+    @Benchmark
+    public PersonRecord record() {
+        return Instancio.of(PersonRecord.class).withSettings(settings).create();
+    }
+
+    @Benchmark
+    public MapStringPerson collections() {
+        return Instancio.of(MapStringPerson.class).withSettings(settings).create();
+    }
+
+    @Benchmark
+    public List<Person> largeCollection() {
+        return Instancio.ofList(Person.class)
+                .size(BenchmarkSupport.LARGE_COLLECTION_SIZE)
+                .withSettings(settings)
+                .create();
+    }
+
+    @Benchmark
+    public List<List<String>> nestedCollections() {
+        return Instancio.of(new TypeToken<List<List<String>>>() {}).withSettings(settings).create();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.settings.FeedDataEndAction;
+import org.instancio.settings.FeedFormatType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading CSV and JSON feeds from files, and reading
+ * values from a feed. Since the feed data cache can only be configured
+ * globally, loading benchmarks update the last modified time of the file
+ * before each operation, so that the cached data is discarded and
+ * the file is parsed again.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class FeedBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private Path csvFile;
+    private Path jsonFile;
+    private Feed csvFeed;
+    private long lastModified;
+
+    @Setup
+    public void setup() throws IOException {
+        final StringBuilder csv = new StringBuilder("id,name,email,amount\n");
+        final StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append(i).append(",name-").append(i).append(",user").append(i)
+                    .append("@example.com,").append(i * 7 % 1000).append(".25\n");
+            json.append(i == 0 ? "" : ",\n")
+                    .append("{\"id\":").append(i)
+                    .append(",\"name\":\"name-").append(i)
+                    .append("\",\"email\":\"user").append(i)
+                    .append("@example.com\",\"amount\":").append(i * 7 % 1000).append(".25}");
+        }
+        json.append("\n]\n");
+
+        csvFile = Files.createTempFile("instancio-benchmark-", ".csv");
+        jsonFile = Files.createTempFile("instancio-benchmark-", ".json");
+        Files.writeString(csvFile, csv);
+        Files.writeString(jsonFile, json);
+        lastModified = Files.getLastModifiedTime(csvFile).toMillis();
+
+        csvFeed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(csvFile))
+                .onDataEnd(FeedDataEndAction.RECYCLE)
+                .create();
+    }
+
+    @TearDown
+    public void tearDown() {
+        try {
+            Files.deleteIfExists(csvFile);
+            Files.deleteIfExists(jsonFile);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Benchmark
+    public String loadCsv() {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(modified(csvFile)))
+                .create()
+                .stringSpec("name")
+                .get();
+    }
+
+    @Benchmark
+    public String loadCsvMemoryMapped() {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(modified(csvFile)))
+                .formatOptions(format -> format.csv().memoryMapped(true))
+                .create()
+                .stringSpec("name")
+                .get();
+    }
+
+    @Benchmark
+    public String loadJson() {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(modified(jsonFile)))
+                .formatType(FeedFormatType.JSON)
+                .create()
+                .stringSpec("name")
+                .get();
+    }
+
+    @Benchmark
+    public String loadCsvCached() {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(csvFile))
+                .create()
+                .stringSpec("name")
+                .get();
+    }
+
+    @Benchmark
+    public String readCsvValue() {
+        return csvFeed.stringSpec("email").get();
+    }
+
+    private Path modified(final Path file) {
+        try {
+            return Files.setLastModifiedTime(file, FileTime.fromMillis(++lastModified));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioGenApi;
+import org.instancio.generator.ValueSpec;
+import org.instancio.test.support.pojo.person.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks generating a single value using each built-in
+ * {@code Instancio.gen()} spec with its default configuration
+ * (specs that require configuration, such as CSV and patterns,
+ * use a small fixed configuration).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class GenSpecBenchmark {
+
+    @Param({
+            "booleans", "chars", "string", "bytes", "shorts", "ints", "intSeq", "longs", "longSeq",
+            "floats", "doubles", "enumOf", "oneOfArray", "oneOfCollection", "shuffle", "uuid", "hash",
+            "io.file", "nio.path", "math.bigDecimal", "math.bigInteger",
+            "net.email", "net.ip4", "net.uri", "net.url",
+            "temporal.duration", "temporal.instant", "temporal.localDate", "temporal.localDateTime",
+            "temporal.localTime", "temporal.offsetDateTime", "temporal.offsetTime", "temporal.period",
+            "temporal.year", "temporal.yearMonth", "temporal.zonedDateTime", "temporal.monthDay",
+            "temporal.date", "temporal.sqlDate", "temporal.timestamp", "temporal.calendar",
+            "text.csv", "text.loremIpsum", "text.pattern", "text.uuid", "text.word", "text.wordTemplate",
+            "checksum.luhn", "checksum.mod10", "checksum.mod11",
+            "id.ean", "id.isbn", "id.can.sin", "id.pol.nip", "id.pol.pesel", "id.pol.regon", "id.usa.ssn",
+            "id.bra.cpf", "id.bra.cnpj", "id.bra.tituloEleitoral", "id.rus.inn",
+            "finance.creditCard", "finance.currency", "spatial.coordinate"
+    })
+    private String spec;
+
+    private ValueSpec<?> valueSpec;
+
+    @Setup
+    public void setup() {
+        valueSpec = createSpec(spec);
+    }
+
+    @Benchmark
+    public Object get() {
+        return valueSpec.get();
+    }
+
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static ValueSpec<?> createSpec(final String name) {
+        final InstancioGenApi gen = Instancio.gen().withSettings(BenchmarkSupport.settings());
+
+        return switch (name) {
+            case "booleans" -> gen.booleans();
+            case "chars" -> gen.chars();
+            case "string" -> gen.string();
+            case "bytes" -> gen.bytes();
+            case "shorts" -> gen.shorts();
+            case "ints" -> gen.ints();
+            case "intSeq" -> gen.intSeq();
+            case "longs" -> gen.longs();
+            case "longSeq" -> gen.longSeq();
+            case "floats" -> gen.floats();
+            case "doubles" -> gen.doubles();
+            case "enumOf" -> gen.enumOf(Gender.class);
+            case "oneOfArray" -> gen.oneOf("foo", "bar", "baz");
+            case "oneOfCollection" -> gen.oneOf(List.of("foo", "bar", "baz"));
+            case "shuffle" -> gen.shuffle("a", "b", "c", "d", "e");
+            case "uuid" -> gen.uuid();
+            case "hash" -> gen.hash();
+            case "io.file" -> gen.io().file();
+            case "nio.path" -> gen.nio().path();
+            case "math.bigDecimal" -> gen.math().bigDecimal();
+            case "math.bigInteger" -> gen.math().bigInteger();
+            case "net.email" -> gen.net().email();
+            case "net.ip4" -> gen.net().ip4();
+            case "net.uri" -> gen.net().uri();
+            case "net.url" -> gen.net().url();
+            case "temporal.duration" -> gen.temporal().duration();
+            case "temporal.instant" -> gen.temporal().instant();
+            case "temporal.localDate" -> gen.temporal().localDate();
+            case "temporal.localDateTime" -> gen.temporal().localDateTime();
+            case "temporal.localTime" -> gen.temporal().localTime();
+            case "temporal.offsetDateTime" -> gen.temporal().offsetDateTime();
+            case "temporal.offsetTime" -> gen.temporal().offsetTime();
+            case "temporal.period" -> gen.temporal().period();
+            case "temporal.year" -> gen.temporal().year();
+            case "temporal.yearMonth" -> gen.temporal().yearMonth();
+            case "temporal.zonedDateTime" -> gen.temporal().zonedDateTime();
+            case "temporal.monthDay" -> gen.temporal().monthDay();
+            case "temporal.date" -> gen.temporal().date();
+            case "temporal.sqlDate" -> gen.temporal().sqlDate();
+            case "temporal.timestamp" -> gen.temporal().timestamp();
+            case "temporal.calendar" -> gen.temporal().calendar();
+            case "text.csv" -> gen.text().csv()
+                    .column("id", gen.ints())
+                    .column("name", gen.string())
+                    .rows(5);
+            case "text.loremIpsum" -> gen.text().loremIpsum();
+            case "text.pattern" -> gen.text().pattern("#C#C#C-#d#d#d#d-#a#a#a#a");
+            case "text.uuid" -> gen.text().uuid();
+            case "text.word" -> gen.text().word();
+            case "text.wordTemplate" -> gen.text().wordTemplate("${adjective} ${noun}");
+            case "checksum.luhn" -> gen.checksum().luhn();
+            case "checksum.mod10" -> gen.checksum().mod10();
+            case "checksum.mod11" -> gen.checksum().mod11();
+            case "id.ean" -> gen.id().ean();
+            case "id.isbn" -> gen.id().isbn();
+            case "id.can.sin" -> gen.id().can().sin();
+            case "id.pol.nip" -> gen.id().pol().nip();
+            case "id.pol.pesel" -> gen.id().pol().pesel();
+            case "id.pol.regon" -> gen.id().pol().regon();
+            case "id.usa.ssn" -> gen.id().usa().ssn();
+            case "id.bra.cpf" -> gen.id().bra().cpf();
+            case "id.bra.cnpj" -> gen.id().bra().cnpj();
+            case "id.bra.tituloEleitoral" -> gen.id().bra().tituloEleitoral();
+            case "id.rus.inn" -> gen.id().rus().inn();
+            case "finance.creditCard" -> gen.finance().creditCard();
+            case "finance.currency" -> gen.finance().currency();
+            case "spatial.coordinate" -> gen.spatial().coordinate();
+            default -> throw new IllegalArgumentException("unknown spec: " + name);
+        };
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.Model;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.performance.LargeClass;
+import org.instancio.test.support.pojo.person.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building models, which includes resolving
+ * settings and selectors, and building the node tree.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ModelBenchmark {
+
+    private Settings settings;
+
+    @Setup
+    public void setup() {
+        settings = BenchmarkSupport.settings();
+    }
+
+    @Benchmark
+    public Model<Person> person() {
+        return Instancio.of(Person.class).withSettings(settings).toModel();
+    }
+
+    @Benchmark
+    public Model<LargeClass> largeClass() {
+        return Instancio.of(LargeClass.class).withSettings(settings).toModel();
+    }
+}
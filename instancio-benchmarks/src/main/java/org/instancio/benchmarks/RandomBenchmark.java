@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.settings.RandomAlgorithm;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DefaultRandom} methods used by most generators,
+ * for each supported random algorithm.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class RandomBenchmark {
+
+    private static final int STRING_LENGTH = 20;
+    private static final String[] CHOICES = {"foo", "bar", "baz", "qux"};
+
+    @Param
+    private RandomAlgorithm algorithm;
+
+    private DefaultRandom random;
+
+    @Setup
+    public void setup() {
+        random = new DefaultRandom(BenchmarkSupport.SEED, Seeds.Source.MANUAL, algorithm);
+    }
+
+    @Benchmark
+    public boolean trueOrFalse() {
+        return random.trueOrFalse();
+    }
+
+    @Benchmark
+    public int intRange() {
+        return random.intRange(1, 1000);
+    }
+
+    @Benchmark
+    public long longRange() {
+        return random.longRange(1, Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public double doubleRange() {
+        return random.doubleRange(0, 1);
+    }
+
+    @Benchmark
+    public char alphanumericCharacter() {
+        return random.alphanumericCharacter();
+    }
+
+    @Benchmark
+    public String upperCaseAlphabetic() {
+        return random.upperCaseAlphabetic(STRING_LENGTH);
+    }
+
+    @Benchmark
+    public String alphanumeric() {
+        return random.alphanumeric(STRING_LENGTH);
+    }
+
+    @Benchmark
+    public String oneOf() {
+        return random.oneOf(CHOICES);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.Model;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Gender;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Pet;
+import org.instancio.test.support.pojo.person.Phone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.instancio.Select.all;
+import static org.instancio.Select.allInts;
+import static org.instancio.Select.field;
+import static org.instancio.Select.fields;
+import static org.instancio.Select.scope;
+import static org.instancio.Select.types;
+
+/**
+ * Benchmarks creating objects from a model with many selectors
+ * of different kinds: regular, scoped, predicate, and method reference.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class SelectorBenchmark {
+
+    private Settings settings;
+    private Model<Person> model;
+
+    @Setup
+    public void setup() {
+        settings = BenchmarkSupport.settings();
+        model = withSelectors(Instancio.of(Person.class).withSettings(settings)).toModel();
+    }
+
+    @Benchmark
+    public Person createWithSelectors() {
+        return withSelectors(Instancio.of(Person.class).withSettings(settings)).create();
+    }
+
+    @Benchmark
+    public Person createFromModelWithSelectors() {
+        return Instancio.create(model);
+    }
+
+    private static InstancioApi<Person> withSelectors(final InstancioApi<Person> api) {
+        return api
+                .set(field(Person::getGender), Gender.FEMALE)
+                .generate(field(Person::getName), gen -> gen.text().pattern("#C#c#c#c#c"))
+                .generate(field(Address::getStreet), gen -> gen.string().length(10))
+                .generate(field(Phone::getCountryCode), gen -> gen.oneOf("+1", "+44", "+61"))
+                .generate(field(Phone::getNumber), gen -> gen.text().pattern("#d#d#d-#d#d#d#d"))
+                .generate(all(Pet[].class), gen -> gen.array().length(3))
+                .set(field(Pet::getName).within(scope(Pet[].class)), "pet")
+                .generate(allInts(), gen -> gen.ints().range(18, 65))
+                .generate(fields().named("city").declaredIn(Address.class), gen -> gen.oneOf("Sydney", "Toronto"))
+                .generate(types().of(LocalDateTime.class).within(scope(Person.class)),
+                        gen -> gen.temporal().localDateTime().future())
+                .filter(field(Address::getCountry), (String country) -> !country.isEmpty());
+    }
+}
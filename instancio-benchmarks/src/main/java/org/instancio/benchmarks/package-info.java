@@ -0,0 +1,26 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * JMH benchmarks for Instancio.
+ *
+ * <p>All benchmarks use fixed seeds and the same fork, warmup, and
+ * measurement configuration, so that results from different commits
+ * can be compared. Run with {@code -prof gc} to report allocation rates
+ * ({@code just benchmarks} enables it by default). Bytes allocated per
+ * operation ({@code gc.alloc.rate.norm}) are largely independent
+ * of the machine's speed.
+ */
+package org.instancio.benchmarks;
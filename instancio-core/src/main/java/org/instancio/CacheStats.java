@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.internal.InternalModel;
+import org.instancio.internal.feed.CachingDataLoader;
+
+/**
+ * A snapshot of the statistics of a cache maintained by Instancio.
+ * The statistics are cumulative since the cache was created.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * CacheStats stats = CacheStats.feedData();
+ * long requests = stats.hitCount() + stats.missCount();
+ * }</pre>
+ *
+ * @param size               the number of cached entries
+ * @param hitCount           the number of requests served from the cache
+ * @param missCount          the number of requests that were not
+ *                           served from the cache
+ * @param evictionCount      the number of entries evicted
+ *                           because the cache was full
+ * @param loadCount          the number of entries loaded into the cache
+ * @param totalLoadTimeNanos the total time spent loading entries
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public record CacheStats(
+        int size,
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        long loadCount,
+        long totalLoadTimeNanos) {
+
+    /**
+     * Returns the statistics of the cache of
+     * {@link org.instancio.feed.Feed} data.
+     *
+     * @return feed data cache statistics
+     * @see org.instancio.settings.Keys#FEED_CACHE_MAX_SIZE
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static CacheStats feedData() {
+        return CachingDataLoader.getCacheStats();
+    }
+
+    /**
+     * Returns the statistics of the cache of node trees,
+     * which describe the structure of generated classes.
+     *
+     * @return node tree cache statistics
+     * @see org.instancio.settings.Keys#NODE_TREE_CACHE_MAX_SIZE
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static CacheStats nodeTrees() {
+        return InternalModel.getNodeTreeCacheStats();
+    }
+}
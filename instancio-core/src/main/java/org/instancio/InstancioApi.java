@@ -16,6 +16,7 @@
 package org.instancio;
 
 import org.instancio.documentation.ExperimentalApi;
+import org.instancio.exception.InstancioApiException;
 import org.instancio.feed.Feed;
 import org.instancio.feed.FeedProvider;
 import org.instancio.generator.Generator;
@@ -24,6 +25,7 @@ import org.instancio.settings.SettingKey;
 import org.instancio.settings.Settings;
 import org.jspecify.annotations.Nullable;
 
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -58,6 +60,38 @@ public interface InstancioApi<T extends @Nullable Object> extends
      */
     T create();
 
+    /**
+     * Creates a list containing the specified number of objects.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<Person> persons = Instancio.of(Person.class)
+     *     .generate(field(Person::getId), gen -> gen.longSeq())
+     *     .createList(3);
+     *
+     * // Output:
+     * // [Person[id=1], Person[id=2], Person[id=3]]
+     * }</pre>
+     *
+     * <p>This method is more efficient than calling {@link #create()}
+     * in a loop since the setup required for generating objects is performed
+     * only once. As a result, all objects are created using the same
+     * random instance and generators. For example, as shown in the snippet
+     * above, a sequence generator produces a continuous sequence
+     * (unlike {@link #stream()}, which generates each object separately).
+     * Similarly, {@code withUnique()} applies to all objects in the list.
+     *
+     * <p>Objects created using this method are independent from each other:
+     * {@code assign()} and {@code onComplete()} are applied to
+     * each object separately, the same as with {@code create()}.
+     *
+     * @param size the number of objects to create
+     * @return a list containing the created objects
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    List<T> createList(int size);
+
     /**
      * Returns a {@link Result} containing the created object and seed value
      * used to generate its values. The seed value can be used to reproduce
@@ -141,11 +175,55 @@ public interface InstancioApi<T extends @Nullable Object> extends
      * // [Person[id=1], Person[id=2], Person[id=3]]
      * }</pre>
      *
+     * <p>Since each element is seeded from the previous one, the returned
+     * stream should not be processed in parallel. For generating objects
+     * in parallel, use {@link #parallelStream()} instead.
+     *
      * @return an infinite stream of object instances
+     * @see #parallelStream()
      * @since 1.1.9
      */
     Stream<T> stream();
 
+    /**
+     * Creates an infinite, ordered, parallel {@link Stream} of objects.
+     * Ensure {@code limit()} is called on the returned stream to prevent
+     * an infinite loop.
+     *
+     * <p>Similarly to {@link #stream()}, each object is generated separately.
+     * However, instead of seeding each element from the previous one,
+     * each element is created using a seed derived from the stream's seed
+     * and the element's position in the stream. As a result, for a given seed,
+     * the element at a given position is the same regardless of
+     * the number of threads used or the order in which elements are created:
+     *
+     * <pre>{@code
+     * List<Person> persons = Instancio.of(Person.class)
+     *     .withSeed(12345)
+     *     .parallelStream()
+     *     .limit(1_000_000)
+     *     .collect(Collectors.toList());
+     * }</pre>
+     *
+     * <p>Note that a given seed produces different objects using
+     * {@code stream()} and {@code parallelStream()}.
+     *
+     * <p>Since objects are created concurrently, any custom generators,
+     * suppliers, callbacks (such as {@code onComplete()}), or
+     * {@code filter()} predicates provided via the API must be thread-safe.
+     *
+     * <p>{@code withUnique()} is not supported by this method, since
+     * values generated for an element would depend on elements created
+     * concurrently by other threads. Use {@link #stream()} instead.
+     *
+     * @return an infinite parallel stream of object instances
+     * @throws InstancioApiException if {@code withUnique()} was specified
+     * @see #stream()
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    Stream<T> parallelStream();
+
     /**
      * Creates a model containing generation parameters for creating an object.
      * A model acts as a template for creating objects or other models.
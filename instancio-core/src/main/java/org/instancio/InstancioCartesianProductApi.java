@@ -26,6 +26,7 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Provides an API for generating the Cartesian product.
@@ -37,6 +38,7 @@ import java.util.function.Supplier;
  *   <li>{@link #with(TargetSelector, Object[])} for specifying product values
  *       (see the method's Javadoc for an example)</li>
  *   <li>{@link #create()} for obtaining the results as a list</li>
+ *   <li>{@link #stream()} for obtaining the results as a stream</li>
  * </ul>
  *
  * @param <T> type to create
@@ -114,6 +116,64 @@ public interface InstancioCartesianProductApi<T extends @Nullable Object> extend
     @ExperimentalApi
     List<T> create();
 
+    /**
+     * Returns the Cartesian product as a stream, in the same order
+     * as the list returned by {@link #create()}.
+     *
+     * <p>Unlike {@link #create()}, combinations are not materialised
+     * upfront. Each combination is computed from its index when
+     * the corresponding object is created, and all objects are
+     * created using the same model. Therefore, memory usage does not
+     * depend on the number of combinations, which makes this method
+     * suitable for large Cartesian products.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Instancio.ofCartesianProduct(Widget.class)
+     *     .with(field(Widget::type), "FOO", "BAR", "BAZ")
+     *     .with(field(Widget::num), 1, 2, 3)
+     *     .stream()
+     *     .forEach(widget -> runTest(widget));
+     * }</pre>
+     *
+     * @return a stream of objects, one per combination
+     * @see #stream(long, long)
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    Stream<T> stream();
+
+    /**
+     * Returns a stream of objects for combinations whose index is within
+     * the given range. Indices correspond to positions in the list returned
+     * by {@link #create()}, starting from zero.
+     *
+     * <p>This method can be used for splitting a large Cartesian product
+     * into shards that can be processed independently, for example:
+     *
+     * <pre>{@code
+     * // combinations 1000 to 1999, inclusive
+     * Stream<Widget> shard = Instancio.ofCartesianProduct(Widget.class)
+     *     .with(field(Widget::type), types)
+     *     .with(field(Widget::num), nums)
+     *     .stream(1000, 2000);
+     * }</pre>
+     *
+     * <p>Combinations before {@code startInclusive} are skipped without
+     * creating objects. Note that values other than those specified
+     * via {@link #with(TargetSelector, Object[])} are generated randomly,
+     * therefore they may differ from values generated for the same
+     * combination by {@link #stream()}, unless the range starts at zero.
+     *
+     * @param startInclusive index of the first combination, inclusive
+     * @param endExclusive   index of the last combination, exclusive
+     * @return a stream of objects, one per combination within the range
+     * @see #stream()
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    Stream<T> stream(long startInclusive, long endExclusive);
+
     /**
      * {@inheritDoc}
      *
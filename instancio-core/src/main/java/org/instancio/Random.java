@@ -15,6 +15,8 @@
  */
 package org.instancio;
 
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.internal.ApiValidator;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Collection;
@@ -201,6 +203,40 @@ public interface Random {
      */
     String stringOf(int length, char... chars);
 
+    /**
+     * Fills the given array with random characters from the specified alphabet.
+     *
+     * @param dst      the array to fill
+     * @param alphabet characters to select from; must not be empty
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    default void fill(final char[] dst, final char... alphabet) {
+        ApiValidator.notNull(dst, "destination array must not be null");
+        fill(dst, 0, dst.length, alphabet);
+    }
+
+    /**
+     * Fills the specified range of the given array with
+     * random characters from the specified alphabet.
+     *
+     * <p>The default implementation selects each character
+     * using {@link #intRange(int, int)}.
+     *
+     * @param dst      the array to fill
+     * @param from     the index of the first element to fill (inclusive)
+     * @param to       the index of the last element to fill (exclusive)
+     * @param alphabet characters to select from; must not be empty
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    default void fill(final char[] dst, final int from, final int to, final char... alphabet) {
+        ApiValidator.validateFillArguments(dst, from, to, alphabet);
+        for (int i = from; i < to; i++) {
+            dst[i] = alphabet[intRange(0, alphabet.length - 1)];
+        }
+    }
+
     /**
      * Returns a random element from the given array.
      *
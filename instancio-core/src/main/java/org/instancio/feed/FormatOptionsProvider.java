@@ -90,6 +90,27 @@ public interface FormatOptionsProvider {
              */
             @ExperimentalApi
             CsvFormatOptions trim(FeedDataTrim feedDataTrim);
+
+            /**
+             * Specifies whether a CSV file should be memory-mapped
+             * instead of being read into memory; default is {@code false}.
+             *
+             * <p>If enabled, only the offsets of records are stored in
+             * memory, and each record is decoded when it is used. This
+             * is intended for large files that would otherwise require
+             * a large heap. The file must be encoded as UTF-8.
+             *
+             * <p>This option only applies to file data sources,
+             * for example {@code source.ofFile(path)}
+             * or {@code @Feed.Source(file = "...")}.
+             * It is ignored for other data sources.
+             *
+             * @param memoryMapped whether the file should be memory-mapped
+             * @return builder reference
+             * @since 6.0.0
+             */
+            @ExperimentalApi
+            CsvFormatOptions memoryMapped(boolean memoryMapped);
         }
     }
 
@@ -15,16 +15,20 @@
  */
 package org.instancio.generator;
 
+import org.instancio.generator.hints.ArrayHint;
+import org.instancio.generator.hints.CollectionHint;
+import org.instancio.generator.hints.MapHint;
 import org.instancio.internal.ApiValidator;
+import org.instancio.internal.generator.InternalContainerHint;
+import org.instancio.internal.generator.InternalGeneratorHint;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.StringJoiner;
 
-import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
-
 /**
  * Hints are provided by {@link Generator} implementations to the engine to
  * support more flexibility in how objects are populated.
@@ -36,12 +40,38 @@ import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
  */
 public final class Hints {
 
+    private static final Hints[] AFTER_GENERATE_HINTS = createAfterGenerateHints();
+
     private final @Nullable AfterGenerate afterGenerate;
-    private final Map<Class<?>, Hint<?>> hintMap;
+
+    // Hints used by the engine are stored in dedicated fields
+    // to avoid a map lookup for each generated value
+    private final @Nullable CollectionHint collectionHint;
+    private final @Nullable MapHint mapHint;
+    private final @Nullable ArrayHint arrayHint;
+    private final @Nullable InternalContainerHint containerHint;
+    private final @Nullable InternalGeneratorHint generatorHint;
+    private final Map<Class<?>, Hint<?>> otherHints;
 
     private Hints(final Builder builder) {
         afterGenerate = builder.afterGenerate;
-        hintMap = defaultIfNull(builder.hintMap, Collections.emptyMap());
+        collectionHint = builder.collectionHint;
+        mapHint = builder.mapHint;
+        arrayHint = builder.arrayHint;
+        containerHint = builder.containerHint;
+        generatorHint = builder.generatorHint;
+        otherHints = builder.otherHints == null
+                ? Collections.emptyMap()
+                : builder.otherHints;
+    }
+
+    private static Hints[] createAfterGenerateHints() {
+        final AfterGenerate[] values = AfterGenerate.values();
+        final Hints[] hints = new Hints[values.length];
+        for (AfterGenerate afterGenerate : values) {
+            hints[afterGenerate.ordinal()] = builder().afterGenerate(afterGenerate).build();
+        }
+        return hints;
     }
 
     /**
@@ -53,13 +83,21 @@ public final class Hints {
      * @since 2.0.0
      */
     public static Hints afterGenerate(final AfterGenerate afterGenerate) {
-        return builder().afterGenerate(afterGenerate).build();
+        ApiValidator.notNull(afterGenerate, "AfterGenerate must not be null");
+        return AFTER_GENERATE_HINTS[afterGenerate.ordinal()];
     }
 
     public static Builder builder(final Hints copy) {
         Builder builder = new Builder();
         builder.afterGenerate = copy.afterGenerate;
-        builder.hintMap = copy.hintMap;
+        builder.collectionHint = copy.collectionHint;
+        builder.mapHint = copy.mapHint;
+        builder.arrayHint = copy.arrayHint;
+        builder.containerHint = copy.containerHint;
+        builder.generatorHint = copy.generatorHint;
+        if (!copy.otherHints.isEmpty()) {
+            builder.otherHints = new HashMap<>(copy.otherHints);
+        }
         return builder;
     }
 
@@ -84,8 +122,20 @@ public final class Hints {
      * @since 2.0.0
      */
     @Nullable
+    @SuppressWarnings("unchecked")
     public <T extends Hint<T>> T get(final Class<T> hintType) {
-        return hintType.cast(hintMap.get(hintType));
+        if (hintType == CollectionHint.class) {
+            return (T) collectionHint;
+        } else if (hintType == MapHint.class) {
+            return (T) mapHint;
+        } else if (hintType == ArrayHint.class) {
+            return (T) arrayHint;
+        } else if (hintType == InternalContainerHint.class) {
+            return (T) containerHint;
+        } else if (hintType == InternalGeneratorHint.class) {
+            return (T) generatorHint;
+        }
+        return hintType.cast(otherHints.get(hintType));
     }
 
     /**
@@ -102,7 +152,12 @@ public final class Hints {
      */
     public static final class Builder {
         private @Nullable AfterGenerate afterGenerate;
-        private @Nullable Map<Class<?>, Hint<?>> hintMap;
+        private @Nullable CollectionHint collectionHint;
+        private @Nullable MapHint mapHint;
+        private @Nullable ArrayHint arrayHint;
+        private @Nullable InternalContainerHint containerHint;
+        private @Nullable InternalGeneratorHint generatorHint;
+        private @Nullable Map<Class<?>, Hint<?>> otherHints;
 
         private Builder() {
         }
@@ -121,10 +176,23 @@ public final class Hints {
          * @since 2.0.0
          */
         public <T extends Hint<T>> Builder with(final T hint) {
-            if (hintMap == null) {
-                hintMap = new HashMap<>();
+            final Class<T> type = hint.type();
+            if (type == CollectionHint.class) {
+                collectionHint = (CollectionHint) hint;
+            } else if (type == MapHint.class) {
+                mapHint = (MapHint) hint;
+            } else if (type == ArrayHint.class) {
+                arrayHint = (ArrayHint) hint;
+            } else if (type == InternalContainerHint.class) {
+                containerHint = (InternalContainerHint) hint;
+            } else if (type == InternalGeneratorHint.class) {
+                generatorHint = (InternalGeneratorHint) hint;
+            } else {
+                if (otherHints == null) {
+                    otherHints = new HashMap<>();
+                }
+                otherHints.put(type, hint);
             }
-            hintMap.put(hint.type(), hint);
             return this;
         }
 
@@ -169,11 +237,30 @@ public final class Hints {
         }
     }
 
+    private Map<Class<?>, Hint<?>> hintMap() {
+        final Map<Class<?>, Hint<?>> map = new LinkedHashMap<>();
+        putIfNotNull(map, CollectionHint.class, collectionHint);
+        putIfNotNull(map, MapHint.class, mapHint);
+        putIfNotNull(map, ArrayHint.class, arrayHint);
+        putIfNotNull(map, InternalContainerHint.class, containerHint);
+        putIfNotNull(map, InternalGeneratorHint.class, generatorHint);
+        map.putAll(otherHints);
+        return map;
+    }
+
+    private static void putIfNotNull(final Map<Class<?>, Hint<?>> map,
+                                     final Class<?> type,
+                                     @Nullable final Hint<?> hint) {
+        if (hint != null) {
+            map.put(type, hint);
+        }
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", "Hints[", "]")
                 .add("afterGenerate=" + afterGenerate)
-                .add("hints=" + hintMap)
+                .add("hints=" + hintMap())
                 .toString();
     }
 }
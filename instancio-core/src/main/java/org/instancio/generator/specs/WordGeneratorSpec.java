@@ -16,6 +16,7 @@
 package org.instancio.generator.specs;
 
 import org.instancio.documentation.ExperimentalApi;
+import org.instancio.feed.DataSourceProvider;
 
 /**
  * Spec for generating English words.
@@ -63,6 +64,30 @@ public interface WordGeneratorSpec extends
     @ExperimentalApi
     WordGeneratorSpec verb();
 
+    /**
+     * Specifies a custom dictionary of words to choose from.
+     * The data source should contain one word per line.
+     * Leading and trailing whitespace is removed, and blank lines are ignored.
+     *
+     * <p>For example, to load words from a classpath resource:
+     *
+     * <pre>{@code
+     * String colour = Instancio.gen().text().word()
+     *     .dictionary(source -> source.ofResource("colours.txt"))
+     *     .get();
+     * }</pre>
+     *
+     * <p>When a dictionary is specified, the word class
+     * (such as {@link #noun()}) is ignored. Dictionaries loaded from a
+     * resource or a file are loaded once and cached.
+     *
+     * @param provider the provider of the dictionary's data source
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    WordGeneratorSpec dictionary(DataSourceProvider provider);
+
     /**
      * {@inheritDoc}
      *
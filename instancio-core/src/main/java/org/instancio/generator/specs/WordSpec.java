@@ -16,6 +16,7 @@
 package org.instancio.generator.specs;
 
 import org.instancio.documentation.ExperimentalApi;
+import org.instancio.feed.DataSourceProvider;
 import org.instancio.generator.ValueSpec;
 
 /**
@@ -62,6 +63,15 @@ public interface WordSpec extends ValueSpec<String>, WordGeneratorSpec {
     @Override
     WordSpec verb();
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    @Override
+    WordSpec dictionary(DataSourceProvider provider);
+
     /**
      * {@inheritDoc}
      *
@@ -35,18 +35,33 @@ import org.instancio.settings.FillType;
 import org.instancio.settings.SettingKey;
 import org.instancio.settings.Settings;
 import org.jspecify.annotations.NullUnmarked;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
 
     private final ModelContext.Builder modelContextBuilder;
 
+    /**
+     * The model this API was created from, or {@code null} if the API
+     * was not created from a model. Objects created from an unmodified
+     * model can reuse the model's node tree.
+     */
+    private @Nullable InternalModel<T> suppliedModel;
+
+    /**
+     * Whether the supplied model's selectors or settings have been overridden.
+     */
+    private boolean contextOverridden;
+
     public ApiImpl(final Type klass) {
         this.modelContextBuilder = ModelContext.builder(klass);
     }
@@ -60,6 +75,7 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
         final ModelContext suppliedContext = suppliedModel.getModelContext();
         // copy context data to allow overriding
         this.modelContextBuilder = suppliedContext.toBuilder();
+        this.suppliedModel = suppliedModel;
     }
 
     public ApiImpl(final T object) {
@@ -68,12 +84,22 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
     }
 
     protected final void addTypeParameters(final Type... types) {
-        modelContextBuilder.withRootTypeParameters(Arrays.asList(types));
+        builder().withRootTypeParameters(Arrays.asList(types));
+    }
+
+    /**
+     * Returns the builder for overriding the context. Once the context
+     * has been overridden, it no longer matches the supplied model,
+     * therefore objects will be created using a new node tree.
+     */
+    private ModelContext.Builder builder() {
+        contextOverridden = true;
+        return modelContextBuilder;
     }
 
     @Override
     public ApiImpl<T> ignore(final TargetSelector selector) {
-        modelContextBuilder.withIgnored(selector);
+        builder().withIgnored(selector);
         return this;
     }
 
@@ -82,7 +108,7 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final GeneratorSpecProvider<V> gen) {
 
-        modelContextBuilder.withGeneratorSpec(selector, gen);
+        builder().withGeneratorSpec(selector, gen);
         return this;
     }
 
@@ -91,7 +117,7 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final GeneratorSpec<V> spec) {
 
-        modelContextBuilder.withGenerator(selector, (Generator<T>) spec);
+        builder().withGenerator(selector, (Generator<T>) spec);
         return this;
     }
 
@@ -100,25 +126,25 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final OnCompleteCallback<V> callback) {
 
-        modelContextBuilder.withOnCompleteCallback(selector, callback);
+        builder().withOnCompleteCallback(selector, callback);
         return this;
     }
 
     @Override
     public <V> ApiImpl<T> filter(final TargetSelector selector, final FilterPredicate<V> predicate) {
-        modelContextBuilder.filter(selector, predicate);
+        builder().filter(selector, predicate);
         return this;
     }
 
     @Override
     public <V> ApiImpl<T> set(final TargetSelector selector, final V value) {
-        modelContextBuilder.withSet(selector, value);
+        builder().withSet(selector, value);
         return this;
     }
 
     @Override
     public <V> ApiImpl<T> setModel(final TargetSelector selector, final Model<V> model) {
-        modelContextBuilder.setModel(selector, model);
+        builder().setModel(selector, model);
         return this;
     }
 
@@ -127,7 +153,7 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final Generator<V> generator) {
 
-        modelContextBuilder.withGenerator(selector, generator);
+        builder().withGenerator(selector, generator);
         return this;
     }
 
@@ -136,7 +162,7 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final Supplier<V> supplier) {
 
-        modelContextBuilder.withSupplier(selector, supplier);
+        builder().withSupplier(selector, supplier);
         return this;
     }
 
@@ -145,104 +171,121 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final Class<?> subtype) {
 
-        modelContextBuilder.withSubtype(selector, subtype);
+        builder().withSubtype(selector, subtype);
         return this;
     }
 
     @Override
     public ApiImpl<T> assign(final Assignment... assignments) {
-        modelContextBuilder.withAssignments(assignments);
+        builder().withAssignments(assignments);
         return this;
     }
 
     @Override
     public ApiImpl<T> setBlank(final TargetSelector selector) {
-        modelContextBuilder.setBlank(selector);
+        builder().setBlank(selector);
         return this;
     }
 
     @Override
     public ApiImpl<T> withUnique(final TargetSelector selector) {
-        modelContextBuilder.withUnique(selector);
+        builder().withUnique(selector);
         return this;
     }
 
     @Override
     public ApiImpl<T> applyFeed(final TargetSelector selector, final Feed feed) {
-        modelContextBuilder.applyFeed(selector, feed);
+        builder().applyFeed(selector, feed);
         return this;
     }
 
     @Override
     public ApiImpl<T> applyFeed(final TargetSelector selector, final FeedProvider provider) {
-        modelContextBuilder.applyFeed(selector, provider);
+        builder().applyFeed(selector, provider);
         return this;
     }
 
     @Override
     public ApiImpl<T> withSeed(final long seed) {
+        // the seed does not affect the node tree
         modelContextBuilder.withSeed(seed);
         return this;
     }
 
     @Override
     public ApiImpl<T> withMaxDepth(final int maxDepth) {
-        modelContextBuilder.withMaxDepth(maxDepth);
+        builder().withMaxDepth(maxDepth);
         return this;
     }
 
     @Override
     public ApiImpl<T> withNullable(final TargetSelector selector) {
-        modelContextBuilder.withNullable(selector);
+        builder().withNullable(selector);
         return this;
     }
 
     @Override
     public <V> ApiImpl<T> withSetting(final SettingKey<V> key, final V value) {
-        modelContextBuilder.withSetting(key, value);
+        builder().withSetting(key, value);
         return this;
     }
 
     @Override
     public ApiImpl<T> withSettings(final Settings settings) {
-        modelContextBuilder.withSettings(settings);
+        builder().withSettings(settings);
         return this;
     }
 
     @Override
     public ApiImpl<T> lenient() {
-        modelContextBuilder.lenient();
+        builder().lenient();
         return this;
     }
 
     @Override
     public ApiImpl<T> verbose() {
-        modelContextBuilder.verbose();
+        builder().verbose();
         return this;
     }
 
     @Override
     public ApiImpl<T> withFillType(final FillType fillType) {
-        this.modelContextBuilder.withFillType(fillType);
+        builder().withFillType(fillType);
         return this;
     }
 
     @Override
     public Model<T> toModel() {
-        return createModel();
+        final InternalModel<T> model = new InternalModel<>(modelContextBuilder.build());
+        ModelReporter.report(model);
+        return model;
     }
 
     @NullUnmarked
     @Override
     public T create() {
-        return createRootObject(createModel());
+        final InternalModel<T> model = createModel();
+        final T result = createRootObject(model);
+        verifySuppliedModel(model);
+        return result;
+    }
+
+    @Override
+    public List<T> createList(final int size) {
+        ApiValidator.validateSize(size);
+        final InternalModel<T> model = createModel();
+        final List<T> results = new InstancioEngine(model).createRootObjects(size);
+        verifySuppliedModel(model);
+        return results;
     }
 
     @Override
     public Result<T> asResult() {
         final InternalModel<T> model = createModel();
         final long seed = model.getModelContext().getRandom().getSeed();
-        return new InternalResult<>(createRootObject(model), seed);
+        final T result = createRootObject(model);
+        verifySuppliedModel(model);
+        return new InternalResult<>(result, seed);
     }
 
     @Override
@@ -254,9 +297,10 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
     public Stream<T> stream() {
         final AtomicBoolean modelDumped = new AtomicBoolean();
         final AtomicLong nextSeed = new AtomicLong();
+        final StreamModelFactory<T> modelFactory = new StreamModelFactory<>(modelContextBuilder);
 
         return Stream.generate(() -> {
-            final InternalModel<T> model = new InternalModel<>(modelContextBuilder.build());
+            final InternalModel<T> model = modelFactory.createModel();
 
             // verbose() should print only once per stream()
             if (modelDumped.compareAndSet(false, true)) {
@@ -272,13 +316,43 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
         });
     }
 
+    @Override
+    public Stream<T> parallelStream() {
+        final ParallelStreamModelFactory<T> modelFactory = new ParallelStreamModelFactory<>(modelContextBuilder);
+        ModelReporter.report(modelFactory.getFirstModel());
+
+        final IndexedElementSpliterator<T> spliterator = new IndexedElementSpliterator<>(
+                index -> createRootObject(modelFactory.createModel(index)));
+
+        return StreamSupport.stream(spliterator, true);
+    }
+
     private T createRootObject(final InternalModel<T> model) {
         return new InstancioEngine(model).createRootObject();
     }
 
+    /**
+     * Creates a model for generating objects. If this API was created
+     * from a model without overriding its selectors or settings,
+     * the returned model shares the supplied model's node tree
+     * (see {@link InternalModel#canCreateWithSharedNodeTree()}).
+     */
     private InternalModel<T> createModel() {
-        final InternalModel<T> model = new InternalModel<>(modelContextBuilder.build());
+        final InternalModel<T> model;
+        if (suppliedModel != null && !contextOverridden && suppliedModel.canCreateWithSharedNodeTree()) {
+            final ModelContext context = modelContextBuilder.buildSharedModelContext(
+                    suppliedModel.getModelContext());
+            model = new InternalModel<>(context, suppliedModel.getRootNode());
+        } else {
+            model = new InternalModel<>(modelContextBuilder.build());
+        }
         ModelReporter.report(model);
         return model;
     }
+
+    private void verifySuppliedModel(final InternalModel<T> model) {
+        if (suppliedModel != null && !contextOverridden && model.getModelContext().isUnusedSelectorsReported()) {
+            suppliedModel.markSelectorsVerified();
+        }
+    }
 }
\ No newline at end of file
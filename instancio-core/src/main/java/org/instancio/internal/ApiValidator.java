@@ -218,6 +218,18 @@ public final class ApiValidator {
         return length;
     }
 
+    public static void validateFillArguments(
+            final char @Nullable [] dst,
+            final int from,
+            final int to,
+            final char @Nullable ... alphabet) {
+
+        notNull(dst, "destination array must not be null");
+        isTrue(alphabet != null && alphabet.length > 0, "alphabet must have at least one character");
+        isTrue(from >= 0 && from <= to && to <= dst.length,
+                "invalid range [%s, %s) for array of length %s", from, to, dst.length);
+    }
+
     public static <T extends Comparable<T>> void validateStartEnd(final T min, final T max) {
         isTrue(min.compareTo(max) <= 0, "start must not exceed end: %s, %s", min, max);
     }
@@ -78,6 +78,10 @@ class CallbackHandler implements GenerationListener {
         });
     }
 
+    void clear() {
+        resultsForCallbacks.clear();
+    }
+
     private List<OnCompleteCallback<?>> getCallbacks(final InternalNode node) {
         return context.getCallbacks(node);
     }
@@ -121,6 +125,7 @@ class CallbackHandler implements GenerationListener {
         NoopCallbackHandler() { super(null); }
         @Override public void objectCreated(final InternalNode node, final GeneratorResult result) { /* no-op */ }
         @Override void invokeCallbacks() { /* no-op */ }
+        @Override void clear() { /* no-op */ }
     }
     //@formatter:on
 }
@@ -31,6 +31,7 @@ import org.instancio.generator.GeneratorSpec;
 import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.reflect.ParameterizedTypeImpl;
 import org.instancio.internal.util.CartesianList;
+import org.instancio.internal.util.Fail;
 import org.instancio.settings.SettingKey;
 import org.instancio.settings.Settings;
 import org.jspecify.annotations.Nullable;
@@ -42,6 +43,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CartesianProductApiImpl<T> implements InstancioCartesianProductApi<T> {
 
@@ -226,18 +229,16 @@ public class CartesianProductApiImpl<T> implements InstancioCartesianProductApi<
 
     @Override
     public List<T> create() {
-        final List<List<Object>> cartesianInputs = new ArrayList<>();
-        for (CartesianValues rangeValue : cartesianValues) {
-            cartesianInputs.add(rangeValue.values);
-        }
-
-        final List<List<Object>> combinations = CartesianList.create(cartesianInputs);
+        final List<List<Object>> combinations = CartesianList.create(getAxes());
         final Map<TargetSelector, List<Object>> selectorRangeMap = getSelectorValues(combinations);
 
+        // Use a copy so that the API instance can be reused
+        final ModelContext.Builder builder = modelContextBuilder.copy();
+
         for (Map.Entry<TargetSelector, List<Object>> entry : selectorRangeMap.entrySet()) {
             final TargetSelector selector = entry.getKey();
             final List<Object> valuesToEmit = entry.getValue();
-            modelContextBuilder.withGeneratorSpec(selector, gen -> gen.emit()
+            builder.withGeneratorSpec(selector, gen -> gen.emit()
                     // Some items might be unused due to generation parameters specified by the user
                     .ignoreUnused()
                     // Fail because this should not happen unless something went wrong
@@ -245,14 +246,78 @@ public class CartesianProductApiImpl<T> implements InstancioCartesianProductApi<
                     .items(valuesToEmit));
         }
 
-        modelContextBuilder.withGeneratorSpec(Select.root(), gen -> gen.collection().size(combinations.size()));
+        builder.withGeneratorSpec(Select.root(), gen -> gen.collection().size(combinations.size()));
 
-        final InternalModel<T> model = new InternalModel<>(modelContextBuilder.build());
+        final InternalModel<T> model = new InternalModel<>(builder.build());
         ModelReporter.report(model);
 
         return new InstancioEngine(model).createRootObject();
     }
 
+    @Override
+    public Stream<T> stream() {
+        return stream(0, getCombinationCount());
+    }
+
+    @Override
+    public Stream<T> stream(final long startInclusive, final long endExclusive) {
+        final long size = getCombinationCount();
+        ApiValidator.isTrue(startInclusive >= 0 && startInclusive <= endExclusive && endExclusive <= size,
+                "invalid stream() range [%s, %s) for a Cartesian product of size %s",
+                startInclusive, endExclusive, size);
+
+        final CombinationCursor cursor = new CombinationCursor(getAxes(), startInclusive, endExclusive);
+        final ModelContext.Builder builder = modelContextBuilder.copy();
+
+        for (int i = 0; i < cartesianValues.size(); i++) {
+            final int axis = i;
+            final TargetSelector selector = cartesianValues.get(i).selector;
+            builder.withSupplier(selector, () -> {
+                // Similar to create(), fail if the selector matches more
+                // nodes than there are values (this should not happen
+                // unless the selector matches several nodes per object)
+                if (!cursor.hasNext(axis)) {
+                    throw Fail.withUsageError("no value is available for selector %s"
+                            + " in the stream() range [%s, %s)", selector, startInclusive, endExclusive);
+                }
+                return cursor.nextValue(axis);
+            });
+        }
+
+        // Each object is created as a singleton list using the same engine,
+        // so that selectors match the same nodes as they do with create()
+        builder.withGeneratorSpec(Select.root(), gen -> gen.collection().size(1));
+
+        final InternalModel<List<T>> model = new InternalModel<>(builder.build());
+        ModelReporter.report(model);
+
+        final CartesianProductSpliterator<T> spliterator = new CartesianProductSpliterator<>(
+                new InstancioEngine(model), startInclusive, endExclusive);
+
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private List<List<Object>> getAxes() {
+        final List<List<Object>> axes = new ArrayList<>(cartesianValues.size());
+        for (CartesianValues cv : cartesianValues) {
+            axes.add(cv.values);
+        }
+        return axes;
+    }
+
+    private long getCombinationCount() {
+        long count = 1;
+        try {
+            for (CartesianValues cv : cartesianValues) {
+                count = Math.multiplyExact(count, cv.values.size());
+            }
+        } catch (ArithmeticException ex) {
+            throw Fail.withUsageError(
+                    "Cartesian product too large; must have size at most Long.MAX_VALUE", ex);
+        }
+        return count;
+    }
+
     private Map<TargetSelector, List<Object>> getSelectorValues(final List<List<Object>> combinations) {
         final Map<TargetSelector, List<Object>> selectorValues = new LinkedHashMap<>();
 
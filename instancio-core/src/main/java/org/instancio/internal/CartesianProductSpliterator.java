@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import java.util.List;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator that creates an object per combination of
+ * a Cartesian product, on demand, using a single engine.
+ *
+ * <p>Since the engine and the combination cursor are shared by all
+ * objects, the objects are created sequentially. If the stream is
+ * parallel, elements are created in batches by the thread that
+ * splits the spliterator.
+ *
+ * @param <T> the element type
+ */
+final class CartesianProductSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final InstancioEngine engine;
+    private final long start;
+    private final long end;
+    private long index;
+
+    /**
+     * Creates a spliterator over combinations {@code [start, end)}.
+     *
+     * @param engine for creating objects; the root object must be
+     *               a list containing a single element whose values
+     *               are supplied by a cursor over {@code [start, end)}
+     * @param start  index of the first combination, inclusive
+     * @param end    index of the last combination, exclusive
+     */
+    CartesianProductSpliterator(
+            final InstancioEngine engine,
+            final long start,
+            final long end) {
+
+        super(end - start, ORDERED | SIZED);
+        this.engine = engine;
+        this.start = start;
+        this.end = end;
+        this.index = start;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (index >= end) {
+            return false;
+        }
+        // Similar to stream(), warnings such as unused selectors
+        // are reported after the first object has been created
+        final List<T> result = engine.createNextRootObject(index == start);
+        index++;
+        // null if an error occurred and fail-on-error is disabled
+        action.accept(result == null ? null : result.get(0));
+        return true;
+    }
+
+}
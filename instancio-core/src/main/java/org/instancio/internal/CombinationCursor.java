@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Supplies the values of each axis of a Cartesian product in the order
+ * of its combinations. A combination is represented as a mixed-radix
+ * number where each digit is an index into the values of an axis.
+ * The last digit varies fastest, which produces combinations in the
+ * same order as {@link org.instancio.internal.util.CartesianList}.
+ *
+ * <p>Each axis has its own position, which is advanced whenever a value
+ * of the axis is taken. Therefore, if a selector matches a single node,
+ * the {@code n}-th object receives a value of the {@code n}-th combination.
+ * If a selector matches several nodes, the nodes receive values
+ * of consecutive combinations, as they do with {@code create()}.
+ *
+ * <p>Unlike {@code CartesianList}, combinations are not limited
+ * to {@code Integer.MAX_VALUE}, and can start at any index
+ * without computing the preceding combinations.
+ */
+final class CombinationCursor {
+
+    private final List<List<Object>> axes;
+    private final long[] strides;
+    private final long[] positions;
+    private final long end;
+
+    /**
+     * Creates a cursor over combinations {@code [start, end)}.
+     *
+     * @param axes  values of each axis, must not be empty
+     * @param start index of the first combination, inclusive
+     * @param end   index of the last combination, exclusive
+     */
+    CombinationCursor(final List<List<Object>> axes, final long start, final long end) {
+        this.axes = axes;
+        this.strides = new long[axes.size()];
+        this.positions = new long[axes.size()];
+        this.end = end;
+
+        long stride = 1;
+        for (int i = strides.length - 1; i >= 0; i--) {
+            strides[i] = stride;
+            positions[i] = start;
+            stride *= axes.get(i).size();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the given axis has a value
+     * that has not been taken yet.
+     *
+     * @param axis index of the axis
+     * @return whether {@link #nextValue(int)} can be called
+     */
+    boolean hasNext(final int axis) {
+        return positions[axis] < end;
+    }
+
+    /**
+     * Returns the value of the given axis in the next combination
+     * and advances the position of the axis.
+     *
+     * @param axis index of the axis
+     * @return the next value
+     */
+    @Nullable
+    Object nextValue(final int axis) {
+        final List<Object> values = axes.get(axis);
+        final long position = positions[axis]++;
+        return values.get((int) (position / strides[axis] % values.size()));
+    }
+}
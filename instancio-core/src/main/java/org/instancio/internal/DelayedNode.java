@@ -15,28 +15,27 @@
  */
 package org.instancio.internal;
 
-import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.nodes.InternalNode;
 
 public final class DelayedNode {
     private final InternalNode node;
-    private final GeneratorResult parentResult;
+    private final Object parentObject;
 
-    DelayedNode(final InternalNode node, final GeneratorResult parentResult) {
+    DelayedNode(final InternalNode node, final Object parentObject) {
         this.node = node;
-        this.parentResult = parentResult;
+        this.parentObject = parentObject;
     }
 
     public InternalNode getNode() {
         return node;
     }
 
-    GeneratorResult getParentResult() {
-        return parentResult;
+    Object getParentObject() {
+        return parentObject;
     }
 
     @Override
     public String toString() {
-        return String.format("DelayedNode[%s, %s]", node, parentResult);
+        return String.format("DelayedNode[%s, %s]", node, parentObject);
     }
 }
@@ -56,6 +56,11 @@ public final class DelayedNodeQueue implements Iterable<DelayedNode> {
         return delayedNodes.isEmpty();
     }
 
+    void clear() {
+        delayedNodes.clear();
+        delayedRecordNodes.clear();
+    }
+
     boolean hasRecordNodes() {
         return !delayedRecordNodes.isEmpty();
     }
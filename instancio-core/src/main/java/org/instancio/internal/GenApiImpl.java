@@ -75,7 +75,9 @@ public final class GenApiImpl implements InstancioGenApi {
     }
 
     private BuiltInGenerators generators() {
-        final Random random = RandomHelper.resolveRandom(settings.get(Keys.SEED), null);
+        final Random random = RandomHelper.resolveRandom(
+                settings.get(Keys.SEED), null, settings.get(Keys.RANDOM_ALGORITHM),
+                settings.get(Keys.CHARACTER_ALGORITHM));
         return new BuiltInGenerators(new GeneratorContext(settings, random));
     }
 
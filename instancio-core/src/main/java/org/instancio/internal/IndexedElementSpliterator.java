@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * A spliterator over a range of element indices, where each element
+ * is created by applying a function to its index.
+ *
+ * <p>Since an element depends only on its index, the spliterator can be
+ * split in any way (similar to {@code LongStream.range()}) without
+ * affecting the elements. This allows the stream to be processed
+ * in parallel while producing the same element at a given index.
+ *
+ * @param <T> the element type
+ */
+final class IndexedElementSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+
+    private final LongFunction<T> elementFunction;
+    private long index;
+    private final long fence;
+
+    /**
+     * Creates a spliterator over indices {@code [0, Long.MAX_VALUE)},
+     * which is effectively an infinite stream of elements.
+     *
+     * @param elementFunction creates an element given its index
+     */
+    IndexedElementSpliterator(final LongFunction<T> elementFunction) {
+        this(elementFunction, 0, Long.MAX_VALUE);
+    }
+
+    private IndexedElementSpliterator(final LongFunction<T> elementFunction, final long origin, final long fence) {
+        this.elementFunction = elementFunction;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (index < fence) {
+            action.accept(elementFunction.apply(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public @Nullable Spliterator<T> trySplit() {
+        final long lo = index;
+        final long mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new IndexedElementSpliterator<>(elementFunction, lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
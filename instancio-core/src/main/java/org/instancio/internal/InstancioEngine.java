@@ -15,8 +15,10 @@
  */
 package org.instancio.internal;
 
+import org.instancio.Random;
 import org.instancio.exception.InstancioException;
 import org.instancio.generator.AfterGenerate;
+import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 import org.instancio.generator.hints.ArrayHint;
 import org.instancio.generator.hints.CollectionHint;
@@ -41,6 +43,7 @@ import org.instancio.internal.util.CollectionUtils;
 import org.instancio.internal.util.ErrorMessageUtils;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.ObjectUtils;
+import org.instancio.internal.util.PrimitiveArrayUtils;
 import org.instancio.internal.util.RecordUtils;
 import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.settings.Keys;
@@ -53,7 +56,9 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Array;
 import java.lang.reflect.Modifier;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -68,7 +73,9 @@ import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
  * Entry point for generating an object.
  *
  * <p>A new instance of this class should be created for each
- * object generated via {@link #createRootObject()}.
+ * object generated via {@link #createRootObject()}, or for each
+ * batch of objects generated via {@link #createRootObjects(int)}
+ * or {@link #createNextRootObject(boolean)}.
  */
 @SuppressWarnings({
         "PMD.CouplingBetweenObjects",
@@ -92,6 +99,7 @@ class InstancioEngine {
     private final AssigmentObjectStore assigmentObjectStore;
     private final DelayedNodeQueue delayedNodeQueue = new DelayedNodeQueue();
     private final int maxGenerationAttempts;
+    private boolean rootObjectCreated;
 
     InstancioEngine(InternalModel<?> model) {
         context = model.getModelContext();
@@ -120,12 +128,66 @@ class InstancioEngine {
                 .orElse(null);
     }
 
+    /**
+     * Creates the given number of root objects using this engine.
+     * Per-object state, such as delayed nodes, assignment scopes and
+     * pending callbacks, is reset before creating each object, while
+     * the context (including the random instance, generators and filters)
+     * is shared by all objects. Warnings, such as unused selectors,
+     * are reported once after the last object has been created.
+     */
+    <T> List<@Nullable T> createRootObjects(final int size) {
+        final List<@Nullable T> results = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            results.add(createNextRootObject(i == size - 1));
+        }
+        return results;
+    }
+
+    /**
+     * Creates the next root object using this engine. This method can be
+     * used for creating objects on demand, for example when consuming
+     * a stream. The state shared by the objects is the same as described
+     * in {@link #createRootObjects(int)}.
+     *
+     * @param reportWarnings whether warnings, such as unused selectors,
+     *                       should be reported after creating the object
+     * @return the created object
+     */
+    @Nullable
+    @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
+    <T> T createNextRootObject(final boolean reportWarnings) {
+        if (rootObjectCreated) {
+            resetRootObjectState();
+        }
+        rootObjectCreated = true;
+        return (T) errorHandler
+                .conditionalFailOnError(() -> createRootObjectInternal(reportWarnings))
+                .orElse(null);
+    }
+
+    private void resetRootObjectState() {
+        delayedNodeQueue.clear();
+        callbackHandler.clear();
+        assigmentObjectStore.reset();
+        generatorFacade.reset();
+    }
+
     @Nullable
     private Object createRootObjectInternal() {
+        return createRootObjectInternal(true);
+    }
+
+    @Nullable
+    private Object createRootObjectInternal(final boolean reportWarnings) {
         final GeneratorResult generatorResult = createObject(rootNode);
         callbackHandler.invokeCallbacks();
         processDelayedNodes(true);
-        context.reportWarnings();
+
+        if (reportWarnings) {
+            context.reportWarnings();
+        }
 
         if (generatorResult.isEmpty()) {
             final Class<?> rootClass = rootNode.getTargetClass();
@@ -149,8 +211,7 @@ class InstancioEngine {
                 i--;
                 delayedNodeQueue.addLast(entry);
             } else {
-                final Object parentResultValue = requireNonNull(entry.getParentResult().getValue());
-                assignValue(parentResultValue, entry.getNode(), result);
+                assignValue(entry.getParentObject(), entry.getNode(), result);
             }
         }
 
@@ -227,11 +288,63 @@ class InstancioEngine {
         return createObject(node, false);
     }
 
+    /**
+     * Returns the built-in generator of the given node if the node is
+     * a leaf whose values can only be produced by this generator
+     * (see {@link GeneratorFacade#getExclusiveBuiltInGenerator(InternalNode)}).
+     * Values of such nodes are created using
+     * {@link #createLeafValue(InternalNode, boolean, Generator)}.
+     */
+    @Nullable
+    private Generator<?> getLeafGenerator(final InternalNode node) {
+        return node.is(NodeKind.JDK) ? generatorFacade.getExclusiveBuiltInGenerator(node) : null;
+    }
+
+    /**
+     * Creates a value for a leaf node without creating a {@link GeneratorResult},
+     * which avoids an allocation for each field and collection element.
+     * Random values are consumed in the same order as by
+     * {@link #createObject(InternalNode, boolean)}, therefore
+     * a given seed produces the same value either way.
+     */
+    @Nullable
+    private Object createLeafValue(final InternalNode node, final boolean isNullable, final Generator<?> generator) {
+        if (context.getRandom().diceRoll(isNullable)) {
+            return null;
+        }
+        return generatorFacade.generateExclusiveValue(node, generator);
+    }
+
+    /**
+     * Creates a collection or array element, or a map key or value,
+     * and stores it in the given holder. If a leaf generator is given
+     * (see {@link #getLeafGenerator(InternalNode)}), the value is created
+     * using {@link #createLeafValue(InternalNode, boolean, Generator)}.
+     *
+     * @return {@code false} if the value was delayed
+     */
+    private boolean createElement(
+            final InternalNode node,
+            final boolean isNullable,
+            @Nullable final Generator<?> leafGenerator,
+            final ElementValue element) {
+
+        if (leafGenerator != null) {
+            element.value = createLeafValue(node, isNullable, leafGenerator);
+            element.emitNull = false;
+            return true;
+        }
+        final GeneratorResult result = createObject(node, isNullable);
+        element.value = result.getValue();
+        element.emitNull = result.hasEmitNullHint();
+        return !result.isDelayed();
+    }
+
     private GeneratorResult generatePojo(final InternalNode node) {
         final GeneratorResult nodeResult = generateValue(node);
 
         if (!nodeResult.isDelayed()) {
-            populateChildren(node.getChildren(), nodeResult);
+            populateChildren(node.getChildren(), nodeResult.getValue(), nodeResult.getHints());
         }
         return nodeResult;
     }
@@ -241,8 +354,7 @@ class InstancioEngine {
         if (elementNode.is(NodeKind.POJO)) {
             final Object[] array = (Object[]) requireNonNull(result.getValue());
             for (Object element : array) {
-                final GeneratorResult elementResult = GeneratorResult.create(element, result.getHints());
-                populateChildren(elementNode.getChildren(), elementResult);
+                populateChildren(elementNode.getChildren(), element, result.getHints());
             }
         }
     }
@@ -252,8 +364,7 @@ class InstancioEngine {
         if (elementNode.is(NodeKind.POJO)) {
             final Iterable<?> iterable = (Iterable<?>) requireNonNull(result.getValue());
             for (Object element : iterable) {
-                final GeneratorResult elementResult = GeneratorResult.create(element, result.getHints());
-                populateChildren(elementNode.getChildren(), elementResult);
+                populateChildren(elementNode.getChildren(), element, result.getHints());
             }
         }
     }
@@ -268,12 +379,10 @@ class InstancioEngine {
             final Object v = entry.getValue();
 
             if (keyNode.is(NodeKind.POJO)) {
-                final GeneratorResult keyResult = GeneratorResult.create(k, result.getHints());
-                populateChildren(keyNode.getChildren(), keyResult);
+                populateChildren(keyNode.getChildren(), k, result.getHints());
             }
             if (valueNode.is(NodeKind.POJO)) {
-                final GeneratorResult valueResult = GeneratorResult.create(v, result.getHints());
-                populateChildren(valueNode.getChildren(), valueResult);
+                populateChildren(valueNode.getChildren(), v, result.getHints());
             }
         }
     }
@@ -299,8 +408,8 @@ class InstancioEngine {
             final List<InternalNode> keyNodeChildren = keyNode.getChildren();
             final List<InternalNode> valueNodeChildren = valueNode.getChildren();
 
-            populateChildren(keyNodeChildren, GeneratorResult.create(entry.getKey(), hints));
-            populateChildren(valueNodeChildren, GeneratorResult.create(entry.getValue(), hints));
+            populateChildren(keyNodeChildren, entry.getKey(), hints);
+            populateChildren(valueNodeChildren, entry.getValue(), hints);
         }
 
         if (keyNode.isIgnored() || valueNode.isIgnored()) {
@@ -315,26 +424,29 @@ class InstancioEngine {
         int entriesToGenerate = hint.generateEntries();
         int failedAdditions = 0;
 
-        while (entriesToGenerate > 0) {
+        final Generator<?> keyGenerator = getLeafGenerator(keyNode);
+        final Generator<?> valueGenerator = getLeafGenerator(valueNode);
+        final ElementValue key = new ElementValue();
+        final ElementValue value = new ElementValue();
 
+        while (entriesToGenerate > 0) {
             assigmentObjectStore.enterScope();
-            final GeneratorResult mapKeyResult = createObject(keyNode, nullableKey);
-            final GeneratorResult mapValueResult = createObject(valueNode, nullableValue);
+            final boolean keyCreated = createElement(keyNode, nullableKey, keyGenerator, key);
+            final boolean valueCreated = createElement(valueNode, nullableValue, valueGenerator, value);
             assigmentObjectStore.exitScope();
 
-            if (mapKeyResult.isDelayed() || mapValueResult.isDelayed()) {
+            if (!keyCreated || !valueCreated) {
                 return GeneratorResult.delayed();
             }
 
-            final Object mapValue = mapValueResult.getValue();
-
             final Object mapKey = withKeysIterator.hasNext()
                     ? withKeysIterator.next()
-                    : mapKeyResult.getValue();
+                    : key.value;
+            final Object mapValue = value.value;
 
             // Note: map key does not support emit() null
             if ((mapKey != null || nullableKey)
-                && (mapValue != null || nullableValue || mapValueResult.hasEmitNullHint())) {
+                && (mapValue != null || nullableValue || value.emitNull)) {
                 if (!map.containsKey(mapKey)) {
                     ApiValidator.validateValueIsAssignableToElementNode(
                             "error adding key to map", mapKey, node, keyNode);
@@ -397,7 +509,7 @@ class InstancioEngine {
             // Populate objects created by user within the generator
             if (elementValue != null) {
                 final List<InternalNode> elementNodeChildren = node.getOnlyChild().getChildren();
-                populateChildren(elementNodeChildren, GeneratorResult.create(elementValue, hints));
+                populateChildren(elementNodeChildren, elementValue, hints);
             }
 
             // Current element may have been set by a custom generator.
@@ -414,9 +526,19 @@ class InstancioEngine {
         final AfterGenerate action = requireNonNull(hints.afterGenerate());
         final boolean isPrimitiveArray = elementNode.getRawType().isPrimitive();
 
+        if (isPrimitiveArray) {
+            final Generator<?> elementGenerator = generatorFacade.getExclusiveBuiltInGenerator(elementNode);
+            if (elementGenerator != null) {
+                populatePrimitiveArray(arrayObj, lastIndex, elementGenerator, action, hint.nullableElements());
+                lastIndex = arrayLength;
+            }
+        }
+
         // If array elements fail to generate for any reason and null is returned,
         // terminate the loop once we reach the threshold to avoid an infinite loop.
         int failedAdditions = 0;
+        final Generator<?> leafGenerator = getLeafGenerator(elementNode);
+        final ElementValue element = new ElementValue();
 
         for (int i = lastIndex; i < arrayLength; i++) {
 
@@ -426,7 +548,7 @@ class InstancioEngine {
             // Populate objects created by user within the generator
             if (currentValue != null) {
                 final List<InternalNode> elementNodeChildren = node.getOnlyChild().getChildren();
-                populateChildren(elementNodeChildren, GeneratorResult.create(currentValue, hints));
+                populateChildren(elementNodeChildren, currentValue, hints);
             }
 
             if (nodeFilter.filter(elementNode, action, currentValue) == NodeFilterResult.SKIP) {
@@ -434,24 +556,25 @@ class InstancioEngine {
             }
 
             assigmentObjectStore.enterScope();
-            final GeneratorResult elementResult = createObject(elementNode, hint.nullableElements());
+            final boolean created = createElement(elementNode, hint.nullableElements(), leafGenerator, element);
             assigmentObjectStore.exitScope();
 
-            if (elementResult.isDelayed()) {
+            if (!created) {
                 return GeneratorResult.delayed();
             }
-
-            Object elementValue = elementResult.getValue();
+            Object elementValue = element.value;
+            final boolean emitNull = element.emitNull;
 
             // If elements are not nullable, keep generating until a non-null
             while (elementValue == null
                    && !hint.nullableElements()
-                   && !elementResult.hasEmitNullHint()
+                   && !emitNull
                    && !context.isIgnored(elementNode)
                    && failedAdditions < maxGenerationAttempts) {
 
                 failedAdditions++;
-                elementValue = createObject(elementNode, false).getValue();
+                createElement(elementNode, false, leafGenerator, element);
+                elementValue = element.value;
             }
 
             // can't assign null values to primitive arrays
@@ -469,6 +592,46 @@ class InstancioEngine {
         return generatorResult;
     }
 
+    /**
+     * Populates a primitive array using the element's built-in generator
+     * directly instead of processing the element node for each index.
+     * This is only valid if there are no selectors or other handlers
+     * that could apply to the elements. Random values are consumed
+     * in the same order as by the regular path, therefore a given seed
+     * produces the same array either way.
+     */
+    private void populatePrimitiveArray(
+            final Object array,
+            final int fromIndex,
+            final Generator<?> elementGenerator,
+            final AfterGenerate action,
+            final boolean nullableElements) {
+
+        // other actions do not modify elements of primitive arrays
+        if (action != AfterGenerate.POPULATE_ALL
+            && action != AfterGenerate.POPULATE_NULLS_AND_DEFAULT_PRIMITIVES) {
+            return;
+        }
+
+        final boolean defaultsOnly = action == AfterGenerate.POPULATE_NULLS_AND_DEFAULT_PRIMITIVES;
+        final Random random = context.getRandom();
+        final int length = Array.getLength(array);
+
+        for (int i = fromIndex; i < length; i++) {
+            if (defaultsOnly && !PrimitiveArrayUtils.isDefaultPrimitive(array, i)) {
+                continue;
+            }
+            // a null element cannot be assigned, leaving the default value
+            if (random.diceRoll(nullableElements)) {
+                continue;
+            }
+            final Object value = elementGenerator.generate(random);
+            if (value != null) {
+                PrimitiveArrayUtils.setPrimitive(array, i, value);
+            }
+        }
+    }
+
     @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.NPathComplexity"})
     private GeneratorResult generateCollection(final InternalNode node) {
         final GeneratorResult generatorResult = generateValue(node);
@@ -487,7 +650,7 @@ class InstancioEngine {
         // Populated objects that were created/added in the generator itself
         for (Object element : collection) {
             final List<InternalNode> elementNodeChildren = elementNode.getChildren();
-            populateChildren(elementNodeChildren, GeneratorResult.create(element, hints));
+            populateChildren(elementNodeChildren, element, hints);
         }
 
         if (elementNode.isIgnored()) {
@@ -501,20 +664,24 @@ class InstancioEngine {
         int elementsToGenerate = hint.generateElements();
         int failedAdditions = 0;
 
-        final Set<Object> generated = new HashSet<>(elementsToGenerate);
+        final Set<Object> generated = requireUnique
+                ? new HashSet<>(elementsToGenerate)
+                : Collections.emptySet();
+
+        final Generator<?> leafGenerator = getLeafGenerator(elementNode);
+        final ElementValue element = new ElementValue();
 
         while (elementsToGenerate > 0) {
             assigmentObjectStore.enterScope();
-            final GeneratorResult elementResult = createObject(elementNode, nullableElements);
+            final boolean created = createElement(elementNode, nullableElements, leafGenerator, element);
             assigmentObjectStore.exitScope();
 
-            if (elementResult.isDelayed()) {
+            if (!created) {
                 return GeneratorResult.delayed();
             }
+            final Object elementValue = element.value;
 
-            final Object elementValue = elementResult.getValue();
-
-            if (elementValue != null || nullableElements || elementResult.hasEmitNullHint()) {
+            if (elementValue != null || nullableElements || element.emitNull) {
 
                 boolean canAdd = !requireUnique || !generated.contains(elementValue);
 
@@ -566,7 +733,7 @@ class InstancioEngine {
         final GeneratorResult customRecord = generateValue(node);
 
         if (!customRecord.isEmpty()) {
-            populateChildren(node.getChildren(), customRecord);
+            populateChildren(node.getChildren(), customRecord.getValue(), customRecord.getHints());
             return customRecord;
         }
 
@@ -643,27 +810,37 @@ class InstancioEngine {
         return GeneratorResult.emptyResult();
     }
 
+    /**
+     * Populates the children of the given object. The object and its hints
+     * are passed separately (rather than as a {@link GeneratorResult})
+     * to avoid creating a result for each element of a collection.
+     */
     @SuppressWarnings("PMD.CognitiveComplexity")
     private void populateChildren(
             final List<InternalNode> children,
-            final GeneratorResult generatorResult) {
+            @Nullable final Object parentObject,
+            final Hints hints) {
 
-        if (generatorResult.getValue() == null) {
+        if (parentObject == null) {
             return;
         }
 
-        final Object parentObject = generatorResult.getValue();
-        final Hints hints = generatorResult.getHints();
         final AfterGenerate action = requireNonNull(hints.afterGenerate());
 
         for (final InternalNode child : children) {
             final NodeFilterResult filterResult = nodeFilter.filter(child, action, parentObject);
 
             if (filterResult == NodeFilterResult.GENERATE) {
+                final Generator<?> leafGenerator = getLeafGenerator(child);
+                if (leafGenerator != null) {
+                    assigner.assign(child, parentObject, createLeafValue(child, false, leafGenerator));
+                    continue;
+                }
+
                 final GeneratorResult result = createObject(child);
 
                 if (result.isDelayed()) {
-                    delayedNodeQueue.addLast(new DelayedNode(child, generatorResult));
+                    delayedNodeQueue.addLast(new DelayedNode(child, parentObject));
                 } else {
                     assignValue(parentObject, child, result);
                 }
@@ -686,7 +863,7 @@ class InstancioEngine {
             if (filterResult == NodeFilterResult.POPULATE) {
 
                 if (child.is(NodeKind.POJO)) {
-                    populateChildren(child.getChildren(), childResult);
+                    populateChildren(child.getChildren(), childObject, hints);
                 } else if (child.is(NodeKind.COLLECTION)) {
                     populateCollection(child, childResult);
                 } else if (child.is(NodeKind.MAP)) {
@@ -781,4 +958,13 @@ class InstancioEngine {
             }
         }
     }
+
+    /**
+     * Holds a value created by {@link #createElement(InternalNode, boolean, Generator, ElementValue)}.
+     * An instance is reused for all elements of a container.
+     */
+    private static final class ElementValue {
+        private @Nullable Object value;
+        private boolean emitNull;
+    }
 }
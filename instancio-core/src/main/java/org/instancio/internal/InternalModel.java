@@ -15,21 +15,50 @@
  */
 package org.instancio.internal;
 
+import org.instancio.CacheStats;
 import org.instancio.Model;
 import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.nodes.NodeFactory;
+import org.instancio.internal.util.SealedClassUtils;
+import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class InternalModel<T> implements Model<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(InternalModel.class);
+
+    private static final NodeTreeCache NODE_TREE_CACHE = new NodeTreeCache();
 
     private final ModelContext modelContext;
     private final InternalNode rootNode;
+    private @Nullable Boolean nodeTreeReusable;
+    private final AtomicBoolean selectorsVerified = new AtomicBoolean();
 
     InternalModel(ModelContext modelContext) {
         this.modelContext = modelContext;
         this.rootNode = createRootNode();
     }
 
+    /**
+     * Creates a model that shares an existing node tree.
+     *
+     * @param modelContext context of the model
+     * @param rootNode     root of a node tree created from an
+     *                     equivalent context, see {@link #isNodeTreeReusable()}
+     */
+    InternalModel(ModelContext modelContext, InternalNode rootNode) {
+        this.modelContext = modelContext;
+        this.rootNode = rootNode;
+    }
+
+    public static CacheStats getNodeTreeCacheStats() {
+        return NODE_TREE_CACHE.getStats();
+    }
+
     public ModelContext getModelContext() {
         return modelContext;
     }
@@ -38,7 +67,87 @@ public final class InternalModel<T> implements Model<T> {
         return rootNode;
     }
 
+    /**
+     * Returns {@code true} if this model's node tree can be shared with
+     * other models created from the same selectors and settings.
+     *
+     * <p>The node tree cannot be shared if creating it depends on random
+     * values (for example, picking an implementation of a sealed interface,
+     * or a subtype via a custom {@code TypeResolver}), or if it mutated the
+     * context (feed specs are registered as generators while creating nodes).
+     */
+    boolean isNodeTreeReusable() {
+        return modelContext.getFeedSelectorMap().isEmpty()
+                && modelContext.getServiceProviders().getTypeResolvers().isEmpty()
+                && !containsSealedAbstractType(rootNode);
+    }
+
+    /**
+     * Returns {@code true} if objects can be created from this model
+     * using its node tree instead of building a new one. This requires
+     * the node tree to be reusable, the thread-local settings to be
+     * the same as when this model was created, and the model's selectors
+     * to have been verified by a previous {@code create()} call
+     * (see {@link #markSelectorsVerified()}).
+     */
+    boolean canCreateWithSharedNodeTree() {
+        if (!selectorsVerified.get() || !modelContext.isResolvedSettingsCurrent()) {
+            return false;
+        }
+        // benign race: the result is the same regardless of the thread computing it
+        Boolean reusable = nodeTreeReusable;
+        if (reusable == null) {
+            reusable = isNodeTreeReusable();
+            nodeTreeReusable = reusable;
+        }
+        return reusable;
+    }
+
+    /**
+     * Marks this model's selectors as verified after an object was
+     * created from this model (without overrides) and no unused
+     * selectors were reported.
+     */
+    void markSelectorsVerified() {
+        selectorsVerified.set(true);
+    }
+
+    private static boolean containsSealedAbstractType(final InternalNode node) {
+        if (SealedClassUtils.isSealedAbstractType(node.getRawType())) {
+            return true;
+        }
+        for (InternalNode child : node.getChildren()) {
+            if (containsSealedAbstractType(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private InternalNode createRootNode() {
+        final NodeTreeCache.Key key = NodeTreeCache.keyFor(modelContext);
+        if (key == null) {
+            return createNodeTree();
+        }
+
+        final InternalNode cached = NODE_TREE_CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final long start = System.nanoTime();
+        final InternalNode root = createNodeTree();
+        final long loadTimeNanos = System.nanoTime() - start;
+
+        // sealed types are resolved to a random implementation
+        if (!containsSealedAbstractType(root)) {
+            NODE_TREE_CACHE.put(key, root, loadTimeNanos, modelContext.getSettings().get(Keys.NODE_TREE_CACHE_MAX_SIZE));
+            LOG.debug("Created node tree for {}; {}", key.rootClass().getName(), NODE_TREE_CACHE);
+        }
+        return root;
+    }
+
+    private InternalNode createNodeTree() {
         final NodeFactory nodeFactory = new NodeFactory(modelContext);
         return nodeFactory.createRootNode(modelContext.getRootType().getType());
     }
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.CacheStats;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.settings.AssignmentType;
+import org.instancio.settings.Keys;
+import org.instancio.settings.OnSetMethodUnmatched;
+import org.instancio.settings.SetterStyle;
+import org.instancio.settings.Settings;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A cache of node trees with least-recently-used eviction.
+ *
+ * <p>A node tree can be cached if its root type is a class (without type
+ * parameters) and it was created without selectors that affect the structure
+ * of the tree (see {@link #keyFor(ModelContext)}). Trees are keyed by the root
+ * class and the settings used by the {@code NodeFactory}.
+ *
+ * <p>Cached trees are stored in a {@link ClassValue} of the root class,
+ * so that they do not prevent the class (and its class loader) from
+ * being unloaded. The recency list only holds weak references to
+ * root classes.
+ */
+final class NodeTreeCache {
+
+    private final ClassValue<Map<TreeShape, Entry>> trees = new ClassValue<>() {
+        @Override
+        protected Map<TreeShape, Entry> computeValue(final Class<?> type) {
+            return new HashMap<>(4);
+        }
+    };
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Handles of cached trees, from least to most recently used.
+     */
+    private final Set<Handle> recency = new LinkedHashSet<>();
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long loadCount;
+    private long totalLoadTimeNanos;
+
+    /**
+     * Returns a cache key for the node tree of the given context,
+     * or {@code null} if the tree cannot be cached. The tree cannot
+     * be cached if caching is disabled, the root type is not a class,
+     * the context has selectors that affect the structure of the tree,
+     * or custom {@code TypeResolver}s are registered.
+     *
+     * @param context the context the tree will be created from
+     * @return the key, or {@code null} if the tree cannot be cached
+     */
+    @Nullable
+    static Key keyFor(final ModelContext context) {
+        final Settings settings = context.getSettings();
+
+        if (settings.get(Keys.NODE_TREE_CACHE_MAX_SIZE) <= 0
+                || !(context.getRootType().getType() instanceof Class<?> rootClass)
+                || !context.getRootType().getTypeParameters().isEmpty()
+                || context.getSelectorMaps().hasNodeTreeSelectors()
+                || !context.getServiceProviders().getTypeResolvers().isEmpty()) {
+            return null;
+        }
+
+        final TreeShape shape = new TreeShape(
+                context.getMaxDepth(),
+                settings.get(Keys.FAIL_ON_MAX_DEPTH_REACHED),
+                settings.get(Keys.ASSIGNMENT_TYPE),
+                settings.get(Keys.SETTER_STYLE),
+                settings.get(Keys.ON_SET_METHOD_UNMATCHED),
+                settings.get(Keys.SETTER_EXCLUDE_MODIFIER),
+                settings.get(Keys.IGNORE_FIELD_NAME_REGEXES),
+                Map.copyOf(settings.getSubtypeMap()));
+
+        return new Key(rootClass, shape);
+    }
+
+    @Nullable
+    InternalNode get(final Key key) {
+        lock.lock();
+        try {
+            final Entry entry = trees.get(key.rootClass()).get(key.shape());
+            if (entry == null) {
+                missCount++;
+                return null;
+            }
+            // move the entry to the end of the recency list
+            recency.remove(entry.handle);
+            recency.add(entry.handle);
+            hitCount++;
+            return entry.rootNode;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a tree to the cache, evicting least recently used
+     * trees if the cache has more than {@code maxSize} entries.
+     *
+     * @param key           the key of the tree
+     * @param rootNode      the root of the tree
+     * @param loadTimeNanos the time it took to create the tree
+     * @param maxSize       maximum number of cached trees
+     */
+    void put(final Key key, final InternalNode rootNode, final long loadTimeNanos, final int maxSize) {
+        lock.lock();
+        try {
+            loadCount++;
+            totalLoadTimeNanos += loadTimeNanos;
+
+            final Handle handle = new Handle(key);
+            final Entry previous = trees.get(key.rootClass()).put(key.shape(), new Entry(rootNode, handle));
+            if (previous != null) {
+                recency.remove(previous.handle);
+            }
+            recency.add(handle);
+
+            final Iterator<Handle> iter = recency.iterator();
+            while (recency.size() > maxSize && iter.hasNext()) {
+                final Handle eldest = iter.next();
+                iter.remove();
+                evictionCount++;
+
+                final Class<?> rootClass = eldest.rootClass.get();
+                if (rootClass != null) {
+                    trees.get(rootClass).remove(eldest.shape);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return recency.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    CacheStats getStats() {
+        lock.lock();
+        try {
+            return new CacheStats(recency.size(), hitCount, missCount, evictionCount, loadCount, totalLoadTimeNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return String.format("NodeTreeCache[size=%s, hits=%s, misses=%s, evictions=%s, loads=%s, loadTimeMs=%s]",
+                    recency.size(), hitCount, missCount, evictionCount, loadCount,
+                    TimeUnit.NANOSECONDS.toMillis(totalLoadTimeNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    record Key(Class<?> rootClass, TreeShape shape) {}
+
+    /**
+     * Settings that affect the structure of a node tree.
+     */
+    record TreeShape(
+            int maxDepth,
+            boolean failOnMaxDepthReached,
+            AssignmentType assignmentType,
+            SetterStyle setterStyle,
+            OnSetMethodUnmatched onSetMethodUnmatched,
+            int setterExcludeModifiers,
+            @Nullable String ignoreFieldNameRegexes,
+            Map<Class<?>, Class<?>> subtypes) {}
+
+    private record Entry(InternalNode rootNode, Handle handle) {}
+
+    /**
+     * Identifies a cached tree in the recency list without
+     * holding a strong reference to the root class.
+     */
+    private static final class Handle {
+        private final WeakReference<Class<?>> rootClass;
+        private final TreeShape shape;
+
+        Handle(final Key key) {
+            this.rootClass = new WeakReference<>(key.rootClass());
+            this.shape = key.shape();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.internal.context.ModelContext;
+
+/**
+ * Creates models for elements of a parallel stream.
+ *
+ * <p>The first model is created eagerly, on the calling thread, since
+ * resolving settings and the seed may depend on thread-local state
+ * (e.g. when running under the JUnit extension). The first model is used
+ * for creating the element at index zero. Models of subsequent elements
+ * reuse its settings and, where possible, its node tree
+ * (see {@link InternalModel#isNodeTreeReusable()}).
+ *
+ * <p>Each subsequent element is created using a seed derived from the base
+ * seed and the element's index using the SplitMix64 algorithm. Therefore,
+ * the element at a given index does not depend on the order in which
+ * elements are created, nor on how the stream is split across threads.
+ *
+ * <p>Since the values of an element must not depend on other elements,
+ * {@code withUnique()} is not supported, as it requires state shared by
+ * all elements.
+ *
+ * <p>This class can be used concurrently.
+ *
+ * @param <T> the type of object to create
+ * @see StreamModelFactory
+ */
+final class ParallelStreamModelFactory<T> {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final ModelContext.Builder modelContextBuilder;
+    private final InternalModel<T> firstModel;
+    private final boolean reuseNodeTree;
+    private final long baseSeed;
+
+    ParallelStreamModelFactory(final ModelContext.Builder modelContextBuilder) {
+        final ModelContext firstContext = modelContextBuilder.build();
+        ApiValidator.isFalse(firstContext.isWithUnique(),
+                "withUnique() is not supported by parallelStream()%n"
+                        + "Values generated for an element cannot depend on elements created by other threads.%n"
+                        + "Use stream() instead.");
+
+        this.modelContextBuilder = modelContextBuilder;
+        this.firstModel = new InternalModel<>(firstContext);
+        this.reuseNodeTree = firstModel.isNodeTreeReusable();
+        this.baseSeed = firstModel.getModelContext().getRandom().longRange(1, Long.MAX_VALUE);
+    }
+
+    InternalModel<T> getFirstModel() {
+        return firstModel;
+    }
+
+    InternalModel<T> createModel(final long index) {
+        if (index == 0) {
+            return firstModel;
+        }
+
+        final ModelContext context = modelContextBuilder.buildStreamElementContext(
+                firstModel.getModelContext(), elementSeed(baseSeed, index));
+
+        return reuseNodeTree
+                ? new InternalModel<>(context, firstModel.getRootNode())
+                : new InternalModel<>(context);
+    }
+
+    /**
+     * Returns the seed of the element at the given index, which is the
+     * {@code index}-th value produced by a SplitMix64 generator seeded
+     * with the base seed (the same algorithm used by
+     * {@link java.util.SplittableRandom}).
+     */
+    static long elementSeed(final long baseSeed, final long index) {
+        long z = baseSeed + index * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
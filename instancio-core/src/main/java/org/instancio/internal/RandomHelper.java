@@ -17,6 +17,8 @@ package org.instancio.internal;
 
 import org.instancio.Random;
 import org.instancio.documentation.InternalApi;
+import org.instancio.settings.CharacterAlgorithm;
+import org.instancio.settings.RandomAlgorithm;
 import org.instancio.support.DefaultRandom;
 import org.instancio.support.Global;
 import org.instancio.support.Seeds;
@@ -38,16 +40,25 @@ public final class RandomHelper {
      *   <li>random seed</li>
      * </ol>
      *
-     * @param settingsSeed seed from {@code Settings}
-     * @param withSeed     seed from {@code withSeed()}
+     * <p>If a shared instance (from the JUnit extension or
+     * {@code instancio.properties}) uses algorithms other than
+     * the specified ones, a new instance of the specified algorithms
+     * is created, seeded from the shared instance.
+     *
+     * @param settingsSeed       seed from {@code Settings}
+     * @param withSeed           seed from {@code withSeed()}
+     * @param algorithm          random algorithm from {@code Settings}
+     * @param characterAlgorithm character algorithm from {@code Settings}
      * @return random instance resolved using the above precedence rules
      */
     public static Random resolveRandom(
             @Nullable final Long settingsSeed,
-            @Nullable final Long withSeed) {
+            @Nullable final Long withSeed,
+            final RandomAlgorithm algorithm,
+            final CharacterAlgorithm characterAlgorithm) {
 
         if (withSeed != null) {
-            return new DefaultRandom(withSeed, Seeds.Source.MANUAL);
+            return new DefaultRandom(withSeed, Seeds.Source.MANUAL, algorithm, characterAlgorithm);
         }
 
         // Based on instancio.properties seed, if defined
@@ -55,21 +66,37 @@ public final class RandomHelper {
 
         // This ensures we can override seed from the properties file using a custom Settings instance.
         if (settingsSeed != null && (configuredRandom == null || configuredRandom.getSeed() != settingsSeed)) {
-            return new DefaultRandom(settingsSeed, Seeds.Source.WITH_SETTINGS_BUILDER);
+            return new DefaultRandom(settingsSeed, Seeds.Source.WITH_SETTINGS_BUILDER, algorithm, characterAlgorithm);
         }
 
         // If running under JUnit extension, use the Random instance supplied by the extension
         final Random tlRandom = ThreadLocalRandom.getInstance().get();
         if (tlRandom != null) {
-            return tlRandom;
+            return withAlgorithm(tlRandom, algorithm, characterAlgorithm);
         }
 
         if (configuredRandom != null) {
-            return configuredRandom;
+            return withAlgorithm(configuredRandom, algorithm, characterAlgorithm);
         }
 
         // Random seed
-        return new DefaultRandom();
+        return new DefaultRandom(Seeds.randomSeed(), Seeds.Source.RANDOM, algorithm, characterAlgorithm);
+    }
+
+    private static Random withAlgorithm(
+            final Random random,
+            final RandomAlgorithm algorithm,
+            final CharacterAlgorithm characterAlgorithm) {
+
+        final DefaultRandom defaultRandom = (DefaultRandom) random;
+        if (defaultRandom.getAlgorithm() == algorithm
+                && defaultRandom.getCharacterAlgorithm() == characterAlgorithm) {
+            return random;
+        }
+        // Derive the seed from the shared instance (rather than reusing its seed)
+        // so that consecutive objects created using the same shared instance differ
+        final long seed = random.longRange(0, Long.MAX_VALUE);
+        return new DefaultRandom(seed, defaultRandom.getSource(), algorithm, characterAlgorithm);
     }
 
     private RandomHelper() {
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.internal.context.ModelContext;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Creates models for elements of a stream.
+ *
+ * <p>Since all elements of a stream are created using the same selectors
+ * and settings, the node tree and settings resolved for the first element
+ * are reused by subsequent elements, provided the node tree is reusable
+ * (see {@link InternalModel#isNodeTreeReusable()}). Each element still
+ * gets its own context, that is, its own {@code Random} and selector maps
+ * with newly initialised generators. This ensures that a given seed
+ * produces the same object as it would without reusing the node tree.
+ *
+ * @param <T> the type of object to create
+ */
+final class StreamModelFactory<T> {
+
+    private final ModelContext.Builder modelContextBuilder;
+    private @Nullable InternalModel<T> firstModel;
+    private boolean reuseNodeTree;
+
+    StreamModelFactory(final ModelContext.Builder modelContextBuilder) {
+        this.modelContextBuilder = modelContextBuilder;
+    }
+
+    InternalModel<T> createModel() {
+        if (firstModel == null) {
+            firstModel = new InternalModel<>(modelContextBuilder.build());
+            reuseNodeTree = firstModel.isNodeTreeReusable();
+            return firstModel;
+        }
+        if (!reuseNodeTree) {
+            return new InternalModel<>(modelContextBuilder.build());
+        }
+
+        final ModelContext context = modelContextBuilder.buildStreamElementContext(
+                firstModel.getModelContext());
+
+        return new InternalModel<>(context, firstModel.getRootNode());
+    }
+}
@@ -74,6 +74,19 @@ abstract class AbstractAnnotationLibraryFacade implements AnnotationLibraryFacad
         }
     }
 
+    @Override
+    public final boolean isRandomised(final AnnotationMap annotationMap) {
+        final AnnotationHandlerMap annotationHandlerMap = getAnnotationHandlerMap();
+
+        for (Annotation annotation : annotationMap.getAnnotations()) {
+            final FieldAnnotationHandler handler = annotationHandlerMap.get(annotation);
+            if (handler != null && handler.isRandomised(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Nullable
     @Override
     @SuppressWarnings(Sonar.NULL_MARKED_NULL_VALUE)
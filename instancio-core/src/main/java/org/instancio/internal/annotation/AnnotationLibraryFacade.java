@@ -66,6 +66,16 @@ public interface AnnotationLibraryFacade {
                             Class<?> targetClass,
                             GeneratorContext generatorContext);
 
+    /**
+     * Checks if consuming any of the annotations contained in the given map
+     * draws random values. If so, the generator configured using these
+     * annotations should not be reused for generating other values.
+     *
+     * @param map annotations to check
+     * @return {@code true} if consuming the annotations is randomised
+     */
+    boolean isRandomised(AnnotationMap map);
+
     /**
      * Resolves a generator for the given primary annotation.
      *
@@ -52,6 +52,14 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
 
         abstract int getInteger(Annotation annotation);
 
+        /**
+         * The fractional part of a string is generated using a random suffix.
+         */
+        @Override
+        public final boolean isRandomised(final Annotation annotation) {
+            return getFraction(annotation) > 0;
+        }
+
         @Override
         public final void process(final Annotation annotation,
                                   final GeneratorSpec<?> spec,
@@ -90,6 +98,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
 
         abstract long getValue(Annotation annotation);
 
+        @Override
+        public final boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public final void process(final Annotation annotation,
                                   final GeneratorSpec<?> spec,
@@ -108,6 +121,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
 
         abstract long getValue(Annotation annotation);
 
+        @Override
+        public final boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public final void process(final Annotation annotation,
                                   final GeneratorSpec<?> spec,
@@ -126,6 +144,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
 
         abstract String getValue(Annotation annotation);
 
+        @Override
+        public final boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public final void process(final Annotation annotation,
                                   final GeneratorSpec<?> spec,
@@ -147,6 +170,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
 
         abstract String getValue(Annotation annotation);
 
+        @Override
+        public final boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public final void process(final Annotation annotation,
                                   final GeneratorSpec<?> spec,
@@ -170,6 +198,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
             this.min = min;
         }
 
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
@@ -190,6 +223,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
             this.max = max;
         }
 
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
@@ -204,6 +242,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
     }
 
     static final class PastHandler implements FieldAnnotationHandler {
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
@@ -217,6 +260,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
     }
 
     static final class FutureHandler implements FieldAnnotationHandler {
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
@@ -235,6 +283,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
 
         abstract int getMax(Annotation annotation);
 
+        @Override
+        public final boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public final void process(final Annotation annotation,
                                   final GeneratorSpec<?> spec,
@@ -272,6 +325,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
     }
 
     static final class NotEmptyHandler implements FieldAnnotationHandler {
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
@@ -304,6 +362,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
     }
 
     static final class NotNullHandler implements FieldAnnotationHandler {
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
@@ -321,6 +384,11 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
             this.generatedValue = generatedValue;
         }
 
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
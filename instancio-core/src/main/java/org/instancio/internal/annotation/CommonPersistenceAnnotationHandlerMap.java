@@ -38,6 +38,11 @@ class CommonPersistenceAnnotationHandlerMap extends AnnotationHandlerMap {
 
         abstract int getScale(Annotation annotation);
 
+        @Override
+        public final boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public final void process(final Annotation annotation,
                                   final GeneratorSpec<?> spec,
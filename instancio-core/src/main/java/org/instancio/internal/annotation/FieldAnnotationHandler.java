@@ -46,4 +46,20 @@ interface FieldAnnotationHandler {
             GeneratorSpec<?> spec,
             Class<?> targetClass,
             GeneratorContext generatorContext);
+
+    /**
+     * Returns {@code true} if processing the specified annotation draws
+     * random values. In this case, a generator configured using the
+     * annotation should not be reused for generating other values.
+     *
+     * <p>By default, handlers are assumed to be randomised. Handlers
+     * that only configure the generator should override this method
+     * to allow the configured generator to be reused.
+     *
+     * @param annotation annotation to check
+     * @return {@code true} if processing the annotation is randomised
+     */
+    default boolean isRandomised(final Annotation annotation) {
+        return true;
+    }
 }
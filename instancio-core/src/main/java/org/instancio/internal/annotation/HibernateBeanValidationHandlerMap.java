@@ -52,6 +52,11 @@ final class HibernateBeanValidationHandlerMap extends AnnotationHandlerMap {
     }
 
     private static final class DurationMinHandler implements FieldAnnotationHandler {
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
@@ -76,6 +81,11 @@ final class HibernateBeanValidationHandlerMap extends AnnotationHandlerMap {
     }
 
     private static final class DurationMaxHandler implements FieldAnnotationHandler {
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
@@ -101,6 +111,11 @@ final class HibernateBeanValidationHandlerMap extends AnnotationHandlerMap {
 
     // Length is only applicable to character sequences
     private static final class LengthHandler implements FieldAnnotationHandler {
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
@@ -125,6 +140,11 @@ final class HibernateBeanValidationHandlerMap extends AnnotationHandlerMap {
     }
 
     private static final class RangeHandler implements FieldAnnotationHandler {
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
@@ -156,6 +176,11 @@ final class HibernateBeanValidationHandlerMap extends AnnotationHandlerMap {
     }
 
     private static final class UniqueElementsHandler implements FieldAnnotationHandler {
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
         @Override
         public void process(final Annotation annotation,
                             final GeneratorSpec<?> spec,
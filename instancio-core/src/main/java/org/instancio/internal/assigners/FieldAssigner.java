@@ -21,6 +21,7 @@ import org.instancio.internal.util.ErrorMessageUtils;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.settings.AssignmentAccess;
 import org.instancio.settings.AssignmentType;
 import org.instancio.settings.Keys;
 import org.instancio.settings.OnSetFieldError;
@@ -29,6 +30,7 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 import static java.util.Objects.requireNonNull;
@@ -38,11 +40,15 @@ final class FieldAssigner implements Assigner {
     private static final Logger LOG = LoggerFactory.getLogger(FieldAssigner.class);
 
     private final Settings settings;
+    private final boolean useMethodHandles;
 
     FieldAssigner(final Settings settings) {
         this.settings = settings;
+        this.useMethodHandles = settings.get(Keys.ASSIGNMENT_ACCESS) == AssignmentAccess.METHOD_HANDLE;
 
-        LOG.trace("{}, {}", AssignmentType.FIELD, settings.get(Keys.ON_SET_FIELD_ERROR));
+        LOG.trace("{}, {}, {}", AssignmentType.FIELD,
+                settings.get(Keys.ASSIGNMENT_ACCESS),
+                settings.get(Keys.ON_SET_FIELD_ERROR));
     }
 
     @Override
@@ -60,9 +66,8 @@ final class FieldAssigner implements Assigner {
         final Object value = arg == null ? ObjectUtils.defaultValue(field.getType()) : arg;
 
         try {
-            ReflectionUtils.setAccessible(field);
-            field.set(target, value);
-        } catch (IllegalArgumentException ex) {
+            setValue(field, target, value);
+        } catch (IllegalArgumentException | ClassCastException ex) {
             // Wrong type is being assigned to a field.
             // Always propagate type mismatch errors as it's most likely a user error.
 
@@ -74,6 +79,19 @@ final class FieldAssigner implements Assigner {
         }
     }
 
+    private void setValue(final Field field, final Object target, @Nullable final Object value)
+            throws ReflectiveOperationException {
+
+        final MethodHandle handle = useMethodHandles ? MethodHandleSetters.getSetter(field) : null;
+
+        if (handle == null) {
+            ReflectionUtils.setAccessible(field);
+            field.set(target, value);
+        } else {
+            MethodHandleSetters.set(handle, target, value);
+        }
+    }
+
     private void handleError(final Field field, @Nullable final Object value, final Exception ex) {
         final OnSetFieldError onSetFieldError = settings.get(Keys.ON_SET_FIELD_ERROR);
         if (onSetFieldError == OnSetFieldError.FAIL) {
@@ -24,6 +24,7 @@ import org.instancio.internal.util.Format;
 import org.instancio.internal.util.MethodUtils;
 import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.settings.AssignmentAccess;
 import org.instancio.settings.AssignmentType;
 import org.instancio.settings.Keys;
 import org.instancio.settings.OnSetMethodError;
@@ -33,6 +34,7 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -45,17 +47,20 @@ final class MethodAssigner implements Assigner {
 
     private final Settings settings;
     private final int excludedModifiers;
+    private final boolean useMethodHandles;
     private final Assigner fieldAssigner;
     private final SetterMethodResolverFacade setterMethodResolverFacade;
 
     MethodAssigner(final ModelContext context) {
         this.settings = context.getSettings();
         this.excludedModifiers = settings.get(Keys.SETTER_EXCLUDE_MODIFIER);
+        this.useMethodHandles = settings.get(Keys.ASSIGNMENT_ACCESS) == AssignmentAccess.METHOD_HANDLE;
         this.fieldAssigner = new FieldAssigner(settings);
         this.setterMethodResolverFacade = new SetterMethodResolverFacade(
                 context.getServiceProviders().getSetterMethodResolvers());
 
-        LOG.trace("{}, {}, {}, {}", AssignmentType.METHOD,
+        LOG.trace("{}, {}, {}, {}, {}", AssignmentType.METHOD,
+                settings.get(Keys.ASSIGNMENT_ACCESS),
                 settings.get(Keys.SETTER_STYLE),
                 settings.get(Keys.ON_SET_METHOD_NOT_FOUND),
                 settings.get(Keys.ON_SET_METHOD_ERROR));
@@ -77,8 +82,7 @@ final class MethodAssigner implements Assigner {
         final Object value = arg == null ? ObjectUtils.defaultValue(parameterType) : arg;
 
         try {
-            ReflectionUtils.setAccessible(method);
-            method.invoke(target, value);
+            invokeSetter(method, target, value);
         } catch (IllegalAccessException ex) {
             throw new InstancioException("Error setting value via method: " + method, ex);
         } catch (Exception ex) {
@@ -86,6 +90,19 @@ final class MethodAssigner implements Assigner {
         }
     }
 
+    private void invokeSetter(final Method method, final Object target, @Nullable final Object value)
+            throws ReflectiveOperationException {
+
+        final MethodHandle handle = useMethodHandles ? MethodHandleSetters.getSetter(method) : null;
+
+        if (handle == null) {
+            ReflectionUtils.setAccessible(method);
+            method.invoke(target, value);
+        } else {
+            MethodHandleSetters.invoke(handle, target, value);
+        }
+    }
+
     private @Nullable Method getSetterMethod(final InternalNode node) {
         final Method method = setterMethodResolverFacade.resolveSetterMethod(node);
         return method == null ? node.getSetter() : method;
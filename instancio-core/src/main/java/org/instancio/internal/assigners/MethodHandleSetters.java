@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.assigners;
+
+import org.instancio.internal.util.ReflectionUtils;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates and caches {@link MethodHandle}s for assigning field values
+ * and invoking setters. Handles are adapted to {@code (Object, Object)void}
+ * so that they can be invoked using {@link MethodHandle#invokeExact}.
+ */
+final class MethodHandleSetters {
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandleSetters.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(
+            void.class, Object.class, Object.class);
+
+    private static final ClassValue<Map<Member, Optional<MethodHandle>>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Member, Optional<MethodHandle>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private MethodHandleSetters() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns a setter handle for the given field.
+     *
+     * @param field to create a handle for
+     * @return the handle, or {@code null} if one could not be created
+     */
+    static @Nullable MethodHandle getSetter(final Field field) {
+        return CACHE.get(field.getDeclaringClass())
+                .computeIfAbsent(field, m -> createHandle(field))
+                .orElse(null);
+    }
+
+    /**
+     * Returns a handle for the given setter method.
+     *
+     * @param method to create a handle for
+     * @return the handle, or {@code null} if one could not be created
+     */
+    static @Nullable MethodHandle getSetter(final Method method) {
+        return CACHE.get(method.getDeclaringClass())
+                .computeIfAbsent(method, m -> createHandle(method))
+                .orElse(null);
+    }
+
+    /**
+     * Assigns a field using the given field setter handle. The handle
+     * does not run user code, therefore the only expected exception is a
+     * {@link ClassCastException} if the value does not match the field type.
+     * Unchecked exceptions are propagated as is.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    static void set(final MethodHandle handle, final Object target, @Nullable final Object value)
+            throws InvocationTargetException {
+
+        try {
+            handle.invokeExact(target, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable t) { //NOSONAR
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Invokes the given setter method handle. Any exception thrown
+     * by the setter, including unchecked exceptions and errors,
+     * is wrapped in {@link InvocationTargetException} to match
+     * the behaviour of {@link Method#invoke(Object, Object...)}.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    static void invoke(final MethodHandle handle, final Object target, @Nullable final Object value)
+            throws InvocationTargetException {
+
+        try {
+            handle.invokeExact(target, value);
+        } catch (Throwable t) { //NOSONAR
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    private static Optional<MethodHandle> createHandle(final Field field) {
+        try {
+            ReflectionUtils.setAccessible(field);
+            return Optional.of(MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE));
+        } catch (Exception ex) {
+            LOG.trace("Could not create setter handle for field {}, falling back to reflection", field, ex);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<MethodHandle> createHandle(final Method method) {
+        try {
+            ReflectionUtils.setAccessible(method);
+            return Optional.of(MethodHandles.lookup().unreflect(method).asType(SETTER_TYPE));
+        } catch (Exception ex) {
+            LOG.trace("Could not create handle for method {}, falling back to reflection", method, ex);
+            return Optional.empty();
+        }
+    }
+}
@@ -16,7 +16,6 @@
 package org.instancio.internal.context;
 
 import org.instancio.Assignment;
-import org.instancio.FilterPredicate;
 import org.instancio.GeneratorSpecProvider;
 import org.instancio.Model;
 import org.instancio.OnCompleteCallback;
@@ -39,6 +38,7 @@ import org.instancio.internal.feed.InternalFeedContext;
 import org.instancio.internal.feed.InternalFeedProxy;
 import org.instancio.internal.generator.misc.GeneratorDecorator;
 import org.instancio.internal.generator.misc.ObjectFillingGenerator;
+import org.instancio.internal.generator.unique.UniqueValueFilter;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.selectors.BlankSelectors;
 import org.instancio.internal.selectors.InternalSelector;
@@ -68,7 +68,6 @@ import org.jspecify.annotations.Nullable;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -99,19 +98,42 @@ public final class ModelContext {
     private final Random random;
     private final SelectorMaps selectorMaps;
     private final Providers providers;
+    private final boolean reportUnusedSelectors;
+    private final @Nullable Settings threadLocalSettings;
+    private final ClassLoader classLoader;
+    private final boolean withUnique;
+    private boolean unusedSelectorsReported;
+
+    private ModelContext(final Builder builder, @Nullable final Settings threadLocalSettings) {
+        this(builder, createSettings(builder, threadLocalSettings), threadLocalSettings,
+                ServiceLoaders.getClassLoader(), builder.seed, true);
+    }
+
+    private ModelContext(
+            final Builder builder,
+            final Settings settings,
+            @Nullable final Settings threadLocalSettings,
+            final ClassLoader classLoader,
+            @Nullable final Long seed,
+            final boolean reportUnusedSelectors) {
 
-    private ModelContext(final Builder builder) {
         contextSource = builder.getModelContextSource();
         rootType = new RootType(builder.rootType, contextSource.getWithTypeParametersList());
         maxDepth = builder.maxDepth;
-        seed = builder.seed;
+        this.seed = seed;
         verbose = builder.verbose;
-        settings = createSettings(builder);
-        random = RandomHelper.resolveRandom(settings.get(Keys.SEED), builder.seed);
+        this.settings = settings;
+        this.threadLocalSettings = threadLocalSettings;
+        this.classLoader = classLoader;
+        this.reportUnusedSelectors = reportUnusedSelectors;
+        withUnique = builder.withUnique;
+        random = RandomHelper.resolveRandom(
+                settings.get(Keys.SEED), seed, settings.get(Keys.RANDOM_ALGORITHM),
+                settings.get(Keys.CHARACTER_ALGORITHM));
 
         final GeneratorContext generatorContext = new GeneratorContext(settings, random);
         selectorMaps = new SelectorMaps(contextSource, generatorContext);
-        providers = new Providers(new InternalServiceProviderContext(settings, random));
+        providers = new Providers(classLoader, new InternalServiceProviderContext(settings, random));
 
         if (builder.fillObject != null) {
             final Generator<?> generator = new ObjectFillingGenerator(
@@ -122,9 +144,9 @@ public final class ModelContext {
         }
     }
 
-    private static Settings createSettings(final Builder builder) {
+    private static Settings createSettings(final Builder builder, @Nullable final Settings threadLocalSettings) {
         final Settings settings = Global.getPropertiesFileSettings()
-                .merge(ThreadLocalSettings.getInstance().get())
+                .merge(threadLocalSettings)
                 .merge(builder.settings);
 
         if (Boolean.TRUE.equals(builder.lenient)) {
@@ -150,9 +172,38 @@ public final class ModelContext {
         return providers;
     }
 
+    /**
+     * Returns {@code true} if {@code withUnique()} was specified
+     * for this context or any of its models.
+     */
+    public boolean isWithUnique() {
+        return withUnique;
+    }
+
     public void reportWarnings() {
         reportUnusedSelectorWarnings();
         reportEmitGeneratorWarnings();
+        unusedSelectorsReported = reportUnusedSelectors;
+    }
+
+    /**
+     * Returns {@code true} if this context has checked for unused selectors
+     * (and found none, since unused selectors result in an exception
+     * in strict mode).
+     */
+    public boolean isUnusedSelectorsReported() {
+        return unusedSelectorsReported;
+    }
+
+    /**
+     * Returns {@code true} if a context built from the same builder on
+     * the current thread would resolve the same settings as this context,
+     * that is, if the thread-local settings have not changed since this
+     * context was created.
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals") // settings are compared by identity
+    public boolean isResolvedSettingsCurrent() {
+        return ThreadLocalSettings.getInstance().get() == threadLocalSettings;
     }
 
     private void reportEmitGeneratorWarnings() {
@@ -162,7 +213,7 @@ public final class ModelContext {
     }
 
     void reportUnusedSelectorWarnings() {
-        if (settings.get(Keys.MODE) == Mode.STRICT && !selectorMaps.allEmpty()) {
+        if (reportUnusedSelectors && settings.get(Keys.MODE) == Mode.STRICT && !selectorMaps.allEmpty()) {
             new UnusedSelectorReporter(getMaxDepth(), selectorMaps).report();
         }
     }
@@ -216,6 +267,21 @@ public final class ModelContext {
         }
     }
 
+    /**
+     * Returns the filter for the given node if the node was
+     * specified via {@code withUnique()}.
+     *
+     * @param node to look up the filter for
+     * @return the filter, or {@code null} if values
+     * of the given node are not required to be unique
+     */
+    @Nullable
+    public UniqueValueFilter getUniqueValueFilter(final InternalNode node) {
+        return selectorMaps.getFilterSelectorMap().getPredicate(node) instanceof UniqueValueFilter filter
+                ? filter
+                : null;
+    }
+
     @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
     public Optional<Generator<?>> getGenerator(final InternalNode node) {
         return selectorMaps.getGeneratorSelectorMap().getGenerator(node);
@@ -278,6 +344,7 @@ public final class ModelContext {
         builder.assignmentMap = new LinkedHashMap<>(copyAsLinkedHashMap(this.contextSource.getAssignmentMap()));
         builder.setModelMap = new LinkedHashMap<>(this.contextSource.getSetModelMap());
         builder.feedMap = new LinkedHashMap<>(this.contextSource.getFeedMap());
+        builder.withUnique = this.withUnique;
         return builder;
     }
 
@@ -306,12 +373,18 @@ public final class ModelContext {
         private @Nullable Long seed;
         private @Nullable Boolean lenient;
         private boolean verbose;
+        private boolean withUnique;
         private final SelectorProcessor selectorProcessor;
-        private final SetterSelectorHolder setMethodSelectorHolder = new SetterSelectorHolder();
+        private final SetterSelectorHolder setMethodSelectorHolder;
 
         private Builder(final Type rootType) {
+            this(rootType, new SetterSelectorHolder());
+        }
+
+        private Builder(final Type rootType, final SetterSelectorHolder setMethodSelectorHolder) {
             ApiValidator.validateRootClass(rootType);
             this.rootType = rootType;
+            this.setMethodSelectorHolder = setMethodSelectorHolder;
             this.selectorProcessor = new SelectorProcessor(
                     TypeUtils.getRawType(rootType), INTERNAL_SERVICE_PROVIDERS, setMethodSelectorHolder);
         }
@@ -394,16 +467,9 @@ public final class ModelContext {
         }
 
         public Builder withUnique(final TargetSelector selector) {
-            final FilterPredicate<Object> predicate = new FilterPredicate<>() {
-                final Set<Object> generatedValues = new HashSet<>();
-
-                @Override
-                public boolean test(final Object obj) {
-                    return generatedValues.add(obj);
-                }
-            };
+            withUnique = true;
             // withUnique() is implemented using filter()
-            return addFilterPredicate(selector, predicate, ApiMethodSelector.WITH_UNIQUE);
+            return addFilterPredicate(selector, new UniqueValueFilter(), ApiMethodSelector.WITH_UNIQUE);
         }
 
         private Builder addFilterPredicate(
@@ -572,6 +638,7 @@ public final class ModelContext {
             assignmentMap = new LinkedHashMap<>(src.getAssignmentMap());
             setModelMap = new LinkedHashMap<>(src.getSetModelMap());
             feedMap = new LinkedHashMap<>(src.getFeedMap());
+            withUnique = otherContext.withUnique;
 
             // Increment max depth to account for the additional layer added by the collection
             maxDepth = otherContext.maxDepth == null ? null : otherContext.maxDepth + 1; //NOPMD
@@ -603,6 +670,7 @@ public final class ModelContext {
             for (TargetSelector modelTarget : processedSelectors) {
                 setModelMap.put(modelTarget, otherCtx);
             }
+            withUnique |= otherCtx.withUnique;
             return this;
         }
 
@@ -622,7 +690,91 @@ public final class ModelContext {
         }
 
         public ModelContext build() {
-            return new ModelContext(this);
+            return new ModelContext(this, ThreadLocalSettings.getInstance().get());
+        }
+
+        /**
+         * Returns a copy of this builder. Modifying the copy does not
+         * affect this builder, nor contexts built by this builder.
+         *
+         * @return a new builder with the same state as this builder
+         */
+        public Builder copy() {
+            final ModelContextSource source = getModelContextSource();
+            final Builder copy = new Builder(rootType, setMethodSelectorHolder.copy());
+            copy.withTypeParametersList = new ArrayList<>(source.getWithTypeParametersList());
+            copy.fillObject = fillObject;
+            copy.fillType = fillType;
+            copy.subtypeMap = new LinkedHashMap<>(source.getSubtypeMap());
+            copy.generatorSpecMap = new LinkedHashMap<>(source.getGeneratorSpecMap());
+            copy.generatorMap = new LinkedHashMap<>(source.getGeneratorMap());
+            copy.onCompleteMap = new LinkedHashMap<>(source.getOnCompleteMap());
+            copy.filterMap = new LinkedHashMap<>(source.getFilterMap());
+            copy.assignmentMap = copyAsLinkedHashMap(source.getAssignmentMap());
+            copy.setModelMap = new LinkedHashMap<>(source.getSetModelMap());
+            copy.feedMap = new LinkedHashMap<>(source.getFeedMap());
+            copy.ignoreSet = new LinkedHashSet<>(source.getIgnoreSet());
+            copy.withNullableSet = new LinkedHashSet<>(source.getWithNullableSet());
+            copy.settings = settings == null ? null : Settings.from(settings); //NOPMD
+            copy.maxDepth = maxDepth;
+            copy.seed = seed;
+            copy.lenient = lenient;
+            copy.verbose = verbose;
+            copy.withUnique = withUnique;
+            return copy;
+        }
+
+        /**
+         * Builds a context for creating an object using the node tree
+         * of a model that was created using the {@code modelContext}.
+         *
+         * <p>Settings resolved by the model's context are reused.
+         * Unused selectors are not reported by the returned context
+         * since the model's selectors have already been checked
+         * (see {@link ModelContext#isUnusedSelectorsReported()}).
+         *
+         * @param modelContext context of the model whose node tree will be used
+         * @return a new context
+         */
+        public ModelContext buildSharedModelContext(final ModelContext modelContext) {
+            return new ModelContext(this, modelContext.settings, modelContext.threadLocalSettings,
+                    ServiceLoaders.getClassLoader(), seed, false);
+        }
+
+        /**
+         * Builds a context for a subsequent element of a stream whose
+         * node tree was created using the {@code firstElementContext}.
+         *
+         * <p>Settings resolved by the first element's context are reused.
+         * Unused selectors are not reported by the returned context since
+         * selectors matched while creating the shared node tree are only
+         * recorded by the first element's context.
+         */
+        public ModelContext buildStreamElementContext(final ModelContext firstElementContext) {
+            return new ModelContext(this, firstElementContext.settings,
+                    firstElementContext.threadLocalSettings, firstElementContext.classLoader, seed, false);
+        }
+
+        /**
+         * Builds a context for an element of a parallel stream using the given seed.
+         *
+         * <p>Unlike {@link #build()}, this method does not modify or depend
+         * on the state of this builder (other than the selectors and other
+         * parameters specified via the API), nor on the thread-local settings
+         * and context class loader of the current thread, which may differ
+         * on threads processing a parallel stream. Instead, the settings and
+         * the class loader for resolving service providers are taken from
+         * the first element's context. Therefore, this method can be safely
+         * invoked concurrently.
+         *
+         * @param firstElementContext context whose resolved settings should be used
+         * @param elementSeed         seed for the element's random instance
+         * @return a new context
+         * @see #buildStreamElementContext(ModelContext)
+         */
+        public ModelContext buildStreamElementContext(final ModelContext firstElementContext, final long elementSeed) {
+            return new ModelContext(this, firstElementContext.settings,
+                    firstElementContext.threadLocalSettings, firstElementContext.classLoader, elementSeed, false);
         }
     }
 }
\ No newline at end of file
@@ -37,6 +37,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
@@ -56,16 +57,28 @@ import static org.instancio.internal.util.Constants.NL;
 
 @SuppressWarnings({"PMD.GodClass", "PMD.ExcessiveImports"})
 final class SelectorMapImpl<V> implements SelectorMap<V> {
-    private static final boolean FIND_ONE_ONLY = true;
-
     // Root's target class is always null
     private static final ScopelessSelector SCOPELESS_ROOT = new ScopelessSelector(null);
 
+    private static final Object[] NO_RESOLVED_MATCHES = {};
+
     private final Map<ScopelessSelector, List<SelectorImpl>> scopelessSelectors = new LinkedHashMap<>(4);
     private final Map<TargetSelector, V> selectors = new LinkedHashMap<>(4);
     private final Set<TargetSelector> unusedSelectors = new LinkedHashSet<>(4);
     private boolean isEmpty = true;
 
+    /**
+     * Selector matches resolved per node, indexed by {@link InternalNode#getOrdinal()}.
+     * Each element is a {@code List<SelectorMatch<V>>}, or {@code null} if the node's
+     * matches have not been resolved yet. Matching is therefore done once per node,
+     * regardless of how many times the node is visited (for example, collection
+     * elements or multiple root objects).
+     */
+    private Object[] resolvedMatches = NO_RESOLVED_MATCHES;
+
+    // Root of the node tree whose matches are held by resolvedMatches
+    private @Nullable InternalNode resolvedMatchesTreeRoot;
+
     /**
      * Predicate selector precedence is based on priority (lower values are higher priority)
      * and insertion order (last added wins).
@@ -90,6 +103,7 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
     @Override
     public void put(final TargetSelector targetSelector, final V value) {
         isEmpty = false;
+        resolvedMatches = NO_RESOLVED_MATCHES;
 
         if (!((InternalSelector) targetSelector).isLenient()) {
             unusedSelectors.add(targetSelector);
@@ -120,24 +134,14 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
         if (isEmpty) {
             return Optional.empty();
         }
-        final List<SelectorImpl> withParent = getSelectorsWithParent(node, getCandidates(node), FIND_ONE_ONLY);
+        final List<SelectorMatch<V>> matches = getMatches(node);
 
-        if (!withParent.isEmpty()) {
-            final SelectorImpl selector = withParent.get(0);
-            markUsed(selector);
-            return Optional.ofNullable(this.selectors.get(selector));
-        }
-
-        return getPredicateSelectorMatch(node);
-    }
-
-    private Optional<V> getPredicateSelectorMatch(final InternalNode node) {
-        for (PredicateSelectorEntry<V> entry : predicateSelectors) {
-            if (isPredicateMatch(node, entry)) {
-                return Optional.of(entry.value);
-            }
+        if (matches.isEmpty()) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        final SelectorMatch<V> match = matches.get(0);
+        markUsed(match.selector);
+        return Optional.ofNullable(match.value);
     }
 
     @Override
@@ -145,18 +149,12 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
         if (isEmpty) {
             return emptyList();
         }
-        final List<SelectorImpl> selectorsWithParent = getSelectorsWithParent(node, getCandidates(node), !FIND_ONE_ONLY);
-        final List<V> values = new ArrayList<>();
+        final List<SelectorMatch<V>> matches = getMatches(node);
+        final List<V> values = new ArrayList<>(matches.size());
 
-        for (SelectorImpl s : selectorsWithParent) {
-            markUsed(s);
-            values.add(this.selectors.get(s));
-        }
-
-        for (PredicateSelectorEntry<V> entry : predicateSelectors) {
-            if (isPredicateMatch(node, entry)) {
-                values.add(entry.value);
-            }
+        for (SelectorMatch<V> match : matches) {
+            markUsed(match.selector);
+            values.add(match.value);
         }
 
         return values;
@@ -191,38 +189,92 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
         if (isEmpty) {
             return Collections.emptySet();
         }
-        final List<SelectorImpl> selectorsWithParent = getSelectorsWithParent(node, getCandidates(node), !FIND_ONE_ONLY);
+        final List<SelectorMatch<V>> matches = getMatches(node);
+        final Set<TargetSelector> results = new HashSet<>();
 
-        final Set<TargetSelector> results = new HashSet<>(selectorsWithParent);
+        for (SelectorMatch<V> match : matches) {
+            final TargetSelector selector = match.selector;
+            results.add(selector);
+
+            if (selector instanceof PredicateSelectorImpl) {
+                unusedSelectors.remove(selector);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns selectors matching the given node along with their values,
+     * in order of precedence: regular selectors first (last added wins),
+     * followed by predicate selectors.
+     *
+     * <p>Matches are resolved once per node and reused on subsequent
+     * lookups. Nodes without an ordinal (i.e. nodes that are not
+     * part of a fully created node tree) are matched every time.
+     *
+     * @param node to look up matches for
+     * @return matching selectors, or an empty list if none
+     */
+    @SuppressWarnings({"unchecked", "PMD.CompareObjectsWithEquals"})
+    private List<SelectorMatch<V>> getMatches(final InternalNode node) {
+        final InternalNode treeRoot = node.getTreeRoot();
+        final int ordinal = node.getOrdinal();
+        if (treeRoot == null || ordinal < 0) {
+            return resolveMatches(node);
+        }
+        if (treeRoot != resolvedMatchesTreeRoot) {
+            // A context is normally used with a single tree, but discard
+            // resolved matches if nodes from another tree are looked up
+            resolvedMatches = NO_RESOLVED_MATCHES;
+            resolvedMatchesTreeRoot = treeRoot;
+        }
+        if (ordinal >= resolvedMatches.length) {
+            resolvedMatches = Arrays.copyOf(resolvedMatches, Math.max(ordinal + 1, resolvedMatches.length * 2));
+        }
+
+        Object matches = resolvedMatches[ordinal];
+        if (matches == null) {
+            matches = resolveMatches(node);
+            resolvedMatches[ordinal] = matches;
+        }
+        return (List<SelectorMatch<V>>) matches;
+    }
+
+    private List<SelectorMatch<V>> resolveMatches(final InternalNode node) {
+        final List<SelectorImpl> selectorsWithParent = getSelectorsWithParent(node, getCandidates(node));
+        final List<SelectorMatch<V>> matches = new ArrayList<>(selectorsWithParent.size());
+
+        for (SelectorImpl selector : selectorsWithParent) {
+            matches.add(new SelectorMatch<>(selector, this.selectors.get(selector)));
+        }
 
         for (PredicateSelectorEntry<V> entry : predicateSelectors) {
             if (isPredicateMatch(node, entry)) {
-                results.add(entry.predicateSelector);
+                matches.add(new SelectorMatch<>(entry.predicateSelector, entry.value));
             }
         }
 
-        return results;
+        return matches.isEmpty() ? emptyList() : matches;
     }
 
-    private boolean isPredicateMatch(final InternalNode targetNode, final PredicateSelectorEntry<?> entry) {
-        final boolean isMatch = entry.predicateSelector.getNodePredicate().test(targetNode)
+    private static boolean isPredicateMatch(final InternalNode targetNode, final PredicateSelectorEntry<?> entry) {
+        return entry.predicateSelector.getNodePredicate().test(targetNode)
                 // Predicate selector depth is captured as a Predicate<Integer>
                 // and it is checked by getNodePredicate() above.
                 // Therefore, passing null below
                 && selectorScopesMatchNodeHierarchy(/*candidateDepth = */ null, entry.predicateSelector.getScopes(), targetNode);
-
-        if (isMatch) {
-            unusedSelectors.remove(entry.predicateSelector);
-        }
-
-        return isMatch;
     }
 
-    private void markUsed(final SelectorImpl selector) {
+    private void markUsed(final TargetSelector targetSelector) {
+        if (unusedSelectors.isEmpty()) {
+            return;
+        }
         // Special treatment of convenience PrimitiveAndWrapper selectors such as Select.allInts(),
         // which contains all(Integer.class) and all(int.class). If we only
         // match one, consider the equivalent to be matched as well.
-        if (selector.getParent() instanceof PrimitiveAndWrapperSelectorImpl) {
+        if (targetSelector instanceof SelectorImpl selector
+            && selector.getParent() instanceof PrimitiveAndWrapperSelectorImpl) {
             final Class<?> equivalentType = PrimitiveWrapperBiLookup.getEquivalent(selector.getTargetClass());
 
             final SelectorImpl equivalent = selector.toBuilder(new TargetClass(requireNonNull(equivalentType)))
@@ -230,7 +282,7 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
 
             unusedSelectors.remove(equivalent);
         }
-        unusedSelectors.remove(selector);
+        unusedSelectors.remove(targetSelector);
     }
 
     /**
@@ -273,8 +325,7 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
 
     private static List<SelectorImpl> getSelectorsWithParent(
             final InternalNode targetNode,
-            final List<SelectorImpl> candidates,
-            final boolean findOneOnly) {
+            final List<SelectorImpl> candidates) {
 
         if (candidates.isEmpty()) {
             return emptyList();
@@ -285,10 +336,6 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
         // Start from the end so that in case of overlaps last selector wins
         // (only matters if a single result is requested)
         for (int i = candidates.size() - 1; i >= 0; i--) {
-            if (findOneOnly && !results.isEmpty()) {
-                break;
-            }
-
             final SelectorImpl candidate = candidates.get(i);
             if (selectorScopesMatchNodeHierarchy(candidate.getDepth(), candidate.getScopes(), targetNode)) {
                 results.add(candidate);
@@ -404,4 +451,14 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
             this.value = value;
         }
     }
+
+    private static final class SelectorMatch<V> {
+        private final TargetSelector selector;
+        private final @Nullable V value;
+
+        private SelectorMatch(final TargetSelector selector, @Nullable final V value) {
+            this.selector = selector;
+            this.value = value;
+        }
+    }
 }
@@ -202,6 +202,19 @@ public final class SelectorMaps {
                 && subtypeSelectorMap.getSelectorMap().isEmpty();
     }
 
+    /**
+     * Returns {@code true} if there are selectors that affect
+     * the structure of the node tree or are matched while
+     * the node tree is being created.
+     */
+    public boolean hasNodeTreeSelectors() {
+        return hasAssignments()
+                || hasSetModels()
+                || !feedSelectorMap.getSelectorMap().isEmpty()
+                || !ignoreSelectorMap.getSelectorMap().isEmpty()
+                || !subtypeSelectorMap.getSelectorMap().isEmpty();
+    }
+
     public boolean hasGenerators() {
         return !generatorSelectorMap.getSelectorMap().isEmpty();
     }
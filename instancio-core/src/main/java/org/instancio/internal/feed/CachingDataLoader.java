@@ -15,50 +15,59 @@
  */
 package org.instancio.internal.feed;
 
+import org.instancio.CacheStats;
 import org.instancio.exception.InstancioTerminatingException;
 import org.instancio.feed.DataSource;
+import org.instancio.internal.feed.FeedDataCache.SourceVersion;
 import org.instancio.internal.feed.datasource.CacheableDataSource;
+import org.instancio.internal.feed.datasource.FileDataSource;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.Sonar;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static org.instancio.internal.util.ErrorMessageUtils.feedDataSourceIoErrorMessage;
 
 public class CachingDataLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(CachingDataLoader.class);
 
-    private static final Map<Object, DataStore<?>> CACHE = new ConcurrentHashMap<>();
+    private static final FeedDataCache<DataStore<?>> CACHE = FeedDataCache.withGlobalSettings();
 
     @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
-    public DataStore<?> loadData(
+    public <T> DataStore<?> loadData(
             final InternalFeedContext<?> feedContext,
-            final DataLoader<?> dataLoader,
-            final BiFunction<String, List<?>, DataStore<?>> tagKeyToDataStoreMapper) {
+            final DataLoader<T> dataLoader,
+            final BiFunction<String, T, DataStore<?>> tagKeyToDataStoreMapper) {
 
         final DataSource dataSource = feedContext.getDataSource();
         final String tagKey = feedContext.getTagKey();
 
-        final Object cacheKey = dataSource instanceof CacheableDataSource cacheableDataSource
-                ? cacheableDataSource.getKey()
-                : null;
-
-        if (cacheKey == null) {
-            final List<?> data = tryLoad(dataLoader, dataSource);
+        if (!(dataSource instanceof CacheableDataSource cacheableDataSource)) {
+            final T data = tryLoad(dataLoader, dataSource);
             return tagKeyToDataStoreMapper.apply(tagKey, data);
         }
 
-        return CACHE.computeIfAbsent(cacheKey, mapKey -> {
-            final List<?> data = tryLoad(dataLoader, dataSource);
-            return tagKeyToDataStoreMapper.apply(tagKey, data);
+        final SourceVersion version = cacheableDataSource.getDelegate() instanceof FileDataSource fileDataSource
+                ? SourceVersion.of(fileDataSource.getPath())
+                : null;
+
+        return CACHE.getOrLoad(cacheableDataSource.getKey(), version, () -> {
+            final T data = tryLoad(dataLoader, dataSource);
+            final DataStore<?> dataStore = tagKeyToDataStoreMapper.apply(tagKey, data);
+            LOG.debug("Loaded feed data from {}; {}", dataSource.getName(), CACHE);
+            return dataStore;
         });
     }
 
-    private static List<?> tryLoad(final DataLoader<?> dataLoader, final DataSource dataSource) {
+    public static CacheStats getCacheStats() {
+        return CACHE.getStats();
+    }
+
+    private static <T> T tryLoad(final DataLoader<T> dataLoader, final DataSource dataSource) {
         try {
-            return (List<?>) dataLoader.load(dataSource);
+            return dataLoader.load(dataSource);
         } catch (InstancioTerminatingException ex) {
             throw ex;
         } catch (Exception ex) {
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.CacheStats;
+import org.instancio.documentation.VisibleForTesting;
+import org.instancio.internal.util.ExceptionUtils;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.support.Global;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A cache of data loaded from feed data sources,
+ * with least-recently-used eviction.
+ *
+ * <p>Each entry records the size and last modified time of its
+ * source (if the source is a file), and is discarded if the source
+ * has been modified since the data was loaded.
+ *
+ * <p>Data is loaded without holding the cache's lock, so that loading
+ * one data source does not block requests for other data sources.
+ * Concurrent requests for the same key wait for a single load.
+ * Evicted or discarded data that implements {@link Closeable}
+ * (for example, memory-mapped files) is closed.
+ *
+ * @param <V> the type of cached data
+ */
+public final class FeedDataCache<V> {
+
+    private final int maxSize;
+    private final boolean softReferences;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<Object, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, /* accessOrder = */ true);
+
+    private final ConcurrentMap<Object, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong totalLoadTimeNanos = new AtomicLong();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize        maximum number of entries; zero disables caching
+     * @param softReferences whether to hold the data using soft references
+     */
+    FeedDataCache(final int maxSize, final boolean softReferences) {
+        this.maxSize = maxSize;
+        this.softReferences = softReferences;
+    }
+
+    /**
+     * Creates a cache configured using global settings, that is
+     * {@link Keys#FEED_CACHE_MAX_SIZE} and {@link Keys#FEED_CACHE_SOFT_REFERENCES}
+     * specified in {@code instancio.properties}.
+     *
+     * @param <V> the type of cached data
+     * @return a new cache
+     */
+    public static <V> FeedDataCache<V> withGlobalSettings() {
+        final Settings settings = Global.getPropertiesFileSettings();
+        return new FeedDataCache<>(
+                settings.get(Keys.FEED_CACHE_MAX_SIZE),
+                settings.get(Keys.FEED_CACHE_SOFT_REFERENCES));
+    }
+
+    /**
+     * Returns cached data for the given key, loading and caching the data
+     * if it is not present. If the data is being loaded by another thread,
+     * waits for the load to complete instead of loading it again.
+     *
+     * @param key     the cache key
+     * @param version version of the source, or {@code null} if the source is not a file
+     * @param loader  loads the data if it is not cached
+     * @return cached or loaded data
+     */
+    public V getOrLoad(final Object key, @Nullable final SourceVersion version, final Supplier<V> loader) {
+        if (maxSize == 0) {
+            missCount.incrementAndGet();
+            return load(loader);
+        }
+
+        final V cached = get(key, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final CompletableFuture<V> inProgress = loading.putIfAbsent(key, future);
+        if (inProgress != null) {
+            return await(inProgress);
+        }
+
+        try {
+            // another thread may have finished loading the data
+            // between the lookup and registering the future
+            V data = peek(key, version);
+            if (data == null) {
+                data = load(loader);
+                put(key, data, version);
+            }
+            future.complete(data);
+            return data;
+        } catch (RuntimeException | Error ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    private V load(final Supplier<V> loader) {
+        final long start = System.nanoTime();
+        final V data = loader.get();
+        loadCount.incrementAndGet();
+        totalLoadTimeNanos.addAndGet(System.nanoTime() - start);
+        return data;
+    }
+
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    private static <V> V await(final CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            // rethrow the original exception, such as a usage error
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns cached data for the given key, or {@code null} if there
+     * is no entry, the entry's data has been garbage collected, or the
+     * source has been modified since the data was loaded.
+     *
+     * @param key     the cache key
+     * @param version version of the source, or {@code null} if the source is not a file
+     * @return cached data, or {@code null} if not found
+     */
+    @Nullable
+    V get(final Object key, @Nullable final SourceVersion version) {
+        final V data = peek(key, version);
+        if (data == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return data;
+    }
+
+    @Nullable
+    private V peek(final Object key, @Nullable final SourceVersion version) {
+        final Entry<V> entry;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            final V data = entry.reference().get();
+            if (data != null && Objects.equals(entry.version(), version)) {
+                return data;
+            }
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+        close(entry);
+        return null;
+    }
+
+    /**
+     * Adds data to the cache, evicting least recently used
+     * entries if the cache has more than {@code maxSize} entries.
+     */
+    void put(final Object key, final V data, @Nullable final SourceVersion version) {
+        final List<Entry<V>> removed = new ArrayList<>();
+        lock.lock();
+        try {
+            final Entry<V> previous = entries.put(key, Entry.of(data, version, softReferences));
+            if (previous != null) {
+                removed.add(previous);
+            }
+
+            final Iterator<Entry<V>> iter = entries.values().iterator();
+            while (entries.size() > maxSize && iter.hasNext()) {
+                removed.add(iter.next());
+                iter.remove();
+                evictionCount.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+        removed.forEach(FeedDataCache::close);
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    private static void close(final Entry<?> entry) {
+        if (entry.reference().get() instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException ex) {
+                ExceptionUtils.logException("Error closing cached feed data", ex);
+            }
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        final List<Entry<V>> removed;
+        lock.lock();
+        try {
+            removed = new ArrayList<>(entries.values());
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+        removed.forEach(FeedDataCache::close);
+    }
+
+    /**
+     * Clears soft references to cached data, as the garbage collector
+     * would do when memory is low.
+     */
+    @VisibleForTesting
+    void clearSoftReferences() {
+        lock.lock();
+        try {
+            entries.values().forEach(entry -> entry.reference().clear());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(size(), hitCount.get(), missCount.get(),
+                evictionCount.get(), loadCount.get(), totalLoadTimeNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        final CacheStats stats = getStats();
+        return String.format("FeedDataCache[size=%s, hits=%s, misses=%s, evictions=%s, loads=%s, loadTimeMs=%s]",
+                stats.size(), stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                stats.loadCount(), stats.totalLoadTimeNanos() / 1_000_000);
+    }
+
+    /**
+     * Identifies the contents of a file by its size and last modified time,
+     * so that data is reloaded if the file is modified or truncated.
+     *
+     * @param size         size of the file in bytes
+     * @param lastModified last modified time of the file
+     */
+    public record SourceVersion(long size, FileTime lastModified) {
+
+        /**
+         * Returns the version of the given file, or {@code null}
+         * if the file's attributes cannot be read.
+         */
+        @Nullable
+        public static SourceVersion of(final Path path) {
+            try {
+                final BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                return new SourceVersion(attrs.size(), attrs.lastModifiedTime());
+            } catch (IOException ex) {
+                // the error will be reported when loading the data
+                ExceptionUtils.logException("Could not read attributes of {}", ex, path);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * @param reference holds the data; the data may be {@code null}
+     *                  if the reference is soft and has been cleared
+     * @param version   version of the source, if any
+     */
+    private record Entry<V>(DataReference<V> reference, @Nullable SourceVersion version) {
+
+        static <V> Entry<V> of(final V data, @Nullable final SourceVersion version, final boolean softReference) {
+            final DataReference<V> ref = softReference
+                    ? new SoftDataReference<>(data)
+                    : new StrongDataReference<>(data);
+            return new Entry<>(ref, version);
+        }
+    }
+
+    private interface DataReference<V> {
+        @Nullable
+        V get();
+
+        void clear();
+    }
+
+    private static final class SoftDataReference<V> extends SoftReference<V> implements DataReference<V> {
+        SoftDataReference(final V data) {
+            super(data);
+        }
+    }
+
+    private record StrongDataReference<V>(V data) implements DataReference<V> {
+        @Override
+        public V get() {
+            return data;
+        }
+
+        @Override
+        public void clear() {
+            // strongly held data cannot be reclaimed
+        }
+    }
+}
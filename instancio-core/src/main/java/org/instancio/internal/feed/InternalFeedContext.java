@@ -116,8 +116,9 @@ public final class InternalFeedContext<F extends Feed> {
                 .merge(builder.settings)
                 .lock();
 
-        return new GeneratorContext(
-                settings, RandomHelper.resolveRandom(settings.get(Keys.SEED), null));
+        return new GeneratorContext(settings, RandomHelper.resolveRandom(
+                settings.get(Keys.SEED), null, settings.get(Keys.RANDOM_ALGORITHM),
+                settings.get(Keys.CHARACTER_ALGORITHM)));
     }
 
     @Nullable
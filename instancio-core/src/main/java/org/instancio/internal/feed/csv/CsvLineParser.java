@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.csv;
+
+import org.instancio.settings.FeedDataTrim;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.instancio.settings.FeedDataTrim.UNQUOTED;
+
+/**
+ * Splits a line of CSV data into tokens.
+ * Escape characters are not supported.
+ */
+final class CsvLineParser {
+
+    private final FeedDataTrim feedDataTrim;
+    private final char delimiter;
+
+    CsvLineParser(final InternalCsvFormatOptions formatOptions) {
+        this.feedDataTrim = formatOptions.getFeedDataTrim();
+        this.delimiter = formatOptions.getDelimiter();
+    }
+
+    String[] parseLine(final String line) {
+        if (line.indexOf('"') == -1) {
+            return splitUnquoted(line);
+        }
+        return parseQuoted(line);
+    }
+
+    /**
+     * Fast path for lines that do not contain quotes,
+     * which produces the same result as {@link #parseQuoted(String)}.
+     */
+    private String[] splitUnquoted(final String line) {
+        if (line.isEmpty()) {
+            return new String[0];
+        }
+
+        int count = 1;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == delimiter) {
+                count++;
+            }
+        }
+
+        final String[] tokens = new String[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = line.indexOf(delimiter, start);
+            if (end == -1) {
+                end = line.length();
+            }
+            // empty tokens are left as null
+            if (start != end) {
+                tokens[i] = trimUnquoted(line.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return tokens;
+    }
+
+    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.EmptyControlStatement"})
+    private String[] parseQuoted(final String line) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder currentToken = new StringBuilder();
+        boolean inQuotes = false;
+        boolean isQuotedToken = false;
+        int index = 0;
+        while (index < line.length()) {
+            char currentChar = line.charAt(index);
+
+            if (currentChar == '"') {
+                isQuotedToken = true;
+                if (inQuotes && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                    index++;
+                } else {
+                    inQuotes = !inQuotes;
+                    resetToken(inQuotes, currentToken);
+                }
+            } else if (currentChar == delimiter && !inQuotes) {
+                tokens.add(trimToken(currentToken.toString(), isQuotedToken));
+                currentToken.setLength(0);
+                isQuotedToken = false;
+            } else if (currentChar == ' ' && !inQuotes && isQuotedToken) {
+                // leading whitespaces after quote are skipped
+            } else {
+                currentToken.append(currentChar);
+            }
+            index++;
+            if (index == line.length()) {
+                tokens.add(trimToken(currentToken.toString(), isQuotedToken));
+            }
+        }
+
+        return tokens.toArray(new String[0]);
+    }
+
+    private void resetToken(boolean inQuotes, StringBuilder currentToken) {
+        if (inQuotes) {
+            currentToken.setLength(0);
+        }
+    }
+
+    @Nullable
+    private String trimToken(String token, boolean isQuotedToken) {
+        String result = token;
+        if (result.isEmpty()) {
+            return null;
+        }
+        if (isQuotedToken) {
+            return result;
+        }
+        if (feedDataTrim == UNQUOTED) {
+            return result.trim();
+        }
+        if (result.startsWith("\"") && result.endsWith("\"")) {
+            result = result.substring(1, result.length() - 1);
+        }
+        return result.replace("\"\"", "\"");
+    }
+
+    private String trimUnquoted(final String token) {
+        return feedDataTrim == UNQUOTED ? token.trim() : token;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.instancio.internal.feed.csv;
 
+import org.instancio.feed.DataSource;
 import org.instancio.feed.FormatOptionsProvider.FormatOptions;
 import org.instancio.internal.feed.CachingDataLoader;
 import org.instancio.internal.feed.DataLoader;
@@ -22,7 +23,11 @@ import org.instancio.internal.feed.DataStore;
 import org.instancio.internal.feed.InternalFeed;
 import org.instancio.internal.feed.InternalFeedContext;
 import org.instancio.internal.feed.ResourceHandler;
+import org.instancio.internal.feed.datasource.CacheableDataSource;
+import org.instancio.internal.feed.datasource.FileDataSource;
+import org.jspecify.annotations.Nullable;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.BiFunction;
 
@@ -37,14 +42,32 @@ public final class CsvResourceHandler implements ResourceHandler {
                 ? InternalCsvFormatOptions.defaults(feedContext.getGeneratorContext().getSettings())
                 : options;
 
-        final DataLoader<?> dataLoader = new CsvDataLoader((InternalCsvFormatOptions) csvOptions);
+        final InternalCsvFormatOptions internalCsvOptions = (InternalCsvFormatOptions) csvOptions;
+        final Path path = getPath(feedContext.getDataSource());
+        final DataStore<?> dataStore;
 
-        final BiFunction<String, List<?>, DataStore<?>> tagKeyToDataStoreMapper =
-                (tagKey, data) -> new CsvDataStore(tagKey, (List<String[]>) data);
-
-        final DataStore<?> dataStore = cachingDataLoader.loadData(
-                feedContext, dataLoader, tagKeyToDataStoreMapper);
+        if (internalCsvOptions.isMemoryMapped() && path != null) {
+            final DataLoader<MappedCsvFile> dataLoader = new MappedCsvDataLoader(path, internalCsvOptions);
+            final BiFunction<String, MappedCsvFile, DataStore<?>> tagKeyToDataStoreMapper = MappedCsvDataStore::new;
+            dataStore = cachingDataLoader.loadData(feedContext, dataLoader, tagKeyToDataStoreMapper);
+        } else {
+            final DataLoader<List<String[]>> dataLoader = new CsvDataLoader(internalCsvOptions);
+            final BiFunction<String, List<String[]>, DataStore<?>> tagKeyToDataStoreMapper = CsvDataStore::new;
+            dataStore = cachingDataLoader.loadData(feedContext, dataLoader, tagKeyToDataStoreMapper);
+        }
 
         return new CsvFeed(feedContext, (DataStore<String[]>) dataStore);
     }
+
+    /**
+     * Returns the path if the data source is a file, otherwise {@code null}.
+     */
+    @Nullable
+    private static Path getPath(final DataSource dataSource) {
+        final DataSource source = dataSource instanceof CacheableDataSource cacheableDataSource
+                ? cacheableDataSource.getDelegate()
+                : dataSource;
+
+        return source instanceof FileDataSource fileDataSource ? fileDataSource.getPath() : null;
+    }
 }
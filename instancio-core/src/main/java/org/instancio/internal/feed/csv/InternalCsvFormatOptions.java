@@ -29,6 +29,7 @@ public final class InternalCsvFormatOptions implements FormatOptionsProvider.For
     private final String commentPrefix;
     private final char delimiter;
     private final FeedDataTrim feedDataTrim;
+    private final boolean memoryMapped;
 
     static InternalCsvFormatOptions defaults(final Settings settings) {
         return builder().build(settings);
@@ -40,6 +41,7 @@ public final class InternalCsvFormatOptions implements FormatOptionsProvider.For
         this.feedDataTrim = builder.feedDataTrim != null
                 ? builder.feedDataTrim
                 : settings.get(Keys.FEED_DATA_TRIM);
+        this.memoryMapped = builder.memoryMapped;
     }
 
     private char validateDelimiter(char delimiter) {
@@ -61,6 +63,10 @@ public final class InternalCsvFormatOptions implements FormatOptionsProvider.For
         return feedDataTrim;
     }
 
+    boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -72,6 +78,7 @@ public final class InternalCsvFormatOptions implements FormatOptionsProvider.For
         private String commentPrefix = DEFAULT_COMMENT_PREFIX;
         private char delimiter = DEFAULT_DELIMITER;
         private @Nullable FeedDataTrim feedDataTrim;
+        private boolean memoryMapped;
 
         private Builder() {
             // instantiated via builder()
@@ -95,6 +102,12 @@ public final class InternalCsvFormatOptions implements FormatOptionsProvider.For
             return this;
         }
 
+        @Override
+        public Builder memoryMapped(final boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
         public InternalCsvFormatOptions build(final Settings settings) {
             return new InternalCsvFormatOptions(this, settings);
         }
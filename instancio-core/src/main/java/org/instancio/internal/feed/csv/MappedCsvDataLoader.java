@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.csv;
+
+import org.instancio.feed.DataSource;
+import org.instancio.internal.feed.DataLoader;
+import org.instancio.internal.util.Fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads CSV data from a file by mapping it into memory and indexing
+ * its lines. Unlike {@link CsvDataLoader}, lines are not decoded
+ * when the file is loaded. Lines are terminated by {@code \n},
+ * {@code \r}, or {@code \r\n}, and must be encoded as UTF-8.
+ */
+final class MappedCsvDataLoader implements DataLoader<MappedCsvFile> {
+
+    private final Path path;
+    private final byte[] commentPrefix;
+    private final CsvLineParser lineParser;
+    private final int maxRegionSize;
+
+    MappedCsvDataLoader(final Path path, final InternalCsvFormatOptions formatOptions) {
+        this(path, formatOptions, Integer.MAX_VALUE);
+    }
+
+    // visible for testing
+    MappedCsvDataLoader(final Path path, final InternalCsvFormatOptions formatOptions, final int maxRegionSize) {
+        this.path = path;
+        this.commentPrefix = formatOptions.getCommentPrefix().getBytes(StandardCharsets.UTF_8);
+        this.lineParser = new CsvLineParser(formatOptions);
+        this.maxRegionSize = maxRegionSize;
+    }
+
+    @Override
+    public MappedCsvFile load(final DataSource dataSource) throws IOException {
+        final List<ByteBuffer> regions = new ArrayList<>();
+        final List<Long> regionOffsets = new ArrayList<>();
+        final MappedCsvFile.LineIndex lineIndex = new MappedCsvFile.LineIndex();
+        final FileTime lastModified = Files.getLastModifiedTime(path);
+        final long fileSize;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            fileSize = channel.size();
+            long regionStart = 0;
+
+            // A buffer cannot be larger than Integer.MAX_VALUE, therefore large files
+            // are mapped as multiple regions. A new region starts at the beginning
+            // of the last incomplete line, so that a line is contained within a region.
+            while (regionStart < fileSize) {
+                final int regionSize = (int) Math.min(maxRegionSize, fileSize - regionStart);
+                final boolean isLastRegion = regionStart + regionSize == fileSize;
+                final MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionSize);
+                final int indexedSize = indexLines(region, regions.size(), isLastRegion, lineIndex);
+                regions.add(region);
+                regionOffsets.add(regionStart);
+
+                if (indexedSize == 0) {
+                    throw Fail.withUsageError("line starting at offset %s of %s is too long",
+                            regionStart, dataSource.getName());
+                }
+                regionStart += indexedSize;
+            }
+        } catch (InternalError ex) {
+            // the file was truncated while it was being indexed
+            throw Fail.withUsageError("error reading memory-mapped CSV file %s;"
+                    + " the file may have been modified while it was being loaded", path, ex);
+        }
+
+        return new MappedCsvFile(path, fileSize, lastModified, regions, regionOffsets, lineIndex, lineParser);
+    }
+
+    /**
+     * Adds complete lines of the given region to the index.
+     *
+     * @return the number of bytes up to the start of the last incomplete
+     * line, or the size of the region if this is the last region
+     */
+    private int indexLines(
+            final ByteBuffer region,
+            final int regionIndex,
+            final boolean isLastRegion,
+            final MappedCsvFile.LineIndex lineIndex) {
+
+        final int regionSize = region.limit();
+        int lineStart = 0;
+
+        for (int i = 0; i < regionSize; i++) {
+            final byte b = region.get(i);
+            if (b == '\n' || b == '\r') {
+                indexLine(region, regionIndex, lineStart, i - lineStart, lineIndex);
+                lineStart = i + 1;
+            }
+        }
+
+        if (isLastRegion) {
+            indexLine(region, regionIndex, lineStart, regionSize - lineStart, lineIndex);
+            return regionSize;
+        }
+        return lineStart;
+    }
+
+    private void indexLine(
+            final ByteBuffer region,
+            final int regionIndex,
+            final int lineStart,
+            final int lineLength,
+            final MappedCsvFile.LineIndex lineIndex) {
+
+        if (lineLength > 0 && !isComment(region, lineStart, lineLength)) {
+            lineIndex.add(regionIndex, lineStart, lineLength);
+        }
+    }
+
+    private boolean isComment(final ByteBuffer region, final int lineStart, final int lineLength) {
+        if (lineLength < commentPrefix.length) {
+            return false;
+        }
+        for (int i = 0; i < commentPrefix.length; i++) {
+            if (region.get(lineStart + i) != commentPrefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.csv;
+
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.feed.DataStore;
+import org.instancio.internal.util.IntList;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A data store backed by a {@link MappedCsvFile}. Records are decoded
+ * when they are requested. If a tag key is specified, records are
+ * grouped by tag using an index of line numbers.
+ */
+final class MappedCsvDataStore implements DataStore<String[]>, Closeable {
+
+    private final MappedCsvFile file;
+    private final String tagKey;
+    private final Map<String, Integer> fieldIndexMap;
+    private final Map<String, List<String[]>> groupedByTag;
+    private final List<String> tagKeys;
+
+    MappedCsvDataStore(final String tagKey, final MappedCsvFile file) {
+        ApiValidator.isFalse(file.size() == 0, "empty data source");
+        this.file = file;
+        this.tagKey = tagKey;
+        this.fieldIndexMap = createFieldIndexMap(file.getLine(0));
+        this.groupedByTag = groupDataByTag();
+        this.tagKeys = unmodifiableList(new ArrayList<>(groupedByTag.keySet()));
+    }
+
+    private static Map<String, Integer> createFieldIndexMap(final String... headers) {
+        final Map<String, Integer> fieldIndexMap = new LinkedHashMap<>();
+
+        for (int i = 0; i < headers.length; i++) {
+            fieldIndexMap.put(headers[i], i);
+        }
+        return fieldIndexMap;
+    }
+
+    private Map<String, List<String[]>> groupDataByTag() {
+        final Map<String, List<String[]>> map = new HashMap<>();
+        final int tagIndex = fieldIndexMap.getOrDefault(tagKey, -1);
+
+        if (tagIndex == -1) {
+            map.put(null, new LineList(null, file.size() - 1));
+            return map;
+        }
+
+        // Group line numbers by tag, starting from 1 to skip column headers.
+        // Records are decoded to obtain the tag, but are not retained.
+        final Map<String, IntList> lineNumbersByTag = new LinkedHashMap<>();
+        for (int i = 1; i < file.size(); i++) {
+            final String[] row = file.getLine(i);
+            final String tag = tagIndex >= row.length ? null : row[tagIndex];
+            lineNumbersByTag.computeIfAbsent(tag, k -> new IntList()).add(i);
+        }
+
+        lineNumbersByTag.forEach((tag, lineNumbers) ->
+                map.put(tag, new LineList(lineNumbers, lineNumbers.size())));
+        return map;
+    }
+
+    @Override
+    public List<String[]> get(final String tagValue) {
+        final List<String[]> tagData = groupedByTag.get(tagValue);
+        return ApiValidator.notNull(tagData, () -> String.format(
+                "no data found with tag value: '%s' (tagKey is set to: '%s')", tagValue, tagKey));
+    }
+
+    @Override
+    public String[] get(final int index) {
+        // offset by one to exclude the header row
+        return file.getLine(index + 1);
+    }
+
+    @Override
+    public Set<String> getPropertyKeys() {
+        return fieldIndexMap.keySet();
+    }
+
+    @Override
+    public List<String> getTagKeys() {
+        return tagKeys;
+    }
+
+    @Override
+    public int indexOf(final String propertyName) {
+        return fieldIndexMap.getOrDefault(propertyName, -1);
+    }
+
+    @Override
+    public boolean contains(final String propertyName) {
+        return fieldIndexMap.containsKey(propertyName);
+    }
+
+    @Override
+    public int size() {
+        // exclude header row
+        return file.size() - 1;
+    }
+
+    /**
+     * Releases the mapped regions of the file.
+     *
+     * @see MappedCsvFile#close()
+     */
+    @Override
+    public void close() {
+        file.close();
+    }
+
+    /**
+     * A view of records with the given line numbers,
+     * or all records if line numbers are {@code null}.
+     */
+    private final class LineList extends AbstractList<String[]> implements RandomAccess {
+        private final @Nullable IntList lineNumbers;
+        private final int size;
+
+        LineList(@Nullable final IntList lineNumbers, final int size) {
+            this.lineNumbers = lineNumbers;
+            this.size = size;
+        }
+
+        @Override
+        public String[] get(final int index) {
+            return lineNumbers == null
+                    ? MappedCsvDataStore.this.get(index)
+                    : file.getLine(lineNumbers.get(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
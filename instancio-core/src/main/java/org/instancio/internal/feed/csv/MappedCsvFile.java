@@ -0,0 +1,260 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.csv;
+
+import org.instancio.internal.util.ExceptionUtils;
+import org.instancio.internal.util.Fail;
+import org.instancio.internal.util.ReflectionUtils;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A memory-mapped CSV file with an index of its lines. The index
+ * contains only the offset and length of each line, and lines are
+ * decoded on demand. Therefore, heap usage does not depend on
+ * the length of the lines.
+ *
+ * <p>Empty lines and comments are not included in the index,
+ * therefore the line at index zero is the header.
+ *
+ * <p>{@link #close()} releases the mapped regions. Since a closed file
+ * may still be referenced by a feed, the regions are mapped again if
+ * a line is requested after the file has been closed, provided that
+ * the file has not been modified since it was loaded.
+ */
+final class MappedCsvFile implements Closeable {
+
+    private static final boolean IS_UNSAFE_AVAILABLE = ReflectionUtils.loadClass("sun.misc.Unsafe") != null;
+
+    private final Path path;
+    private final long fileSize;
+    private final FileTime lastModified;
+    private final long[] regionOffsets;
+    private final int[] regionSizes;
+    private final LineIndex lineIndex;
+    private final CsvLineParser lineParser;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private ByteBuffer @Nullable [] regions;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param path          of the file
+     * @param fileSize      size of the file when it was mapped
+     * @param lastModified  last modified time of the file when it was mapped
+     * @param regions       mapped regions of the file
+     * @param regionOffsets offset of each region within the file
+     * @param lineIndex     offsets and lengths of the lines
+     * @param lineParser    for splitting lines into tokens
+     */
+    MappedCsvFile(
+            final Path path,
+            final long fileSize,
+            final FileTime lastModified,
+            final List<ByteBuffer> regions,
+            final List<Long> regionOffsets,
+            final LineIndex lineIndex,
+            final CsvLineParser lineParser) {
+
+        this.path = path;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.regions = regions.toArray(new ByteBuffer[0]);
+        this.regionOffsets = regionOffsets.stream().mapToLong(Long::longValue).toArray();
+        this.regionSizes = regions.stream().mapToInt(ByteBuffer::capacity).toArray();
+        this.lineIndex = lineIndex;
+        this.lineParser = lineParser;
+    }
+
+    /**
+     * Returns the number of lines, including the header.
+     */
+    int size() {
+        return lineIndex.size;
+    }
+
+    /**
+     * Decodes the line with the given index and splits it into tokens.
+     * This method is thread-safe since it does not modify buffer positions.
+     *
+     * @param index of the line
+     * @return tokens of the line
+     */
+    String[] getLine(final int index) {
+        Objects.checkIndex(index, lineIndex.size);
+        final long offset = lineIndex.offsets[index];
+        final byte[] bytes = new byte[lineIndex.lengths[index]];
+
+        final ByteBuffer[] mappedRegions = acquireRegions();
+        try {
+            mappedRegions[(int) (offset >>> 32)].get((int) offset, bytes);
+        } catch (InternalError ex) {
+            // Accessing a mapped region of a truncated file
+            // results in an error instead of a SIGBUS
+            throw Fail.withUsageError("error reading line %s of memory-mapped CSV file %s;"
+                    + " the file may have been modified after it was loaded", index, path, ex);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return lineParser.parseLine(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the mapped regions, mapping them if the file has been
+     * closed. The read lock is held when this method returns, so that
+     * the regions are not released while they are being read.
+     */
+    private ByteBuffer[] acquireRegions() {
+        lock.readLock().lock();
+        ByteBuffer[] mappedRegions = regions;
+        if (mappedRegions != null) {
+            return mappedRegions;
+        }
+
+        lock.readLock().unlock();
+        lock.writeLock().lock();
+        try {
+            mappedRegions = regions;
+            if (mappedRegions == null) {
+                mappedRegions = map();
+                regions = mappedRegions;
+            }
+            // downgrade to the read lock
+            lock.readLock().lock();
+            return mappedRegions;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private ByteBuffer[] map() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != fileSize || !lastModified.equals(Files.getLastModifiedTime(path))) {
+                throw Fail.withUsageError("memory-mapped CSV file %s has been modified after it was loaded", path);
+            }
+            final ByteBuffer[] mappedRegions = new ByteBuffer[regionSizes.length];
+            for (int i = 0; i < mappedRegions.length; i++) {
+                mappedRegions[i] = channel.map(FileChannel.MapMode.READ_ONLY, regionOffsets[i], regionSizes[i]);
+            }
+            return mappedRegions;
+        } catch (IOException ex) {
+            throw Fail.withUsageError("error mapping CSV file %s", path, ex);
+        }
+    }
+
+    /**
+     * Releases the mapped regions. If {@code sun.misc.Unsafe} is not
+     * available, the regions are released when they are garbage collected.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (regions != null && IS_UNSAFE_AVAILABLE) {
+                for (ByteBuffer region : regions) {
+                    Unmapper.unmap(region);
+                }
+            }
+            regions = null; //NOPMD
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * An index of lines, containing the index of the region in the
+     * high 32 bits and the offset of the line within the region
+     * in the low 32 bits, as well as the length of each line in bytes.
+     */
+    static final class LineIndex {
+        private static final int INITIAL_CAPACITY = 1024;
+        private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+        private long[] offsets = new long[INITIAL_CAPACITY];
+        private int[] lengths = new int[INITIAL_CAPACITY];
+        private int size;
+
+        void add(final int region, final int offset, final int length) {
+            if (size == offsets.length) {
+                final int newCapacity = newCapacity(size);
+                offsets = Arrays.copyOf(offsets, newCapacity);
+                lengths = Arrays.copyOf(lengths, newCapacity);
+            }
+            offsets[size] = (long) region << 32 | offset;
+            lengths[size] = length;
+            size++;
+        }
+
+        private static int newCapacity(final int size) {
+            if (size == MAX_CAPACITY) {
+                throw Fail.withUsageError("CSV data source has too many lines");
+            }
+            return (int) Math.min((long) size * 2, MAX_CAPACITY);
+        }
+    }
+
+    /**
+     * This class should only be used if {@code sun.misc.Unsafe}
+     * is available, otherwise class not found error will be thrown.
+     */
+    @SuppressWarnings("all")
+    private static final class Unmapper {
+
+        // avoid import to prevent PMD/Checkstyle warnings
+        private static final sun.misc.Unsafe UNSAFE = getUnsafe();
+
+        static void unmap(final ByteBuffer buffer) {
+            if (UNSAFE == null) {
+                return;
+            }
+            try {
+                UNSAFE.invokeCleaner(buffer);
+            } catch (Exception ex) {
+                ExceptionUtils.logException("Error unmapping buffer", ex);
+            }
+        }
+
+        private static sun.misc.Unsafe getUnsafe() {
+            try {
+                final Field[] fields = sun.misc.Unsafe.class.getDeclaredFields();
+                for (Field field : fields) {
+                    ReflectionUtils.setAccessible(field);
+                    final Object obj = field.get(null);
+                    if (obj instanceof sun.misc.Unsafe) {
+                        return (sun.misc.Unsafe) obj;
+                    }
+                }
+            } catch (Throwable t) {
+                ExceptionUtils.logException("Error getting Unsafe", t);
+            }
+            return null;
+        }
+    }
+}
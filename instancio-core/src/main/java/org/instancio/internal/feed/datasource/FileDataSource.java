@@ -31,6 +31,10 @@ public class FileDataSource implements DataSource {
         this.path = path;
     }
 
+    public Path getPath() {
+        return path;
+    }
+
     @Override
     public String getName() {
         return path.toString();
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.json;
+
+import org.instancio.internal.util.Fail;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores JSON records in a columnar form, where each column contains
+ * the values of a property encoded as UTF-8. Values are decoded when
+ * they are requested. Columns are in the order the properties first
+ * appear in the data.
+ */
+final class JsonColumns {
+
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+    private int size;
+
+    /**
+     * Adds a new record without any properties.
+     *
+     * @return index of the record
+     */
+    int addRecord() {
+        return size++;
+    }
+
+    void set(final String property, final int index, final String value) {
+        columns.computeIfAbsent(property, k -> new Column()).set(index, value);
+    }
+
+    @Nullable
+    String get(final String property, final int index) {
+        final Column column = columns.get(property);
+        return column == null ? null : column.get(index);
+    }
+
+    /**
+     * Returns properties of the record with the given index,
+     * in the order they first appear in the data.
+     */
+    List<String> getProperties(final int index) {
+        final List<String> properties = new ArrayList<>();
+        for (Map.Entry<String, Column> entry : columns.entrySet()) {
+            if (entry.getValue().contains(index)) {
+                properties.add(entry.getKey());
+            }
+        }
+        return properties;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Releases unused capacity once all records have been added.
+     */
+    void trimToSize() {
+        for (Column column : columns.values()) {
+            column.trimToSize(size);
+        }
+    }
+
+    private static final class Column {
+        private static final int ABSENT = -1;
+        private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+        private byte[] data = new byte[64];
+        private int dataSize;
+        private int[] offsets = new int[0];
+        private int[] lengths = new int[0];
+
+        void set(final int index, final String value) {
+            if (index >= lengths.length) {
+                final int oldCapacity = lengths.length;
+                final int newCapacity = Math.max(index + 1, oldCapacity * 2);
+                offsets = Arrays.copyOf(offsets, newCapacity);
+                lengths = Arrays.copyOf(lengths, newCapacity);
+                Arrays.fill(lengths, oldCapacity, newCapacity, ABSENT);
+            }
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > data.length - dataSize) {
+                final long required = (long) dataSize + bytes.length;
+                if (required > MAX_CAPACITY) {
+                    throw Fail.withUsageError("JSON feed data is too large");
+                }
+                data = Arrays.copyOf(data, (int) Math.min(MAX_CAPACITY, Math.max(required, (long) data.length * 2)));
+            }
+            System.arraycopy(bytes, 0, data, dataSize, bytes.length);
+            offsets[index] = dataSize;
+            lengths[index] = bytes.length;
+            dataSize += bytes.length;
+        }
+
+        @Nullable
+        String get(final int index) {
+            if (index >= lengths.length || lengths[index] == ABSENT) {
+                return null;
+            }
+            return new String(data, offsets[index], lengths[index], StandardCharsets.UTF_8);
+        }
+
+        boolean contains(final int index) {
+            return index < lengths.length && lengths[index] != ABSENT;
+        }
+
+        void trimToSize(final int size) {
+            data = Arrays.copyOf(data, dataSize);
+            offsets = Arrays.copyOf(offsets, Math.min(offsets.length, size));
+            lengths = Arrays.copyOf(lengths, Math.min(lengths.length, size));
+        }
+    }
+}
@@ -18,15 +18,24 @@ package org.instancio.internal.feed.json;
 import org.instancio.feed.DataSource;
 import org.instancio.internal.feed.DataLoader;
 import org.instancio.internal.util.Fail;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.NullNode;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static org.instancio.internal.util.ErrorMessageUtils.jacksonNotOnClasspathErrorMessage;
 
-public final class JsonDataLoader implements DataLoader<List<JsonNode>> {
+/**
+ * Loads an array of JSON objects using a streaming parser.
+ *
+ * <p>Records are stored in {@link JsonColumns} instead of a tree
+ * of {@link JsonNode} objects. Scalar values are converted to strings
+ * as they are read, producing the same values as {@link JsonNode#asString()}.
+ */
+public final class JsonDataLoader implements DataLoader<List<JsonRecord>> {
 
     // Lazy singleton to force NoClassDefFoundError during load() invocation
     // rather than class loading when Jackson is not on the classpath
@@ -35,16 +44,66 @@ public final class JsonDataLoader implements DataLoader<List<JsonNode>> {
     }
 
     @Override
-    public List<JsonNode> load(final DataSource dataSource) throws Exception {
-        try {
-            final JsonNode jsonNode = Holder.OBJECT_MAPPER.readTree(getInputStream(dataSource));
-            final List<JsonNode> results = new ArrayList<>(jsonNode.size());
-            for (int i = 0; i < jsonNode.size(); i++) {
-                results.add(jsonNode.get(i));
-            }
-            return results;
+    public List<JsonRecord> load(final DataSource dataSource) throws Exception {
+        try (JsonParser parser = Holder.OBJECT_MAPPER.createParser(getInputStream(dataSource))) {
+            final JsonColumns columns = readRecords(parser);
+            columns.trimToSize();
+            return new JsonRecordList(columns);
         } catch (NoClassDefFoundError error) {
             throw Fail.withUsageError(jacksonNotOnClasspathErrorMessage(), error);
         }
     }
+
+    private static JsonColumns readRecords(final JsonParser parser) {
+        final JsonColumns columns = new JsonColumns();
+
+        final JsonToken firstToken = parser.nextToken();
+        if (firstToken == null) {
+            return columns;
+        }
+        if (firstToken != JsonToken.START_ARRAY) {
+            throw Fail.withUsageError("expected JSON data to be an array of objects");
+        }
+
+        JsonToken token = parser.nextToken();
+        while (token != null && token != JsonToken.END_ARRAY) {
+            final int index = columns.addRecord();
+
+            if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                    final String property = parser.currentName();
+                    parser.nextToken();
+                    columns.set(property, index, readValue(parser));
+                }
+            } else {
+                // elements that are not objects have no properties
+                parser.skipChildren();
+            }
+            token = parser.nextToken();
+        }
+        return columns;
+    }
+
+    private static String readValue(final JsonParser parser) {
+        final JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getString();
+        } else if (token == JsonToken.VALUE_NUMBER_INT) {
+            // Integer, Long, or BigInteger, matching the JsonNode type
+            return parser.getNumberValue().toString();
+        } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            // floating point numbers are read as DoubleNode by default
+            return String.valueOf(parser.getDoubleValue());
+        } else if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return String.valueOf(parser.getBooleanValue());
+        } else if (token == JsonToken.VALUE_NULL) {
+            return NullNode.getInstance().asString();
+        }
+
+        // Nested objects and arrays are rare in feed data,
+        // therefore they are read as a tree
+        final JsonNode node = Holder.OBJECT_MAPPER.readTree(parser);
+        return node.asString();
+    }
 }
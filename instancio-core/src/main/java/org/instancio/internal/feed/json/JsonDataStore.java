@@ -16,60 +16,51 @@
 package org.instancio.internal.feed.json;
 
 import org.instancio.internal.feed.AbstractDataStore;
-import tools.jackson.databind.JsonNode;
+import org.instancio.internal.util.IntList;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.RandomAccess;
 
-public class JsonDataStore extends AbstractDataStore<JsonNode> {
+public class JsonDataStore extends AbstractDataStore<JsonRecord> {
 
-    public JsonDataStore(final String tagKey, final List<JsonNode> data) {
+    public JsonDataStore(final String tagKey, final List<JsonRecord> data) {
         super(tagKey, data);
     }
 
     @Override
-    protected Map<String, Integer> createFieldIndexMap(final List<JsonNode> data) {
+    protected Map<String, Integer> createFieldIndexMap(final List<JsonRecord> data) {
         final Map<String, Integer> fieldIndexMap = new LinkedHashMap<>();
-        final JsonNode firstRecord = data.get(0);
-        final Set<Map.Entry<String, JsonNode>> headers = firstRecord.properties();
-        int i = 0;
-        for (Map.Entry<String, JsonNode> entry : headers) {
-            fieldIndexMap.put(entry.getKey(), i);
-            i++;
+        final List<String> headers = data.get(0).getProperties();
+        for (int i = 0; i < headers.size(); i++) {
+            fieldIndexMap.put(headers.get(i), i);
         }
         return fieldIndexMap;
     }
 
     @Override
-    protected Map<String, List<JsonNode>> groupDataByTag(
+    protected Map<String, List<JsonRecord>> groupDataByTag(
             final String tagKey,
             final Map<String, Integer> fieldIndexMap,
-            final List<JsonNode> data) {
+            final List<JsonRecord> data) {
 
-        final Map<String, List<JsonNode>> map = new HashMap<>();
-
-        for (JsonNode entry : data) {
-            final JsonNode node = entry.get(tagKey);
-            final String tag = node == null ? null : node.asString();
-
-            List<JsonNode> tagData = map.get(tag);
-
-            //noinspection Java8MapApi
-            if (tagData == null) {
-                tagData = new ArrayList<>();
-                map.put(tag, tagData);
-            }
-            tagData.add(entry);
+        // Group indices rather than records, since records are created on demand
+        final Map<String, IntList> indicesByTag = new LinkedHashMap<>();
+        for (int i = 0; i < data.size(); i++) {
+            final String tag = data.get(i).get(tagKey);
+            indicesByTag.computeIfAbsent(tag, k -> new IntList()).add(i);
         }
+
+        final Map<String, List<JsonRecord>> map = new HashMap<>();
+        indicesByTag.forEach((tag, indices) -> map.put(tag, new TaggedRecordList(data, indices)));
         return map;
     }
 
     @Override
-    public JsonNode get(final int index) {
+    public JsonRecord get(final int index) {
         return getData().get(index);
     }
 
@@ -77,4 +68,24 @@ public class JsonDataStore extends AbstractDataStore<JsonNode> {
     public int size() {
         return getData().size();
     }
+
+    private static final class TaggedRecordList extends AbstractList<JsonRecord> implements RandomAccess {
+        private final List<JsonRecord> data;
+        private final IntList indices;
+
+        TaggedRecordList(final List<JsonRecord> data, final IntList indices) {
+            this.data = data;
+            this.indices = indices;
+        }
+
+        @Override
+        public JsonRecord get(final int index) {
+            return data.get(indices.get(index));
+        }
+
+        @Override
+        public int size() {
+            return indices.size();
+        }
+    }
 }
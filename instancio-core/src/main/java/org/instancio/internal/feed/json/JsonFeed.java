@@ -20,13 +20,12 @@ import org.instancio.internal.feed.DataStore;
 import org.instancio.internal.feed.InternalFeedContext;
 import org.instancio.internal.util.Verify;
 import org.jspecify.annotations.Nullable;
-import tools.jackson.databind.JsonNode;
 
-class JsonFeed extends AbstractFeed<JsonNode> {
+class JsonFeed extends AbstractFeed<JsonRecord> {
 
     JsonFeed(
             final InternalFeedContext<?> feedContext,
-            final DataStore<JsonNode> dataStore) {
+            final DataStore<JsonRecord> dataStore) {
 
         super(feedContext, dataStore);
     }
@@ -36,10 +35,9 @@ class JsonFeed extends AbstractFeed<JsonNode> {
     protected String getValue(final String propertyKey) {
         // We don't need the value, just fail if property key not found
         getPropertyIndex(propertyKey);
-        final JsonNode currentEntry = Verify.notNull(getCurrentEntry(),
+        final JsonRecord currentEntry = Verify.notNull(getCurrentEntry(),
                 "currentEntry is null; propertyKey: %s", propertyKey);
 
-        final JsonNode node = currentEntry.get(propertyKey);
-        return node == null ? null : node.asString();
+        return currentEntry.get(propertyKey);
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.json;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A JSON record backed by {@link JsonColumns}.
+ */
+final class JsonRecord {
+
+    private final JsonColumns columns;
+    private final int index;
+
+    JsonRecord(final JsonColumns columns, final int index) {
+        this.columns = columns;
+        this.index = index;
+    }
+
+    /**
+     * Returns the value of the given property as a string,
+     * or {@code null} if the record does not have the property.
+     */
+    @Nullable
+    String get(final String property) {
+        return columns.get(property, index);
+    }
+
+    List<String> getProperties() {
+        return columns.getProperties(index);
+    }
+}
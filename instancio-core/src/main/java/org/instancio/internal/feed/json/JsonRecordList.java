@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.json;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * A list of records that creates each {@link JsonRecord} on demand.
+ */
+final class JsonRecordList extends AbstractList<JsonRecord> implements RandomAccess {
+
+    private final JsonColumns columns;
+
+    JsonRecordList(final JsonColumns columns) {
+        this.columns = columns;
+    }
+
+    @Override
+    public JsonRecord get(final int index) {
+        if (index < 0 || index >= columns.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + columns.size());
+        }
+        return new JsonRecord(columns, index);
+    }
+
+    @Override
+    public int size() {
+        return columns.size();
+    }
+}
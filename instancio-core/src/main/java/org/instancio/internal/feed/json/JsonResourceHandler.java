@@ -21,7 +21,6 @@ import org.instancio.internal.feed.DataStore;
 import org.instancio.internal.feed.InternalFeed;
 import org.instancio.internal.feed.InternalFeedContext;
 import org.instancio.internal.feed.ResourceHandler;
-import tools.jackson.databind.JsonNode;
 
 import java.util.List;
 import java.util.function.BiFunction;
@@ -32,14 +31,13 @@ public final class JsonResourceHandler implements ResourceHandler {
 
     @Override
     public InternalFeed createFeed(final InternalFeedContext<?> feedContext) {
-        final DataLoader<?> dataLoader = new JsonDataLoader();
+        final DataLoader<List<JsonRecord>> dataLoader = new JsonDataLoader();
 
-        final BiFunction<String, List<?>, DataStore<?>> tagKeyToDataStoreMapper =
-                (tagKey, data) -> new JsonDataStore(tagKey, (List<JsonNode>) data);
+        final BiFunction<String, List<JsonRecord>, DataStore<?>> tagKeyToDataStoreMapper = JsonDataStore::new;
 
         final DataStore<?> dataStore = cachingDataLoader.loadData(
                 feedContext, dataLoader, tagKeyToDataStoreMapper);
 
-        return new JsonFeed(feedContext, (DataStore<JsonNode>) dataStore);
+        return new JsonFeed(feedContext, (DataStore<JsonRecord>) dataStore);
     }
 }
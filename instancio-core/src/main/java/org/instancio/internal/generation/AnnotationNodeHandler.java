@@ -34,7 +34,10 @@ import org.instancio.spi.InstancioServiceProvider.AnnotationProcessor;
 import org.jspecify.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 
@@ -52,6 +55,14 @@ import static java.util.Objects.requireNonNull;
  * <p>All of the above is done on a best-effort basis and is not guaranteed
  * to work in all circumstances.
  *
+ * <p>Since annotations are static, a node's generator is resolved and
+ * configured from its annotations only once, when the node is first
+ * visited. Subsequent values for the node are produced by the
+ * cached generator. The generator is not cached if configuring it
+ * draws random values, or if the node has annotations handled by
+ * {@link AnnotationProcessor} SPI methods, which may have side effects.
+ * Such generators are configured for each generated value.
+ *
  * @see AnnotationMap
  */
 final class AnnotationNodeHandler implements NodeHandler {
@@ -65,6 +76,10 @@ final class AnnotationNodeHandler implements NodeHandler {
     private final AnnotationProcessorHelper annotationProcessorMethods;
     private final boolean beanValidationOrJpaEnabled;
 
+    // Fully configured reusable generators keyed by node identity. An empty
+    // value indicates the node has no annotations or no applicable generator.
+    private final Map<InternalNode, Optional<Generator<?>>> generatorCache = new IdentityHashMap<>();
+
     private AnnotationNodeHandler(
             final ModelContext modelContext,
             final GeneratorResolver generatorResolver,
@@ -96,13 +111,62 @@ final class AnnotationNodeHandler implements NodeHandler {
 
     @Override
     public GeneratorResult getResult(final InternalNode node) {
+        final Optional<Generator<?>> cached = generatorCache.get(node);
+        final Generator<?> generator = cached == null
+                ? resolveConfiguredGenerator(node)
+                : cached.orElse(null);
+
+        if (generator == null) {
+            return GeneratorResult.emptyResult();
+        }
+
+        Object obj = generator.generate(modelContext.getRandom());
+
+        // Some generators return a different type than the target class,
+        // e.g. URLGenerator returns a java.net.URL object.
+        // However, the @URL annotation is only applicable to strings.
+        // There might be other types that need to be handled as well,
+        // but so far string seems to be sufficient
+        if (node.getTargetClass() == String.class) {
+            obj = obj == null ? null : obj.toString(); //NOPMD
+        }
+        // It's possible an annotation is placed on a field that
+        // doesn't support it. To avoid an error in such cases,
+        // re-generate the value for the given node using a generator
+        // matching the target class, rather than the primary annotation
+        else if (!isObjectAssignableToNode(node, obj)) {
+            final Generator<?> builtInGenerator = generatorResolver.get(node);
+            if (builtInGenerator == null) {
+                return GeneratorResult.nullResult();
+            }
+            obj = builtInGenerator.generate(modelContext.getRandom());
+        }
+
+        final Object processed = stringPostProcessor.process(obj, node, generator);
+        final Hints hints = requireNonNull(generator.hints(), "Generator hints are null");
+        return GeneratorResult.create(processed, hints);
+    }
+
+    /**
+     * Resolves the generator for the given node and configures it
+     * using the node's annotations, including SPI annotation handlers.
+     * The result is cached unless the generator cannot be reused.
+     *
+     * @param node to resolve the generator for
+     * @return configured generator, or {@code null} if the node
+     * has no annotations or no applicable generator
+     */
+    @Nullable
+    private Generator<?> resolveConfiguredGenerator(final InternalNode node) {
         final Annotation[] annotations = annotationExtractor.getAnnotations(node);
 
         if (annotations.length == 0) {
-            return GeneratorResult.emptyResult();
+            generatorCache.put(node, Optional.empty());
+            return null;
         }
 
         Generator<?> generator;
+        boolean reusable = !hasAnnotationHandlerMethods(annotations);
 
         // AnnotationProcessor SPI can be used with or without
         // Bean Validation/JPA annotations
@@ -111,10 +175,12 @@ final class AnnotationNodeHandler implements NodeHandler {
             generator = getGenerator(node, annotations, annotationMap);
 
             if (generator == null) {
-                return GeneratorResult.emptyResult();
+                generatorCache.put(node, Optional.empty());
+                return null;
             }
 
             for (AnnotationLibraryFacade lib : annotationLibraryFacades) {
+                reusable &= !lib.isRandomised(annotationMap);
                 lib.consumeAnnotations(annotationMap, generator, node.getTargetClass(), generatorContext);
             }
         } else {
@@ -122,37 +188,26 @@ final class AnnotationNodeHandler implements NodeHandler {
         }
 
         if (generator == null) {
-            return GeneratorResult.emptyResult();
+            generatorCache.put(node, Optional.empty());
+            return null;
         }
 
         // Invoke @AnnotationHandler methods defined via SPI
         invokeAnnotationHandlerMethods(node, annotations, generator);
 
-        Object obj = generator.generate(modelContext.getRandom());
-
-        // Some generators return a different type than the target class,
-        // e.g. URLGenerator returns a java.net.URL object.
-        // However, the @URL annotation is only applicable to strings.
-        // There might be other types that need to be handled as well,
-        // but so far string seems to be sufficient
-        if (node.getTargetClass() == String.class) {
-            obj = obj == null ? null : obj.toString(); //NOPMD
+        if (reusable) {
+            generatorCache.put(node, Optional.of(generator));
         }
-        // It's possible an annotation is placed on a field that
-        // doesn't support it. To avoid an error in such cases,
-        // re-generate the value for the given node using a generator
-        // matching the target class, rather than the primary annotation
-        else if (!isObjectAssignableToNode(node, obj)) {
-            final Generator<?> builtInGenerator = generatorResolver.get(node);
-            if (builtInGenerator == null) {
-                return GeneratorResult.nullResult();
+        return generator;
+    }
+
+    private boolean hasAnnotationHandlerMethods(final Annotation... annotations) {
+        for (Annotation annotation : annotations) {
+            if (!annotationProcessorMethods.get(annotation.annotationType()).isEmpty()) {
+                return true;
             }
-            obj = builtInGenerator.generate(modelContext.getRandom());
         }
-
-        final Object processed = stringPostProcessor.process(obj, node, generator);
-        final Hints hints = requireNonNull(generator.hints(), "Generator hints are null");
-        return GeneratorResult.create(processed, hints);
+        return false;
     }
 
     private void invokeAnnotationHandlerMethods(
@@ -74,6 +74,17 @@ public class AssigmentObjectStore implements GenerationListener {
         objectStore.remove(scope);
     }
 
+    /**
+     * Discards all stored values and scopes, leaving
+     * the store ready for populating a new root object.
+     */
+    public void reset() {
+        objectStore.clear();
+        scopes.clear();
+        hasNewValues = false;
+        enterScope();
+    }
+
     @Override
     public void objectCreated(final InternalNode node, final GeneratorResult result) {
         for (TargetSelector destination : context.getAssignmentDestinationSelectors(node)) {
@@ -120,6 +131,7 @@ public class AssigmentObjectStore implements GenerationListener {
         @Override public boolean hasNewValues() { return false; }
         @Override public void enterScope() { /* no-op */ }
         @Override public void exitScope() { /* no-op */ }
+        @Override public void reset() { /* no-op */ }
         @Override public void objectCreated(InternalNode node, GeneratorResult result) { /* no-op */ }
         @Override public GeneratorResult getValue(TargetSelector destination) { return EMPTY_RESULT; }
     }
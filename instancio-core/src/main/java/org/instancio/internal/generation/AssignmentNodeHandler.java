@@ -123,6 +123,10 @@ class AssignmentNodeHandler implements NodeHandler {
         return unresolvedAssignments;
     }
 
+    void reset() {
+        unresolvedAssignments.clear();
+    }
+
     private static boolean isSatisfied(@Nullable final Object object, final Predicate<@Nullable Object> predicate) {
         try {
             return predicate.test(object);
@@ -153,5 +157,10 @@ class AssignmentNodeHandler implements NodeHandler {
         Set<InternalAssignment> getUnresolvedAssignments() {
             return Collections.emptySet();
         }
+
+        @Override
+        void reset() {
+            // no-op
+        }
     }
 }
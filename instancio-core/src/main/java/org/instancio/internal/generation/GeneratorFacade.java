@@ -16,6 +16,7 @@
 package org.instancio.internal.generation;
 
 import org.instancio.exception.InstancioTerminatingException;
+import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.assignment.InternalAssignment;
 import org.instancio.internal.context.ModelContext;
@@ -25,6 +26,8 @@ import org.instancio.internal.generator.SpiGeneratorResolver;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.Format;
+import org.instancio.internal.util.Sonar;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,7 +42,10 @@ public class GeneratorFacade {
     private final AssignmentNodeHandler assignmentNodeHandler;
     private final NodeHandler userSuppliedGeneratorHandler;
     private final GeneratedPojoStore generatedPojoStore;
-    private final List<NodeHandler> nodeHandlers = new ArrayList<>();
+    private final GeneratorResolver generatorResolver;
+    private final UsingGeneratorResolverHandler builtInGeneratorHandler;
+    private final NodeHandler[] nodeHandlers;
+    private final boolean builtInGeneratorsOnly;
 
     public GeneratorFacade(final ModelContext context, final AssigmentObjectStore assigmentObjectStore) {
         this.context = context;
@@ -48,7 +54,7 @@ public class GeneratorFacade {
         final GeneratorContext generatorContext = new GeneratorContext(
                 context.getSettings(), context.getRandom());
 
-        final GeneratorResolver generatorResolver = new GeneratorResolver(generatorContext);
+        generatorResolver = new GeneratorResolver(generatorContext);
         final SpiGeneratorResolver spiGeneratorResolver = new SpiGeneratorResolver(
                 context, generatorContext, generatorResolver);
 
@@ -59,17 +65,28 @@ public class GeneratorFacade {
         userSuppliedGeneratorHandler = UserSuppliedGeneratorHandler.create(context, userSuppliedGeneratorProcessor);
 
         // handlers in order of precedence, starting from highest
-        addHandler(assignmentNodeHandler);
-        addHandler(userSuppliedGeneratorHandler);
-        addHandler(new SpiGeneratorNodeHandler(context, spiGeneratorResolver));
-        addHandler(AnnotationNodeHandler.create(context, generatorResolver));
-        addHandler(new UsingGeneratorResolverHandler(context, generatorResolver));
-        addHandler(new InstantiatingHandler(context));
+        final List<NodeHandler> handlers = new ArrayList<>();
+        addHandler(handlers, assignmentNodeHandler);
+        addHandler(handlers, userSuppliedGeneratorHandler);
+        addHandler(handlers, new SpiGeneratorNodeHandler(context, spiGeneratorResolver));
+        final NodeHandler annotationNodeHandler = AnnotationNodeHandler.create(context, generatorResolver);
+        addHandler(handlers, annotationNodeHandler);
+        builtInGeneratorHandler = new UsingGeneratorResolverHandler(context, generatorResolver);
+        addHandler(handlers, builtInGeneratorHandler);
+        addHandler(handlers, new InstantiatingHandler(context));
+
+        // an array avoids creating an iterator for each node
+        nodeHandlers = handlers.toArray(new NodeHandler[0]);
+
+        // true if values can only be produced by built-in generators
+        builtInGeneratorsOnly = context.getSelectorMaps().allEmpty()
+                && context.getServiceProviders().getGeneratorProviders().isEmpty()
+                && annotationNodeHandler == NodeHandler.NOOP_HANDLER;
     }
 
-    private void addHandler(final NodeHandler handler) {
+    private static void addHandler(final List<NodeHandler> handlers, final NodeHandler handler) {
         if (handler != NodeHandler.NOOP_HANDLER) {
-            nodeHandlers.add(handler);
+            handlers.add(handler);
         }
     }
 
@@ -94,6 +111,48 @@ public class GeneratorFacade {
         }
     }
 
+    /**
+     * Returns the built-in generator for the given node, provided that
+     * the node's values can only be produced by this generator. That is,
+     * there are no selectors, SPI generators, or annotation processors
+     * that could apply to the node.
+     *
+     * <p>This allows generating multiple values for a node, for example
+     * array elements, without going through node handlers for each value.
+     * The values are identical to those produced by
+     * {@link #generateNodeValue(InternalNode)}, given the same random.
+     *
+     * @param node to get the generator for
+     * @return the generator, or {@code null} if values may be produced
+     * by something other than a built-in generator
+     */
+    @Nullable
+    @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
+    public Generator<?> getExclusiveBuiltInGenerator(final InternalNode node) {
+        if (!builtInGeneratorsOnly || node.isIgnored() || node.isCyclic()) {
+            return null;
+        }
+        return generatorResolver.getCached(node);
+    }
+
+    /**
+     * Generates a value for the given node using the generator returned by
+     * {@link #getExclusiveBuiltInGenerator(InternalNode)}. The value is
+     * identical to that produced by {@link #generateNodeValue(InternalNode)},
+     * given the same random, but no {@link GeneratorResult} is created.
+     *
+     * @param node      to generate the value for
+     * @param generator the node's exclusive built-in generator
+     * @return the generated value, or {@code null} if a null was generated
+     */
+    @Nullable
+    public Object generateExclusiveValue(final InternalNode node, final Generator<?> generator) {
+        if (shouldReturnNullForNullable(node)) {
+            return null;
+        }
+        return builtInGeneratorHandler.generateValue(node, generator);
+    }
+
     private boolean shouldReturnNullForNullable(final InternalNode node) {
         final boolean precondition = context.isNullable(node);
         return context.getRandom().diceRoll(precondition);
@@ -134,4 +193,12 @@ public class GeneratorFacade {
     public Set<InternalAssignment> getUnresolvedAssignments() {
         return assignmentNodeHandler.getUnresolvedAssignments();
     }
+
+    /**
+     * Resets state specific to a root object, so that this instance
+     * can be reused for creating another root object.
+     */
+    public void reset() {
+        assignmentNodeHandler.reset();
+    }
 }
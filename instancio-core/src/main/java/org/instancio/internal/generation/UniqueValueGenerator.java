@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generation;
+
+import org.instancio.generator.Generator;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.generator.unique.FiniteValueGenerator;
+import org.instancio.internal.generator.unique.UniqueValueFilter;
+import org.instancio.internal.generator.unique.ValueDomain;
+import org.instancio.internal.nodes.InternalNode;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generates values for nodes, producing values of {@code withUnique()}
+ * nodes directly from the generator's {@link ValueDomain} if it has one.
+ * Otherwise, values are generated as usual, and duplicates are
+ * discarded by the filter.
+ */
+final class UniqueValueGenerator {
+
+    private final ModelContext context;
+
+    UniqueValueGenerator(final ModelContext context) {
+        this.context = context;
+    }
+
+    @Nullable
+    Object generate(final InternalNode node, final Generator<?> generator) {
+        final Object value = nextUniqueValue(node, generator);
+        return value == null ? generator.generate(context.getRandom()) : value;
+    }
+
+    @Nullable
+    private Object nextUniqueValue(final InternalNode node, final Generator<?> generator) {
+        if (!(generator instanceof FiniteValueGenerator finiteValueGenerator)) {
+            return null;
+        }
+        final UniqueValueFilter filter = context.getUniqueValueFilter(node);
+        if (filter == null) {
+            return null;
+        }
+        final ValueDomain<?> domain = finiteValueGenerator.getValueDomain();
+        return domain == null ? null : filter.nextValue(domain, context.getRandom());
+    }
+}
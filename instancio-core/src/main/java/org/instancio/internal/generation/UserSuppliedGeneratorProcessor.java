@@ -44,6 +44,7 @@ public final class UserSuppliedGeneratorProcessor {
     private final GeneratorResolver generatorResolver;
     private final SpiGeneratorResolver spiGeneratorResolver;
     private final EmitGeneratorHelper emitGeneratorHelper;
+    private final UniqueValueGenerator uniqueValueGenerator;
 
     public UserSuppliedGeneratorProcessor(
             final ModelContext context,
@@ -54,6 +55,7 @@ public final class UserSuppliedGeneratorProcessor {
         this.generatorResolver = generatorResolver;
         this.spiGeneratorResolver = spiGeneratorResolver;
         this.emitGeneratorHelper = new EmitGeneratorHelper(context);
+        this.uniqueValueGenerator = new UniqueValueGenerator(context);
     }
 
     GeneratorResult getGeneratorResult(final InternalNode node, final Generator<?> g) {
@@ -75,7 +77,7 @@ public final class UserSuppliedGeneratorProcessor {
             return GeneratorResult.emptyResult();
         }
 
-        final Object value = generator.generate(context.getRandom());
+        final Object value = uniqueValueGenerator.generate(node, generator);
         return GeneratorResult.create(value, hints);
     }
 
@@ -26,18 +26,18 @@ import org.instancio.settings.Keys;
 
 class UsingGeneratorResolverHandler implements NodeHandler {
 
-    private final ModelContext context;
     private final GeneratorResolver generatorResolver;
     private final GeneratedValuePostProcessor stringPostProcessor;
+    private final UniqueValueGenerator uniqueValueGenerator;
 
     UsingGeneratorResolverHandler(
             final ModelContext context,
             final GeneratorResolver generatorResolver) {
 
-        this.context = context;
         this.generatorResolver = generatorResolver;
         this.stringPostProcessor = new StringPrefixingPostProcessor(
                 context.getSettings().get(Keys.STRING_FIELD_PREFIX_ENABLED));
+        this.uniqueValueGenerator = new UniqueValueGenerator(context);
     }
 
     @Override
@@ -48,9 +48,13 @@ class UsingGeneratorResolverHandler implements NodeHandler {
             return GeneratorResult.emptyResult();
         }
 
-        final Object value = generator.generate(context.getRandom());
-        final Object processed = stringPostProcessor.process(value, node, generator);
+        final Object processed = generateValue(node, generator);
         final Hints hints = Verify.notNull(generator.hints(), "Built-in generator hints are null");
         return GeneratorResult.create(processed, hints);
     }
+
+    Object generateValue(final InternalNode node, final Generator<?> generator) {
+        final Object value = uniqueValueGenerator.generate(node, generator);
+        return stringPostProcessor.process(value, node, generator);
+    }
 }
@@ -20,6 +20,8 @@ import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.NumberGeneratorSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.generator.unique.IntegralValueDomain;
+import org.instancio.internal.generator.unique.ValueDomain;
 import org.instancio.internal.util.Range;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.NullUnmarked;
@@ -96,6 +98,23 @@ public abstract class AbstractRandomNumberGeneratorSpec<T extends @Nullable Numb
         return tryGenerateNonNull(random);
     }
 
+    /**
+     * Returns the domain of values of an integral number generator.
+     *
+     * @param type boxed type of generated values
+     * @param <N>  number type
+     * @return the domain, or {@code null} if values cannot be enumerated,
+     * i.e. the generator is nullable, has multiple ranges to choose from,
+     * or its range is too large
+     */
+    @Nullable
+    protected final <N extends Number> ValueDomain<N> getIntegralValueDomain(final Class<N> type) {
+        if (isNullable() || rangeStack.size() > 1) {
+            return null;
+        }
+        return IntegralValueDomain.of(type, min.longValue(), max.longValue());
+    }
+
     private void setRange(final Random random) {
         // if range() and min()/max() are used at the same time, range() takes precedence
         // therefore, it's ok to overwrite the min/max fields
@@ -18,10 +18,13 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.ByteSpec;
+import org.instancio.internal.generator.unique.FiniteValueGenerator;
+import org.instancio.internal.generator.unique.ValueDomain;
 import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
 
 public class ByteGenerator extends AbstractRandomComparableNumberGeneratorSpec<Byte>
-        implements ByteSpec {
+        implements ByteSpec, FiniteValueGenerator {
 
     public ByteGenerator(final GeneratorContext context) {
         super(context,
@@ -69,4 +72,10 @@ public class ByteGenerator extends AbstractRandomComparableNumberGeneratorSpec<B
     protected Byte tryGenerateNonNull(final Random random) {
         return random.byteRange(getMin(), getMax());
     }
+
+    @Nullable
+    @Override
+    public ValueDomain<?> getValueDomain() {
+        return getIntegralValueDomain(Byte.class);
+    }
 }
@@ -23,14 +23,18 @@ import org.instancio.generator.specs.EnumSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.InternalGeneratorHint;
+import org.instancio.internal.generator.unique.EnumValueDomain;
+import org.instancio.internal.generator.unique.FiniteValueGenerator;
+import org.instancio.internal.generator.unique.ValueDomain;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Set;
 
 public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E>
-        implements EnumSpec<E> {
+        implements EnumSpec<E>, FiniteValueGenerator {
 
     private final Class<E> enumClass;
     private final Set<E> values;
@@ -77,6 +81,15 @@ public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E>
                 : random.oneOf(valuesWithExclusions);
     }
 
+    @Nullable
+    @Override
+    public ValueDomain<?> getValueDomain() {
+        if (isNullable()) {
+            return null;
+        }
+        return EnumValueDomain.of(new ArrayList<>(valuesWithExclusions.isEmpty() ? values : valuesWithExclusions));
+    }
+
     @Override
     public Hints hints() {
         return Hints.builder()
@@ -18,10 +18,13 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.IntegerSpec;
+import org.instancio.internal.generator.unique.FiniteValueGenerator;
+import org.instancio.internal.generator.unique.ValueDomain;
 import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
 
 public class IntegerGenerator extends AbstractRandomComparableNumberGeneratorSpec<Integer>
-        implements IntegerSpec {
+        implements IntegerSpec, FiniteValueGenerator {
 
     public IntegerGenerator(final GeneratorContext context) {
         super(context,
@@ -70,4 +73,9 @@ public class IntegerGenerator extends AbstractRandomComparableNumberGeneratorSpe
         return random.intRange(getMin(), getMax());
     }
 
+    @Nullable
+    @Override
+    public ValueDomain<?> getValueDomain() {
+        return getIntegralValueDomain(Integer.class);
+    }
 }
@@ -18,10 +18,13 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.LongSpec;
+import org.instancio.internal.generator.unique.FiniteValueGenerator;
+import org.instancio.internal.generator.unique.ValueDomain;
 import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
 
 public class LongGenerator extends AbstractRandomComparableNumberGeneratorSpec<Long>
-        implements LongSpec {
+        implements LongSpec, FiniteValueGenerator {
 
     public LongGenerator(final GeneratorContext context) {
         super(context,
@@ -69,4 +72,10 @@ public class LongGenerator extends AbstractRandomComparableNumberGeneratorSpec<L
     protected Long tryGenerateNonNull(final Random random) {
         return random.longRange(getMin(), getMax());
     }
+
+    @Nullable
+    @Override
+    public ValueDomain<?> getValueDomain() {
+        return getIntegralValueDomain(Long.class);
+    }
 }
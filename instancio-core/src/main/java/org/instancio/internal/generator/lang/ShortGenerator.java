@@ -18,10 +18,13 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.ShortSpec;
+import org.instancio.internal.generator.unique.FiniteValueGenerator;
+import org.instancio.internal.generator.unique.ValueDomain;
 import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
 
 public class ShortGenerator extends AbstractRandomComparableNumberGeneratorSpec<Short>
-        implements ShortSpec {
+        implements ShortSpec, FiniteValueGenerator {
 
     public ShortGenerator(final GeneratorContext context) {
         super(context,
@@ -69,4 +72,10 @@ public class ShortGenerator extends AbstractRandomComparableNumberGeneratorSpec<
     protected Short tryGenerateNonNull(final Random random) {
         return random.shortRange(getMin(), getMax());
     }
+
+    @Nullable
+    @Override
+    public ValueDomain<?> getValueDomain() {
+        return getIntegralValueDomain(Short.class);
+    }
 }
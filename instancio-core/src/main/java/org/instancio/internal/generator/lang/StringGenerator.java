@@ -22,7 +22,10 @@ import org.instancio.generator.specs.StringSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.specs.InternalLengthGeneratorSpec;
-import org.instancio.internal.util.Constants;
+import org.instancio.internal.generator.unique.FiniteValueGenerator;
+import org.instancio.internal.generator.unique.StringValueDomain;
+import org.instancio.internal.generator.unique.ValueDomain;
+import org.instancio.internal.util.CodePointIndex;
 import org.instancio.internal.util.NumberUtils;
 import org.instancio.internal.util.UnicodeBlocks;
 import org.instancio.settings.Keys;
@@ -33,10 +36,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
 @SuppressWarnings("PMD.GodClass")
 public class StringGenerator extends AbstractGenerator<String>
-        implements StringSpec, InternalLengthGeneratorSpec<String> {
+        implements StringSpec, InternalLengthGeneratorSpec<String>, FiniteValueGenerator {
 
     protected int minLength;
     protected int maxLength;
@@ -47,6 +51,9 @@ public class StringGenerator extends AbstractGenerator<String>
     private StringType stringType;
     private StringCase stringCase;
     private List<Character.UnicodeBlock> unicodeBlocks = Collections.emptyList();
+    private CodePointIndex @Nullable [] codePointIndices;
+    private List<Character.UnicodeBlock> codePointIndexBlocks = Collections.emptyList();
+    private @Nullable CachedValueDomain cachedValueDomain;
 
     /**
      * Delegate for internal use only. It is used to support Bean Validation.
@@ -205,6 +212,36 @@ public class StringGenerator extends AbstractGenerator<String>
         return this;
     }
 
+    /**
+     * Values can only be enumerated for fixed-length strings
+     * of ASCII characters that are not allowed to be null or empty.
+     *
+     * <p>Since this method is invoked for each unique value,
+     * the domain is cached until the generator's configuration changes.
+     */
+    @Nullable
+    @Override
+    public ValueDomain<?> getValueDomain() {
+        if (isNullable()
+                || allowEmpty
+                || delegate != null
+                || minLength != maxLength
+                || stringType == StringType.NUMERIC_SEQUENCE
+                || stringType == StringType.UNICODE) {
+            return null;
+        }
+
+        CachedValueDomain cached = cachedValueDomain;
+        if (cached == null || !cached.isFor(stringType, stringCase, minLength, prefix, suffix)) {
+            final StringValueDomain domain = StringValueDomain.of(
+                    String.valueOf(getStringCharacters()), minLength, prefix, suffix);
+
+            cached = new CachedValueDomain(stringType, stringCase, minLength, prefix, suffix, domain);
+            cachedValueDomain = cached;
+        }
+        return cached.domain();
+    }
+
     // Hot path - benchmark when making changes.
     @Nullable
     @Override
@@ -242,40 +279,45 @@ public class StringGenerator extends AbstractGenerator<String>
     private String generateAsciiString(final Random random, final int length) {
         final char[] fromChars = getStringCharacters();
         final char[] s = new char[length];
-
-        for (int i = 0; i < length; i++) {
-            s[i] = fromChars[random.intRange(0, fromChars.length - 1)];
-        }
-
+        random.fill(s, fromChars);
         return new String(s);
     }
 
-    @SuppressWarnings("PMD.AvoidReassigningLoopVariables")
     private String generateUnicodeString(final Random random, final int length) {
-        final StringBuilder sb = new StringBuilder(length);
-
-        for (int i = 0; i < length; ) {
-            final int codePoint = getCodePoint(random);
-            int type = Character.getType(codePoint);
-            if (type == Character.PRIVATE_USE
-                    || type == Character.SURROGATE
-                    || type == Character.UNASSIGNED) {
-                continue;
-            }
+        final CodePointIndex[] indices = getCodePointIndices();
+        final int[] codePoints = new int[length];
+
+        // each block is equally likely to be selected regardless of its size,
+        // and the code point is then selected uniformly from that block
+        for (int i = 0; i < length; i++) {
+            final CodePointIndex index = indices.length == 1
+                    ? indices[0]
+                    : indices[random.intRange(0, indices.length - 1)];
 
-            sb.appendCodePoint(codePoint);
-            i++; // NOSONAR
+            codePoints[i] = index.get(random.intRange(0, index.size() - 1));
         }
-        return sb.toString();
+        return new String(codePoints, 0, length);
     }
 
-    private int getCodePoint(final Random random) {
-        if (unicodeBlocks.isEmpty()) {
-            return random.intRange(0, Constants.MAX_CODE_POINT);
+    private CodePointIndex[] getCodePointIndices() {
+        CodePointIndex[] indices = codePointIndices;
+        if (indices == null || !unicodeBlocks.equals(codePointIndexBlocks)) {
+            if (unicodeBlocks.isEmpty()) {
+                indices = new CodePointIndex[]{CodePointIndex.getDefault()};
+            } else {
+                // blocks without any code points that can be generated are skipped
+                indices = unicodeBlocks.stream()
+                        .map(block -> UnicodeBlocks.getInstance().getRange(block).codePoints())
+                        .filter(index -> index.size() > 0)
+                        .toArray(CodePointIndex[]::new);
+
+                ApiValidator.isTrue(indices.length > 0,
+                        "unicode blocks %s do not contain any code points that can be generated", unicodeBlocks);
+            }
+            codePointIndices = indices;
+            codePointIndexBlocks = unicodeBlocks;
         }
-        final Character.UnicodeBlock block = random.oneOf(unicodeBlocks);
-        final UnicodeBlocks.BlockRange range = UnicodeBlocks.getInstance().getRange(block);
-        return random.intRange(range.min(), range.max());
+        return indices;
     }
 
     private char[] getStringCharacters() {
@@ -291,6 +333,28 @@ public class StringGenerator extends AbstractGenerator<String>
         throw new IllegalStateException("Unknown StringType: " + stringType); // unreachable
     }
 
+    private record CachedValueDomain(
+            StringType stringType,
+            StringCase stringCase,
+            int length,
+            @Nullable String prefix,
+            @Nullable String suffix,
+            @Nullable StringValueDomain domain) {
+
+        boolean isFor(final StringType stringType,
+                      final StringCase stringCase,
+                      final int length,
+                      @Nullable final String prefix,
+                      @Nullable final String suffix) {
+
+            return this.stringType == stringType
+                    && this.stringCase == stringCase
+                    && this.length == length
+                    && Objects.equals(this.prefix, prefix)
+                    && Objects.equals(this.suffix, suffix);
+        }
+    }
+
     private enum StringCase {
         LOWER, UPPER, MIXED
     }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text;
+
+import org.instancio.Random;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.util.Fail;
+
+import java.util.Arrays;
+
+/**
+ * A text pattern compiled into a template containing the literal
+ * characters, and a list of runs of random characters of the same class.
+ * Generating a value fills the runs of a copy of the template.
+ *
+ * <p>Characters are generated in the same order and using the same
+ * {@link Random} methods as interpreting the pattern would,
+ * so that values remain the same for a given seed. When using
+ * the {@code BULK_V1} character algorithm, each run is filled
+ * using {@link Random#fill(char[], int, int, char[])} instead,
+ * selecting characters uniformly from the run's character class.
+ */
+final class CompiledTextPattern {
+
+    private static final String ALLOWED_HASHTAGS_MESSAGE = String.format("%nAllowed hashtags:"
+            + "%n\t#a - alphanumeric character [a-z, A-Z, 0-9]"
+            + "%n\t#c - lower case character [a-z]"
+            + "%n\t#C - upper case character [A-Z]"
+            + "%n\t#d - digit [0-9]"
+            + "%n\t#h - lower case hexadecimal character [a-f, 0-9]"
+            + "%n\t#H - upper case hexadecimal character [A-F, 0-9]"
+            + "%n\t## - hash symbol escape%n");
+
+    private static final char ALNUM_CHAR = 'a';
+    private static final char LCASE_CHAR = 'c';
+    private static final char UCASE_CHAR = 'C';
+    private static final char LCASE_HEX_CHAR = 'h';
+    private static final char UCASE_HEX_CHAR = 'H';
+    private static final char DIGIT = 'd';
+    private static final char HASH = '#';
+
+    private static final char[] ALNUM_CHARS = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] LCASE_CHARS = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final char[] UCASE_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] LCASE_HEX_CHARS = "0123456789abcdef".toCharArray();
+    private static final char[] UCASE_HEX_CHARS = "0123456789ABCDEF".toCharArray();
+    private static final char[] DIGIT_CHARS = "0123456789".toCharArray();
+
+    private final char[] template;
+    private final char[] runTypes;
+    private final int[] runStarts;
+    private final int[] runLengths;
+
+    private CompiledTextPattern(
+            final char[] template,
+            final char[] runTypes,
+            final int[] runStarts,
+            final int[] runLengths,
+            final int runCount) {
+
+        this.template = template;
+        this.runTypes = Arrays.copyOf(runTypes, runCount);
+        this.runStarts = Arrays.copyOf(runStarts, runCount);
+        this.runLengths = Arrays.copyOf(runLengths, runCount);
+    }
+
+    static CompiledTextPattern compile(final String pattern) {
+        final char[] p = pattern.toCharArray();
+        final char[] template = new char[p.length];
+        final char[] runTypes = new char[p.length];
+        final int[] runStarts = new int[p.length];
+        final int[] runLengths = new int[p.length];
+        int length = 0;
+        int runs = 0;
+
+        int i = 0;
+        while (i < p.length) {
+            final char c = p[i++];
+
+            if (c == HASH) {
+                ApiValidator.isFalse(i == p.length,
+                        "invalid text pattern '%s'. Expected a character after the last '#'", pattern);
+
+                final char tag = p[i++];
+                if (tag == HASH) {
+                    template[length++] = HASH;
+                } else if (isValidTag(tag)) {
+                    if (runs > 0 && runTypes[runs - 1] == tag
+                            && runStarts[runs - 1] + runLengths[runs - 1] == length) {
+                        runLengths[runs - 1]++;
+                    } else {
+                        runTypes[runs] = tag;
+                        runStarts[runs] = length;
+                        runLengths[runs] = 1;
+                        runs++;
+                    }
+                    length++;
+                } else {
+                    throw Fail.withUsageError("text pattern '" + pattern
+                            + "' contains an invalid hashtag '#" + tag + "'" + ALLOWED_HASHTAGS_MESSAGE);
+                }
+            } else {
+                template[length++] = c;
+            }
+        }
+
+        return new CompiledTextPattern(
+                Arrays.copyOf(template, length), runTypes, runStarts, runLengths, runs);
+    }
+
+    private static boolean isValidTag(final char tag) {
+        return tag == ALNUM_CHAR || tag == LCASE_CHAR || tag == UCASE_CHAR
+                || tag == LCASE_HEX_CHAR || tag == UCASE_HEX_CHAR || tag == DIGIT;
+    }
+
+    String generate(final Random random) {
+        final char[] res = template.clone();
+
+        for (int r = 0; r < runTypes.length; r++) {
+            final char runType = runTypes[r];
+            final int end = runStarts[r] + runLengths[r];
+            for (int i = runStarts[r]; i < end; i++) {
+                res[i] = nextChar(runType, random);
+            }
+        }
+        return new String(res);
+    }
+
+    private static char nextChar(final char runType, final Random random) {
+        return switch (runType) {
+            case ALNUM_CHAR -> random.alphanumericCharacter();
+            case LCASE_CHAR -> random.lowerCaseCharacter();
+            case UCASE_CHAR -> random.upperCaseCharacter();
+            case LCASE_HEX_CHAR -> Character.toLowerCase(upperCaseHexChar(random));
+            case UCASE_HEX_CHAR -> upperCaseHexChar(random);
+            default -> random.characterRange('0', '9'); // DIGIT
+        };
+    }
+
+    String generateBulk(final Random random) {
+        final char[] res = template.clone();
+
+        for (int r = 0; r < runTypes.length; r++) {
+            random.fill(res, runStarts[r], runStarts[r] + runLengths[r], alphabet(runTypes[r]));
+        }
+        return new String(res);
+    }
+
+    private static char[] alphabet(final char runType) {
+        return switch (runType) {
+            case ALNUM_CHAR -> ALNUM_CHARS;
+            case LCASE_CHAR -> LCASE_CHARS;
+            case UCASE_CHAR -> UCASE_CHARS;
+            case LCASE_HEX_CHAR -> LCASE_HEX_CHARS;
+            case UCASE_HEX_CHAR -> UCASE_HEX_CHARS;
+            default -> DIGIT_CHARS;
+        };
+    }
+
+    private static char upperCaseHexChar(final Random random) {
+        return random.trueOrFalse()
+                ? random.characterRange('0', '9')
+                : random.characterRange('A', 'F');
+    }
+}
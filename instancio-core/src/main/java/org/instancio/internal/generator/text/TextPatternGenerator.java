@@ -20,33 +20,22 @@ import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.TextPatternSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
-import org.instancio.internal.util.Fail;
+import org.instancio.settings.CharacterAlgorithm;
+import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
 
 public class TextPatternGenerator extends AbstractGenerator<String>
         implements TextPatternSpec {
 
-    private static final String ALLOWED_HASHTAGS_MESSAGE = String.format("%nAllowed hashtags:"
-            + "%n\t#a - alphanumeric character [a-z, A-Z, 0-9]"
-            + "%n\t#c - lower case character [a-z]"
-            + "%n\t#C - upper case character [A-Z]"
-            + "%n\t#d - digit [0-9]"
-            + "%n\t#h - lower case hexadecimal character [a-f, 0-9]"
-            + "%n\t#H - upper case hexadecimal character [A-F, 0-9]"
-            + "%n\t## - hash symbol escape%n");
-
-    private static final char ALNUM_CHAR = 'a';
-    private static final char LCASE_CHAR = 'c';
-    private static final char UCASE_CHAR = 'C';
-    private static final char LCASE_HEX_CHAR = 'h';
-    private static final char UCASE_HEX_CHAR = 'H';
-    private static final char DIGIT = 'd';
-    private static final char HASH = '#';
     private final String pattern;
+    private final boolean bulkCharacters;
     private boolean allowEmpty;
+    private @Nullable CompiledTextPattern compiledPattern;
 
     public TextPatternGenerator(GeneratorContext context, final String pattern) {
         super(context);
         this.pattern = ApiValidator.notNull(pattern, "Text pattern must not be null");
+        this.bulkCharacters = context.getSettings().get(Keys.CHARACTER_ALGORITHM) == CharacterAlgorithm.BULK_V1;
     }
 
     @Override
@@ -67,53 +56,18 @@ public class TextPatternGenerator extends AbstractGenerator<String>
     }
 
     @Override
-    @SuppressWarnings("PMD.CyclomaticComplexity")
     protected String tryGenerateNonNull(final Random random) {
         if (random.diceRoll(allowEmpty)) {
             return "";
         }
 
-        final StringBuilder res = new StringBuilder(pattern.length());
-        final char[] p = pattern.toCharArray();
-
-        int i = 0;
-        while (i < p.length) {
-            final char c = p[i++];
-
-            if (c == HASH) {
-                ApiValidator.isFalse(i == p.length,
-                        "invalid text pattern '%s'. Expected a character after the last '#'", pattern);
-
-                final char tag = p[i++];
-                if (tag == ALNUM_CHAR) {
-                    res.append(random.alphanumericCharacter());
-                } else if (tag == LCASE_CHAR) {
-                    res.append(random.lowerCaseCharacter());
-                } else if (tag == UCASE_CHAR) {
-                    res.append(random.upperCaseCharacter());
-                } else if (tag == LCASE_HEX_CHAR) {
-                    res.append(Character.toLowerCase(upperCaseHexChar(random)));
-                } else if (tag == UCASE_HEX_CHAR) {
-                    res.append(upperCaseHexChar(random));
-                } else if (tag == DIGIT) {
-                    res.append(random.digits(1));
-                } else if (tag == HASH) {
-                    res.append(HASH);
-                } else {
-                    throw Fail.withUsageError("text pattern '" + pattern
-                            + "' contains an invalid hashtag '#" + tag + "'" + ALLOWED_HASHTAGS_MESSAGE);
-                }
-            } else {
-                res.append(c);
-            }
+        // Compiled on first use, so that an invalid pattern
+        // is reported when a value is generated
+        if (compiledPattern == null) {
+            compiledPattern = CompiledTextPattern.compile(pattern);
         }
-
-        return res.toString();
-    }
-
-    private static char upperCaseHexChar(final Random random) {
-        return random.trueOrFalse()
-                ? random.characterRange('0', '9')
-                : random.characterRange('A', 'F');
+        return bulkCharacters
+                ? compiledPattern.generateBulk(random)
+                : compiledPattern.generate(random);
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text;
+
+import org.instancio.feed.DataSource;
+import org.instancio.internal.feed.FeedDataCache;
+import org.instancio.internal.feed.FeedDataCache.SourceVersion;
+import org.instancio.internal.feed.datasource.FileDataSource;
+import org.instancio.internal.feed.datasource.ResourceDataSource;
+import org.instancio.internal.generator.text.WordGenerator.WordClass;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides word dictionaries, ensuring that each dictionary backed
+ * by a resource or a file is loaded only once, even when accessed
+ * concurrently. Dictionaries from other data sources (for example,
+ * input streams) are not cached since they cannot be identified.
+ *
+ * <p>Custom dictionaries are cached in a {@link FeedDataCache},
+ * therefore the cache is bounded by the same global settings as
+ * feed data, and a dictionary is reloaded if its file is modified.
+ */
+final class WordDictionaries {
+
+    private static final Map<WordClass, WordDictionary> BUILT_IN = new ConcurrentHashMap<>();
+    private static final FeedDataCache<WordDictionary> CUSTOM = FeedDataCache.withGlobalSettings();
+
+    static WordDictionary get(final WordClass wordClass) {
+        return BUILT_IN.computeIfAbsent(wordClass, wc -> WordDictionary.load(new BuiltInDataSource(wc)));
+    }
+
+    static WordDictionary get(final DataSource dataSource) {
+        if (dataSource instanceof ResourceDataSource || dataSource instanceof FileDataSource) {
+            final String cacheKey = dataSource.getClass().getSimpleName() + ":" + dataSource.getName();
+            final SourceVersion version = dataSource instanceof FileDataSource fileDataSource
+                    ? SourceVersion.of(fileDataSource.getPath())
+                    : null;
+            return CUSTOM.getOrLoad(cacheKey, version, () -> WordDictionary.load(dataSource));
+        }
+        return WordDictionary.load(dataSource);
+    }
+
+    private record BuiltInDataSource(WordClass wordClass) implements DataSource {
+        @Override
+        public InputStream getInputStream() {
+            return WordDictionaries.class.getResourceAsStream(wordClass.file);
+        }
+
+        @Override
+        public String getName() {
+            return wordClass.file;
+        }
+    }
+
+    private WordDictionaries() {
+        // non-instantiable
+    }
+}
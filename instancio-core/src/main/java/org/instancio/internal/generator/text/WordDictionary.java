@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text;
+
+import org.instancio.Random;
+import org.instancio.feed.DataSource;
+import org.instancio.internal.util.Fail;
+import org.instancio.internal.util.ObjectUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An immutable list of words loaded from a data source containing
+ * one word per line. Leading and trailing whitespace is removed,
+ * and blank lines are ignored.
+ *
+ * <p>All words are stored in a single {@code char} array, with an index
+ * of offsets at which each word starts. Compared to a {@code List<String>},
+ * this avoids a {@code String} instance (and its backing array) per word,
+ * while still providing constant time access to a word at a given index.
+ *
+ * <p>A word is decoded into a {@code String} the first time it is accessed
+ * and cached, so that picking the same word again does not allocate.
+ * Therefore, only words that are actually used have a {@code String}
+ * instance.
+ */
+final class WordDictionary {
+
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private final char[] chars;
+
+    // offsets[i] is the start of the i-th word, and
+    // offsets[i + 1] is the end of the i-th word
+    private final int[] offsets;
+    private final int size;
+
+    // words decoded so far; words[i] is null if the i-th word has not been accessed
+    private final String[] words;
+
+    private WordDictionary(final char[] chars, final int[] offsets, final int size) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.size = size;
+        this.words = new String[size];
+    }
+
+    static WordDictionary load(final DataSource dataSource) {
+        final String name = ObjectUtils.defaultIfNull(dataSource.getName(), "<unnamed data source>");
+
+        try (InputStream in = dataSource.getInputStream()) {
+            if (in == null) {
+                throw Fail.withUsageError("word dictionary not found: %s", name);
+            }
+            return load(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), name);
+        } catch (IOException ex) {
+            throw Fail.withUsageError("error loading word dictionary: %s", name, ex);
+        }
+    }
+
+    private static WordDictionary load(final BufferedReader reader, final String name) throws IOException {
+
+        final StringBuilder sb = new StringBuilder(INITIAL_CAPACITY * 8);
+        int[] offsets = new int[INITIAL_CAPACITY];
+        int size = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) { //NOPMD
+            final String word = line.trim();
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (size + 1 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            sb.append(word);
+            offsets[++size] = sb.length();
+        }
+
+        if (size == 0) {
+            throw Fail.withUsageError("word dictionary must contain at least one word: %s", name);
+        }
+
+        final char[] chars = new char[sb.length()];
+        sb.getChars(0, sb.length(), chars, 0);
+        return new WordDictionary(chars, Arrays.copyOf(offsets, size + 1), size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    String get(final int index) {
+        String word = words[index];
+        if (word == null) {
+            final int start = offsets[index];
+            word = new String(chars, start, offsets[index + 1] - start);
+            // Concurrent callers may decode the same word more than once, which is
+            // harmless: strings are immutable and therefore safely published
+            words[index] = word;
+        }
+        return word;
+    }
+
+    /**
+     * Returns a random word. This consumes the same random value as
+     * {@link Random#oneOf(java.util.Collection)} with a collection of words.
+     */
+    String pick(final Random random) {
+        return get(random.intRange(0, size - 1));
+    }
+}
@@ -16,27 +16,22 @@
 package org.instancio.internal.generator.text;
 
 import org.instancio.Random;
+import org.instancio.feed.DataSource;
+import org.instancio.feed.DataSourceProvider;
+import org.instancio.feed.DataSourceProvider.DataSourceFactory;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.WordSpec;
+import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
-import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.ObjectUtils;
 import org.jspecify.annotations.Nullable;
 
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.List;
-import java.util.Map;
-
 public class WordGenerator extends AbstractGenerator<String> implements WordSpec {
 
-    private static final Map<WordClass, List<String>> CACHE = new EnumMap<>(WordClass.class);
+    private static final DataSourceFactory DATA_SOURCE_FACTORY = new DataSourceFactory() {};
 
     private @Nullable WordClass wordClass;
+    private @Nullable WordDictionary dictionary;
 
     public WordGenerator(GeneratorContext context) {
         super(context);
@@ -67,6 +62,16 @@ public class WordGenerator extends AbstractGenerator<String> implements WordSpec
         return wordClass(WordClass.VERB);
     }
 
+    @Override
+    public WordGenerator dictionary(final DataSourceProvider provider) {
+        ApiValidator.notNull(provider, "dictionary provider must not be null");
+        final DataSource dataSource = ApiValidator.notNull(
+                provider.get(DATA_SOURCE_FACTORY), "dictionary data source must not be null");
+
+        this.dictionary = WordDictionaries.get(dataSource);
+        return this;
+    }
+
     WordGenerator wordClass(final WordClass wordClass) {
         this.wordClass = wordClass;
         return this;
@@ -81,26 +86,14 @@ public class WordGenerator extends AbstractGenerator<String> implements WordSpec
     @Nullable
     @Override
     protected String tryGenerateNonNull(final Random random) {
+        if (dictionary != null) {
+            return dictionary.pick(random);
+        }
+
         final WordClass wc = ObjectUtils.defaultIfNull(
                 this.wordClass, () -> random.oneOf(WordClass.values()));
 
-        return getWord(random, wc);
-    }
-
-    private String getWord(final Random random, final WordClass wordClass) {
-        final List<String> words = getWords(wordClass);
-        return random.oneOf(words);
-    }
-
-    private List<String> getWords(final WordClass wordClass) {
-        List<String> words = CACHE.get(wordClass);
-
-        if (words == null) {
-            words = load(wordClass.file);
-            CACHE.put(wordClass, words);
-        }
-
-        return words;
+        return WordDictionaries.get(wc).pick(random);
     }
 
     enum WordClass {
@@ -110,7 +103,7 @@ public class WordGenerator extends AbstractGenerator<String> implements WordSpec
         VERB("verb", "/verbs.txt");
 
         private final String key;
-        private final String file;
+        final String file;
 
         WordClass(final String key, final String file) {
             this.key = key;
@@ -127,22 +120,4 @@ public class WordGenerator extends AbstractGenerator<String> implements WordSpec
             return null;
         }
     }
-
-    private static List<String> load(final String file) {
-        final List<String> results = new ArrayList<>(3000);
-
-        try {
-            final InputStream in = WordGenerator.class.getResourceAsStream(file);
-
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) { //NOPMD
-                    results.add(line);
-                }
-            }
-        } catch (Exception ex) {
-            throw Fail.withInternalError("Error loading input stream", ex);
-        }
-        return results;
-    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Domain of enum constants.
+ *
+ * @param values enum constants, in ordinal order
+ * @param <E>    enum type
+ */
+public record EnumValueDomain<E extends Enum<E>>(List<E> values) implements ValueDomain<E> {
+
+    /**
+     * Creates a domain for the given enum constants.
+     *
+     * @param values enum constants, in ordinal order
+     * @param <E>    enum type
+     * @return the domain, or {@code null} if there are no values
+     */
+    @Nullable
+    public static <E extends Enum<E>> EnumValueDomain<E> of(final List<E> values) {
+        return values.isEmpty() ? null : new EnumValueDomain<>(List.copyOf(values));
+    }
+
+    @Override
+    public long size() {
+        return values.size();
+    }
+
+    @Override
+    public E get(final long index) {
+        return values.get((int) index);
+    }
+
+    @Override
+    public long indexOf(@Nullable final Object value) {
+        return value == null ? -1 : values.indexOf(value);
+    }
+}
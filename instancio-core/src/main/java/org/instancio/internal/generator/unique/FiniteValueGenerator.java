@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A generator whose values can be enumerated,
+ * which allows {@code withUnique()} to produce unique
+ * values directly instead of discarding duplicates.
+ *
+ * @since 6.0.0
+ */
+public interface FiniteValueGenerator {
+
+    /**
+     * Returns the domain of values this generator produces
+     * with its current configuration.
+     *
+     * @return the value domain, or {@code null} if values cannot be
+     * enumerated (for example, if the generator is nullable, or the
+     * number of possible values is too large)
+     */
+    @Nullable
+    ValueDomain<?> getValueDomain();
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Domain of integral values ({@code byte}, {@code short}, {@code int},
+ * or {@code long}) within a range, inclusive.
+ *
+ * @param type the boxed value type
+ * @param min  lower bound, inclusive
+ * @param max  upper bound, inclusive
+ * @param <T>  value type
+ */
+public record IntegralValueDomain<T extends Number>(Class<T> type, long min, long max)
+        implements ValueDomain<T> {
+
+    /**
+     * Creates a domain for the given range.
+     *
+     * @param type boxed value type
+     * @param min  lower bound, inclusive
+     * @param max  upper bound, inclusive
+     * @param <T>  value type
+     * @return the domain, or {@code null} if the range
+     * is invalid or contains too many values
+     */
+    @Nullable
+    public static <T extends Number> IntegralValueDomain<T> of(final Class<T> type, final long min, final long max) {
+        final long span = max - min;
+        // a negative span indicates either min > max or an overflow
+        if (span < 0 || span >= RangePermutation.MAX_SIZE) {
+            return null;
+        }
+        return new IntegralValueDomain<>(type, min, max);
+    }
+
+    @Override
+    public long size() {
+        return max - min + 1;
+    }
+
+    @Override
+    public T get(final long index) {
+        final long value = min + index;
+        final Number result;
+
+        if (type == Integer.class) {
+            result = (int) value;
+        } else if (type == Short.class) {
+            result = (short) value;
+        } else if (type == Byte.class) {
+            result = (byte) value;
+        } else {
+            result = value;
+        }
+        return type.cast(result);
+    }
+
+    @Override
+    public long indexOf(@Nullable final Object value) {
+        if (!type.isInstance(value)) {
+            return -1;
+        }
+        final long longValue = ((Number) value).longValue();
+        return longValue >= min && longValue <= max ? longValue - min : -1;
+    }
+}
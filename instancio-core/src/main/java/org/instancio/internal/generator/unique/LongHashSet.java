@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+/**
+ * A set of {@code long} values backed by an open-addressing
+ * hash table, which avoids boxing values and allocating
+ * an entry per value.
+ */
+final class LongHashSet {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // zero marks an empty slot, therefore it is tracked separately
+    private long[] table = new long[INITIAL_CAPACITY];
+    private boolean containsZero;
+    private int size;
+
+    boolean add(final long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            return true;
+        }
+
+        final int mask = table.length - 1;
+        int i = hash(value) & mask;
+
+        while (table[i] != 0) {
+            if (table[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        table[i] = value;
+
+        // keep the load factor below 0.75
+        if (++size * 4 >= table.length * 3) {
+            resize();
+        }
+        return true;
+    }
+
+    boolean contains(final long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+
+        final int mask = table.length - 1;
+        int i = hash(value) & mask;
+
+        while (table[i] != 0) {
+            if (table[i] == value) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    boolean remove(final long value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            return true;
+        }
+
+        final int mask = table.length - 1;
+        int i = hash(value) & mask;
+
+        while (table[i] != value) {
+            if (table[i] == 0) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        // Shift subsequent values of the probe sequence into the vacated
+        // slot, so that lookups do not stop at the slot prematurely.
+        // A value can be moved if its home slot is not between the
+        // vacated slot and its current slot.
+        int gap = i;
+        int j = (i + 1) & mask;
+        while (table[j] != 0) {
+            final int home = hash(table[j]) & mask;
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                table[gap] = table[j];
+                gap = j;
+            }
+            j = (j + 1) & mask;
+        }
+        table[gap] = 0;
+        size--;
+        return true;
+    }
+
+    int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    private void resize() {
+        final long[] oldTable = table;
+        table = new long[oldTable.length * 2];
+        final int mask = table.length - 1;
+
+        for (long value : oldTable) {
+            if (value != 0) {
+                int i = hash(value) & mask;
+                while (table[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = value;
+            }
+        }
+    }
+
+    private static int hash(final long value) {
+        final long h = value * 0x9e3779b97f4a7c15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.instancio.internal.util.Verify;
+
+/**
+ * A seeded bijection on the range {@code [0, size)}.
+ *
+ * <p>Implemented as a balanced Feistel network over the smallest
+ * even number of bits that can represent the range. Outputs that fall
+ * outside the range are mapped again until they fall within it
+ * (cycle walking). Since the network's domain is less than four times
+ * the size of the range, this takes fewer than four rounds on average.
+ */
+final class RangePermutation {
+
+    /**
+     * Maximum supported range size.
+     */
+    static final long MAX_SIZE = 1L << 62;
+
+    private static final int ROUNDS = 4;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] keys = new long[ROUNDS];
+
+    RangePermutation(final long size, final long seed) {
+        Verify.isTrue(size > 0 && size <= MAX_SIZE, "Invalid permutation size: %s", size);
+        this.size = size;
+
+        // number of bits needed to represent (size - 1), rounded up to an even number
+        final int bits = Math.max(2, Long.SIZE - Long.numberOfLeadingZeros(size - 1));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+
+        long state = seed;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += 0x9e3779b97f4a7c15L;
+            keys[i] = mix(state);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Maps the given position to a value within the range.
+     *
+     * @param position in the range {@code [0, size)}
+     * @return the permuted value, in the range {@code [0, size)}
+     */
+    long apply(final long position) {
+        long x = position;
+        do {
+            x = encrypt(x);
+        } while (x >= size);
+        return x;
+    }
+
+    /**
+     * The inverse of {@link #apply(long)}.
+     *
+     * @param value in the range {@code [0, size)}
+     * @return the position that maps to the given value
+     */
+    long inverse(final long value) {
+        long x = value;
+        do {
+            x = decrypt(x);
+        } while (x >= size);
+        return x;
+    }
+
+    private long encrypt(final long x) {
+        long left = x >>> halfBits;
+        long right = x & halfMask;
+
+        for (int i = 0; i < ROUNDS; i++) {
+            final long next = left ^ round(right, keys[i]);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private long decrypt(final long x) {
+        long left = x >>> halfBits;
+        long right = x & halfMask;
+
+        for (int i = ROUNDS - 1; i >= 0; i--) {
+            final long previous = right ^ round(left, keys[i]);
+            right = left;
+            left = previous;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private long round(final long half, final long key) {
+        return mix(half ^ key) & halfMask;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Domain of fixed-length strings made of characters from a given alphabet,
+ * with an optional prefix and suffix. The value at a given index is the
+ * index written in base {@code alphabet.length()}, using the alphabet
+ * characters as digits.
+ *
+ * @param alphabet characters the strings consist of, all distinct
+ * @param length   length of strings, excluding prefix and suffix
+ * @param prefix   optional prefix
+ * @param suffix   optional suffix
+ */
+public record StringValueDomain(
+        String alphabet,
+        int length,
+        @Nullable String prefix,
+        @Nullable String suffix) implements ValueDomain<String> {
+
+    /**
+     * Creates a domain of strings of the given length.
+     *
+     * @param alphabet characters the strings consist of, all distinct
+     * @param length   length of strings, excluding prefix and suffix
+     * @param prefix   optional prefix
+     * @param suffix   optional suffix
+     * @return the domain, or {@code null} if the alphabet is empty
+     * or the domain contains too many values
+     */
+    @Nullable
+    public static StringValueDomain of(
+            final String alphabet,
+            final int length,
+            @Nullable final String prefix,
+            @Nullable final String suffix) {
+
+        if (alphabet.isEmpty()) {
+            return null;
+        }
+        final long maxSize = RangePermutation.MAX_SIZE / alphabet.length();
+        long size = 1;
+        for (int i = 0; i < length; i++) {
+            if (size > maxSize) {
+                return null;
+            }
+            size *= alphabet.length();
+        }
+        return new StringValueDomain(alphabet, length, prefix, suffix);
+    }
+
+    @Override
+    public long size() {
+        long size = 1;
+        for (int i = 0; i < length; i++) {
+            size *= alphabet.length();
+        }
+        return size;
+    }
+
+    @Override
+    public String get(final long index) {
+        final int base = alphabet.length();
+        final char[] chars = new char[length];
+        long remaining = index;
+
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = alphabet.charAt((int) (remaining % base));
+            remaining /= base;
+        }
+
+        final String result = new String(chars);
+        if (prefix == null && suffix == null) {
+            return result;
+        }
+        return (prefix == null ? "" : prefix) + result + (suffix == null ? "" : suffix);
+    }
+
+    @Override
+    public long indexOf(@Nullable final Object value) {
+        if (!(value instanceof String str)) {
+            return -1;
+        }
+        final int start = prefix == null ? 0 : prefix.length();
+        final int end = str.length() - (suffix == null ? 0 : suffix.length());
+
+        if (end - start != length
+                || (prefix != null && !str.startsWith(prefix))
+                || (suffix != null && !str.endsWith(suffix))) {
+            return -1;
+        }
+
+        final int base = alphabet.length();
+        long index = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = alphabet.indexOf(str.charAt(i));
+            if (digit == -1) {
+                return -1;
+            }
+            index = index * base + digit;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.instancio.FilterPredicate;
+import org.instancio.Random;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Filter used by {@code withUnique()} that accepts each value only once.
+ *
+ * <p>If a node's generator has a finite {@link ValueDomain}, unique values
+ * can be obtained via {@link #nextValue(ValueDomain, Random)}. Values are
+ * issued in the order of a seeded {@link RangePermutation} of the domain,
+ * so each value is produced in constant time without retries. Since whether
+ * a value has been issued can be derived from its position in the
+ * permutation, issued values are not stored.
+ *
+ * <p>Values produced by other means (for example, by generators without
+ * a value domain) are recorded. Integral values are stored unboxed.
+ *
+ * <p>The filter is shared by all objects created from the same API
+ * instance or model, which may be used by multiple threads,
+ * therefore access is thread-safe. It is not used by parallel
+ * streams, which do not support {@code withUnique()}.
+ */
+public final class UniqueValueFilter implements FilterPredicate<Object> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Class<?>, LongHashSet> integralValues = new HashMap<>(4);
+    private final Set<@Nullable Object> otherValues = new HashSet<>();
+    private @Nullable Sequence sequence;
+
+    @Override
+    public boolean test(@Nullable final Object value) {
+        lock.lock();
+        try {
+            final Sequence seq = sequence;
+            final long position = seq == null ? -1 : seq.positionOf(value);
+
+            if (seq == null || position == -1 || position >= seq.next) {
+                // value has not been issued by nextValue()
+                return addValue(value);
+            }
+            // accept an issued value once, reject duplicates
+            return seq.pending.remove(position);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the next unique value from the given domain.
+     *
+     * <p>The domain of the first invocation is used for the lifetime
+     * of this filter. If this method is invoked with a different domain
+     * (for example, the selector matches fields with different generator
+     * settings), {@code null} is returned, and the caller should fall back
+     * to generating a value and filtering it via {@link #test(Object)}.
+     *
+     * @param domain of the generator
+     * @param random for seeding the permutation on first invocation
+     * @return the next unique value, or {@code null} if the domain is
+     * different from the filter's domain or all its values have been issued
+     */
+    @Nullable
+    public Object nextValue(final ValueDomain<?> domain, final Random random) {
+        lock.lock();
+        try {
+            Sequence seq = sequence;
+
+            if (seq == null) {
+                final long seed = random.longRange(1, Long.MAX_VALUE);
+                seq = new Sequence(domain, new RangePermutation(domain.size(), seed));
+                sequence = seq;
+            } else if (!seq.domain.equals(domain)) {
+                return null;
+            }
+
+            while (seq.next < seq.permutation.size()) {
+                final long position = seq.next++;
+                final Object value = seq.domain.get(seq.permutation.apply(position));
+
+                // skip values that were produced by other means
+                if (!containsValue(value)) {
+                    seq.pending.add(position);
+                    return value;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean addValue(@Nullable final Object value) {
+        if (value instanceof Number number && isIntegral(number)) {
+            return integralValues
+                    .computeIfAbsent(number.getClass(), k -> new LongHashSet())
+                    .add(number.longValue());
+        }
+        return otherValues.add(value);
+    }
+
+    private boolean containsValue(final Object value) {
+        if (value instanceof Number number && isIntegral(number)) {
+            final LongHashSet values = integralValues.get(number.getClass());
+            return values != null && values.contains(number.longValue());
+        }
+        return otherValues.contains(value);
+    }
+
+    private static boolean isIntegral(final Number number) {
+        return number instanceof Long
+                || number instanceof Integer
+                || number instanceof Short
+                || number instanceof Byte;
+    }
+
+    private static final class Sequence {
+        private final ValueDomain<?> domain;
+        private final RangePermutation permutation;
+        // positions of issued values that have not been accepted yet
+        private final LongHashSet pending = new LongHashSet();
+        private long next;
+
+        Sequence(final ValueDomain<?> domain, final RangePermutation permutation) {
+            this.domain = domain;
+            this.permutation = permutation;
+        }
+
+        long positionOf(@Nullable final Object value) {
+            final long index = domain.indexOf(value);
+            return index == -1 ? -1 : permutation.inverse(index);
+        }
+    }
+}
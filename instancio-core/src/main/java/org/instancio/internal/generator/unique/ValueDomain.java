@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A finite set of distinct values, each identified by an index
+ * in the range {@code [0, size())}.
+ *
+ * <p>Implementations must define {@code equals()} and {@code hashCode()}
+ * so that generators configured with the same constraints produce
+ * equal domains.
+ *
+ * @param <T> value type
+ * @since 6.0.0
+ */
+public interface ValueDomain<T> {
+
+    /**
+     * Returns the number of values in this domain.
+     *
+     * @return number of values, always positive
+     */
+    long size();
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index of the value, in the range {@code [0, size())}
+     * @return the value, never {@code null}
+     */
+    T get(long index);
+
+    /**
+     * Returns the index of the given value.
+     *
+     * @param value to look up, may be {@code null}
+     * @return the index, or {@code -1} if the value
+     * is not a member of this domain
+     */
+    long indexOf(@Nullable Object value);
+}
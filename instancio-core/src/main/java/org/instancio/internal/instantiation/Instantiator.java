@@ -25,46 +25,117 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Instantiator {
     private static final Logger LOG = LoggerFactory.getLogger(Instantiator.class);
 
-    private final InstantiationStrategy[] strategies;
+    private static final int UNRESOLVED = -1;
+
+    /**
+     * Strategies are attempted in order until one of them succeeds.
+     * Since these do not depend on the model context, the index of the
+     * strategy that succeeded is memoized per class (see {@link #RESOLVED}).
+     */
+    private static final InstantiationStrategy[] STRATEGIES = {
+            new NoArgumentConstructorInstantiationStrategy(),
+            UnsafeInstantiationStrategy.getInstance(),
+            ReflectionFactoryInstantiationStrategy.getInstance(),
+            new LeastArgumentsConstructorInstantiationStrategy()
+    };
+
+    /**
+     * Contains the index of the strategy that instantiated a given class,
+     * or {@link #UNRESOLVED} if the class has not been instantiated yet.
+     * A strategy is only memoized if the strategies preceding it are not
+     * applicable to the class (for example, the class has no default
+     * constructor). If a preceding strategy failed with an error, such as
+     * a constructor throwing an exception, it may succeed next time,
+     * therefore all strategies will be attempted again. Failures
+     * are not memoized for the same reason.
+     */
+    private static final ClassValue<AtomicInteger> RESOLVED = new ClassValue<>() {
+        @Override
+        protected AtomicInteger computeValue(final Class<?> type) {
+            return new AtomicInteger(UNRESOLVED);
+        }
+    };
+
+    private final InstantiationStrategy serviceProviderStrategy;
 
     public Instantiator(final List<ProviderEntry<InstancioServiceProvider.TypeInstantiator>> providerEntries) {
-        strategies = new InstantiationStrategy[]{
-                new ServiceProviderInstantiationStrategy(providerEntries),
-                new NoArgumentConstructorInstantiationStrategy(),
-                UnsafeInstantiationStrategy.getInstance(),
-                ReflectionFactoryInstantiationStrategy.getInstance(),
-                new LeastArgumentsConstructorInstantiationStrategy()
-        };
+        serviceProviderStrategy = new ServiceProviderInstantiationStrategy(providerEntries);
     }
 
     @Nullable
+    @SuppressWarnings(Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE)
     public <T> T instantiate(final Class<T> klass) {
-        for (InstantiationStrategy strategy : strategies) {
-            final T instance = createInstance(klass, strategy);
+        // SPI instantiators are provided by the user and may not
+        // produce the same outcome for a given class, therefore
+        // they are always attempted first and never memoized
+        final T spiInstance = createInstance(klass, serviceProviderStrategy);
+        if (spiInstance != null) {
+            return spiInstance;
+        }
+
+        final AtomicInteger resolved = RESOLVED.get(klass);
+        final int resolvedIndex = resolved.get();
+
+        if (resolvedIndex != UNRESOLVED) {
+            final T instance = createInstance(klass, STRATEGIES[resolvedIndex]);
             if (instance != null) {
                 return instance;
             }
         }
 
+        // Either the class is being instantiated for the first time,
+        // or the previously successful strategy has failed
+        boolean memoize = resolvedIndex == UNRESOLVED;
+        for (int i = 0; i < STRATEGIES.length; i++) {
+            if (i == resolvedIndex) {
+                continue;
+            }
+            final InstantiationStrategy strategy = STRATEGIES[i];
+            try {
+                final T instance = attemptInstance(klass, strategy);
+                if (instance != null) {
+                    if (memoize) {
+                        resolved.set(i);
+                    }
+                    return instance;
+                }
+            } catch (InstancioApiException ex) {
+                throw ex;
+            } catch (Throwable ex) { //NOPMD catches java.lang.InstantiationError
+                logFailure(klass, strategy, ex);
+                memoize = false;
+            }
+        }
+
         LOG.debug("Could not instantiate class '{}'", klass.getName());
         return null;
     }
 
+    @Nullable
+    private static <T> T attemptInstance(final Class<T> klass, final InstantiationStrategy strategy) {
+        LOG.trace("{}: attempting to instantiate {}", strategy.getClass(), klass);
+        return strategy.createInstance(klass);
+    }
+
+    private static void logFailure(final Class<?> klass, final InstantiationStrategy strategy, final Throwable ex) {
+        ExceptionUtils.logException("{}: failed instantiating {}",
+                ex, strategy.getClass().getSimpleName(), klass);
+    }
+
     @Nullable
     @SuppressWarnings(Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE)
-    private <T> T createInstance(final Class<T> klass, final InstantiationStrategy strategy) {
+    private static <T> T createInstance(final Class<T> klass, final InstantiationStrategy strategy) {
         try {
-            LOG.trace("{}: attempting to instantiate {}", strategy.getClass(), klass);
-            return strategy.createInstance(klass);
+            return attemptInstance(klass, strategy);
         } catch (InstancioApiException ex) {
             throw ex;
         } catch (Throwable ex) { //NOPMD catches java.lang.InstantiationError
-            ExceptionUtils.logException("{}: failed instantiating {}",
-                    ex, strategy.getClass().getSimpleName(), klass);
+            logFailure(klass, strategy, ex);
         }
         return null;
     }
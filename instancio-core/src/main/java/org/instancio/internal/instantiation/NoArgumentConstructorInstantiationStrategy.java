@@ -18,21 +18,35 @@ package org.instancio.internal.instantiation;
 import org.instancio.internal.util.ReflectionUtils;
 import org.jspecify.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import static java.util.Objects.requireNonNull;
 
 class NoArgumentConstructorInstantiationStrategy implements InstantiationStrategy {
 
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private static final ClassValue<DefaultConstructor> DEFAULT_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected DefaultConstructor computeValue(final Class<?> type) {
+            return DefaultConstructor.of(type);
+        }
+    };
+
     @Nullable
     @Override
     @SuppressWarnings("unchecked")
     public <T> T createInstance(final Class<T> klass) {
+        final DefaultConstructor defaultConstructor = DEFAULT_CONSTRUCTORS.get(klass);
+        if (defaultConstructor.ctor == null) {
+            return null;
+        }
         try {
-            final Constructor<?> ctor = getDefaultConstructor(klass);
-            if (ctor == null) {
-                return null;
-            }
-            ReflectionUtils.setAccessible(ctor);
-            return (T) ctor.newInstance();
+            return (T) defaultConstructor.newInstance();
         } catch (Exception ex) {
             throw new InstantiationStrategyException("Error instantiating " + klass, ex);
         }
@@ -48,4 +62,50 @@ class NoArgumentConstructorInstantiationStrategy implements InstantiationStrateg
         return null;
     }
 
+    /**
+     * A class's default constructor resolved once per class. Where possible,
+     * the constructor is invoked via a method handle; otherwise
+     * (e.g. an abstract class or an inaccessible constructor)
+     * via reflection, which reports the appropriate error.
+     */
+    private static final class DefaultConstructor {
+        private final @Nullable Constructor<?> ctor;
+        private final @Nullable MethodHandle handle;
+
+        private DefaultConstructor(@Nullable final Constructor<?> ctor, @Nullable final MethodHandle handle) {
+            this.ctor = ctor;
+            this.handle = handle;
+        }
+
+        static DefaultConstructor of(final Class<?> klass) {
+            final Constructor<?> ctor = getDefaultConstructor(klass);
+            if (ctor == null) {
+                return new DefaultConstructor(null, null);
+            }
+            ReflectionUtils.setAccessible(ctor);
+            return new DefaultConstructor(ctor, createHandle(ctor));
+        }
+
+        @Nullable
+        private static MethodHandle createHandle(final Constructor<?> ctor) {
+            try {
+                return MethodHandles.lookup().unreflectConstructor(ctor).asType(CONSTRUCTOR_TYPE);
+            } catch (Exception ex) {
+                return null; // fall back to reflection
+            }
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        Object newInstance() throws ReflectiveOperationException {
+            if (handle == null) {
+                return requireNonNull(ctor).newInstance();
+            }
+            try {
+                return handle.invokeExact();
+            } catch (Throwable t) { //NOSONAR
+                // wrap all errors, same as Constructor.newInstance()
+                throw new InvocationTargetException(t);
+            }
+        }
+    }
 }
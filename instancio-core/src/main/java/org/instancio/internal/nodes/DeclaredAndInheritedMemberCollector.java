@@ -32,35 +32,63 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Collects fields and setters from a given class.
+ *
+ * <p>Collected {@link ClassData} is cached globally since it depends only
+ * on the class and the settings captured by {@link ClassDataKey}.
+ * The cache is backed by a {@link ClassValue} so that cached entries
+ * do not prevent classes (and their class loaders) from being unloaded.
  */
 class DeclaredAndInheritedMemberCollector {
 
     private static final Comparator<Method> METHOD_COMPARATOR = new SetterMethodComparator();
 
+    private static final ClassValue<Map<ClassDataKey, ClassData>> CLASS_DATA_CACHE = new ClassValue<>() {
+        @Override
+        protected Map<ClassDataKey, ClassData> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>(4);
+        }
+    };
+
     private final PackageFilter packageFilter = new DefaultPackageFilter();
     private final DefaultSetterMethodResolver defaultSetterMethodResolver;
     private final boolean isMethodAssignmentEnabled;
     private final boolean ignoreUnmatchedSetters;
     private final @Nullable String setterPrefix;
     private final int setterExcludeModifiers;
+    private final ClassDataKey pojoKey;
+    private final ClassDataKey recordKey;
 
     DeclaredAndInheritedMemberCollector(final Settings settings) {
+        final SetterStyle setterStyle = settings.get(Keys.SETTER_STYLE);
         this.isMethodAssignmentEnabled = settings.get(Keys.ASSIGNMENT_TYPE) == AssignmentType.METHOD;
         this.ignoreUnmatchedSetters = settings.get(Keys.ON_SET_METHOD_UNMATCHED) == OnSetMethodUnmatched.IGNORE;
-        this.setterPrefix = getSetterPrefix(settings.get(Keys.SETTER_STYLE));
+        this.setterPrefix = getSetterPrefix(setterStyle);
         this.setterExcludeModifiers = settings.get(Keys.SETTER_EXCLUDE_MODIFIER);
         this.defaultSetterMethodResolver = new DefaultSetterMethodResolver(settings);
+        this.pojoKey = new ClassDataKey(false, isMethodAssignmentEnabled,
+                setterStyle, setterExcludeModifiers, ignoreUnmatchedSetters);
+        this.recordKey = new ClassDataKey(true, isMethodAssignmentEnabled,
+                setterStyle, setterExcludeModifiers, ignoreUnmatchedSetters);
     }
 
     ClassData getClassData(final InternalNode node) {
         final Class<?> klass = node.getTargetClass();
-        final List<Field> fields = getNonStaticFields(klass);
         final boolean isRecord = node.getNodeKind() == NodeKind.RECORD;
+
+        return CLASS_DATA_CACHE.get(klass).computeIfAbsent(
+                isRecord ? recordKey : pojoKey,
+                key -> collectClassData(klass, isRecord));
+    }
+
+    private ClassData collectClassData(final Class<?> klass, final boolean isRecord) {
+        final List<Field> fields = getNonStaticFields(klass);
         final Set<Method> unmatchedSetters = isRecord ? Collections.emptySet() : getSetters(klass);
         final List<MemberPair> memberPairs = new ArrayList<>();
 
@@ -162,6 +190,16 @@ class DeclaredAndInheritedMemberCollector {
         return collected;
     }
 
+    /**
+     * Settings that affect the collected {@link ClassData}.
+     */
+    record ClassDataKey(
+            boolean isRecord,
+            boolean isMethodAssignmentEnabled,
+            SetterStyle setterStyle,
+            int setterExcludeModifiers,
+            boolean ignoreUnmatchedSetters) {}
+
     static final class MethodKey {
         private final String name;
         private final Class<?> parameterType;
@@ -48,6 +48,8 @@ public final class InternalNode implements Node {
     private final NodeTypeMap nodeTypeMap;
     private List<InternalNode> children;
     private final int depth;
+    private @Nullable InternalNode treeRoot;
+    private int ordinal = -1;
     private int hash;
 
     private InternalNode(final Builder builder) {
@@ -198,6 +200,36 @@ public final class InternalNode implements Node {
         return depth;
     }
 
+    /**
+     * Returns this node's position in the node tree it belongs to.
+     * Ordinals are dense, starting from zero at the root, and are
+     * assigned once the tree has been fully created.
+     *
+     * @return the ordinal, or {@code -1} if this node
+     * is not part of a fully created node tree
+     * @see #getTreeRoot()
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Returns the root of the node tree this node belongs to.
+     * Ordinals are only unique within a given tree.
+     *
+     * @return the root node, or {@code null} if this node
+     * is not part of a fully created node tree
+     */
+    @Nullable
+    public InternalNode getTreeRoot() {
+        return treeRoot;
+    }
+
+    void setOrdinal(final InternalNode treeRoot, final int ordinal) {
+        this.treeRoot = treeRoot;
+        this.ordinal = ordinal;
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) return true;
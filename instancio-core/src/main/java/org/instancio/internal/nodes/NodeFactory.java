@@ -85,9 +85,27 @@ public final class NodeFactory {
             // these are applied to child nodes of POJOs or records
             feedSpecHandler.applyFeedSpecs(node);
         }
+        assignOrdinals(root);
         return root;
     }
 
+    /**
+     * Numbers the nodes of a fully created tree in breadth-first order.
+     * Ordinals allow selector matches to be resolved once per node
+     * and looked up by index during generation.
+     */
+    private static void assignOrdinals(final InternalNode root) {
+        final Queue<InternalNode> nodeQueue = new ArrayDeque<>();
+        nodeQueue.offer(root);
+        int ordinal = 0;
+
+        while (!nodeQueue.isEmpty()) {
+            final InternalNode node = nodeQueue.poll();
+            node.setOrdinal(root, ordinal++);
+            nodeQueue.addAll(node.getChildren());
+        }
+    }
+
     /**
      * Creates children for the given node.
      * Returned children will not have children of their own
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Selects random characters from an alphabet, extracting
+ * several characters from each 64-bit random value.
+ *
+ * <p>If the size of the alphabet is a power of two, each character
+ * is selected using the next {@code log2(size)} bits of the value.
+ * Otherwise, the value is split into 16-bit chunks (or 32-bit chunks
+ * for alphabets larger than 256 characters) and each chunk is mapped
+ * to a character using a multiply-shift. Chunks that would make
+ * the selection biased are rejected, which is rare since the number
+ * of such chunks is less than the size of the alphabet.
+ *
+ * <p>The sequence of characters produced for a given random generator
+ * state is part of the {@code BULK_V1} character algorithm and
+ * must not be changed.
+ */
+public final class BulkCharacters {
+
+    private static final int SMALL_ALPHABET_SIZE = 256;
+    private static final int SMALL_CHUNK_BITS = 16;
+    private static final int LARGE_CHUNK_BITS = 32;
+
+    private BulkCharacters() {
+        // non-instantiable
+    }
+
+    /**
+     * Fills the given range of the array with random characters
+     * from the alphabet.
+     *
+     * @param random   the source of random values
+     * @param dst      the array to fill
+     * @param from     the start index (inclusive)
+     * @param to       the end index (exclusive)
+     * @param alphabet the characters to select from, must not be empty
+     */
+    public static void fill(final RandomGenerator random,
+                            final char[] dst,
+                            final int from,
+                            final int to,
+                            final char... alphabet) {
+
+        final int size = alphabet.length;
+        if (size == 1) {
+            Arrays.fill(dst, from, to, alphabet[0]);
+        } else if ((size & (size - 1)) == 0) {
+            fillPowerOfTwo(random, dst, from, to, alphabet);
+        } else {
+            fillMultiplyShift(random, dst, from, to, alphabet);
+        }
+    }
+
+    private static void fillPowerOfTwo(final RandomGenerator random,
+                                       final char[] dst,
+                                       final int from,
+                                       final int to,
+                                       final char... alphabet) {
+
+        final int bits = Integer.numberOfTrailingZeros(alphabet.length);
+        final int mask = alphabet.length - 1;
+        final int charsPerValue = Long.SIZE / bits;
+
+        int i = from;
+        while (i < to) {
+            long value = random.nextLong();
+            final int end = Math.min(to, i + charsPerValue);
+            for (; i < end; i++) {
+                dst[i] = alphabet[(int) value & mask];
+                value >>>= bits;
+            }
+        }
+    }
+
+    private static void fillMultiplyShift(final RandomGenerator random,
+                                          final char[] dst,
+                                          final int from,
+                                          final int to,
+                                          final char... alphabet) {
+
+        final long size = alphabet.length;
+        final int bits = size <= SMALL_ALPHABET_SIZE ? SMALL_CHUNK_BITS : LARGE_CHUNK_BITS;
+        final long chunkMask = (1L << bits) - 1;
+        // 2^bits mod size: the number of chunk values that map
+        // to a character one more time than the others
+        final long threshold = (chunkMask + 1) % size;
+        final int chunksPerValue = Long.SIZE / bits;
+
+        int i = from;
+        while (i < to) {
+            long value = random.nextLong();
+            for (int c = 0; c < chunksPerValue && i < to; c++) {
+                final long product = (value & chunkMask) * size;
+                value >>>= bits;
+                if ((product & chunkMask) >= threshold) {
+                    final int index = (int) (product >>> bits);
+                    dst[i++] = alphabet[index];
+                }
+            }
+        }
+    }
+}
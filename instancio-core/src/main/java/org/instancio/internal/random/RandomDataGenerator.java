@@ -18,17 +18,21 @@ package org.instancio.internal.random;
 import org.instancio.internal.util.Verify;
 
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Copied from the <a href="https://commons.apache.org/proper/commons-math">Apache Commons Math</a> library.
  * <p>
  * This is a modified version of {@code org.apache.commons.math3.random.RandomDataGenerator},
  * with most of the code from the original class omitted.
+ * <p>
+ * The methods accept any {@link RandomGenerator}. For {@link Random},
+ * values are identical to those produced by the original implementation.
  */
 @SuppressWarnings("PMD")
 public final class RandomDataGenerator {
 
-    public static long nextLong(final Random random, final long lower, final long upper) {
+    public static long nextLong(final RandomGenerator random, final long lower, final long upper) {
         Verify.closedRange(lower, upper);
 
         final long max = (upper - lower) + 1;
@@ -51,18 +55,12 @@ public final class RandomDataGenerator {
         }
     }
 
-    private static long nextLong(final Random random, final long n) throws IllegalArgumentException {
+    private static long nextLong(final RandomGenerator random, final long n) throws IllegalArgumentException {
         if (n > 0) {
-            final byte[] byteArray = new byte[8];
             long bits;
             long val;
             do {
-                random.nextBytes(byteArray);
-                bits = 0;
-                for (final byte b : byteArray) {
-                    bits = (bits << 8) | (b & 0xffL);
-                }
-                bits &= 0x7fffffffffffffffL;
+                bits = nextPositiveLong(random);
                 val = bits % n;
             } while (bits - val + (n - 1) < 0);
             return val;
@@ -70,7 +68,23 @@ public final class RandomDataGenerator {
         throw new IllegalStateException("Not Strictly positive: " + n);
     }
 
-    public static double nextDouble(final Random random, double lower, double upper) {
+    /**
+     * For {@link Random}, this produces the same value as filling
+     * a {@code byte[8]} via {@link Random#nextBytes(byte[])} and combining
+     * the bytes in big-endian order, but without allocating the array.
+     * {@code nextBytes()} consumes two {@code int} values,
+     * storing each one in little-endian order.
+     */
+    private static long nextPositiveLong(final RandomGenerator random) {
+        if (random instanceof Random) {
+            final long lo = random.nextInt() & 0xffffffffL;
+            final long hi = (long) random.nextInt() << 32;
+            return Long.reverseBytes(hi | lo) & 0x7fffffffffffffffL;
+        }
+        return random.nextLong() & 0x7fffffffffffffffL;
+    }
+
+    public static double nextDouble(final RandomGenerator random, double lower, double upper) {
         Verify.isTrue(lower <= upper, "Lower must be less than or equal to upper: %s, %s", lower, upper);
         Verify.isFalse(Double.isInfinite(lower), "Lower bound must not be infinite");
         Verify.isFalse(Double.isInfinite(upper), "Upper bound must not be infinite");
@@ -36,4 +36,10 @@ public final class SetterSelectorHolder {
     public TargetSelector getSetterSelector() {
         return setterSelector;
     }
+
+    public SetterSelectorHolder copy() {
+        final SetterSelectorHolder copy = new SetterSelectorHolder();
+        copy.setterSelector = setterSelector;
+        return copy;
+    }
 }
@@ -143,6 +143,10 @@ public final class InternalSettings implements Settings {
     <T> InternalSettings set(final SettingKey<T> key, @Nullable final T value, final boolean autoAdjust) {
         checkLockedForModifications();
         validateKeyValue(key, value);
+        if (value instanceof Number number && SettingsSupport.isNonNegative(key)) {
+            ApiValidator.isTrue(number.longValue() >= 0,
+                    "setting value for key '%s' must not be negative: %s", key.propertyKey(), value);
+        }
         settingsMap.put(key, value);
 
         if (autoAdjust && value != null && key instanceof AutoAdjustable) {
@@ -22,16 +22,27 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 final class SettingsSupport {
 
     private static final Map<SettingKey<?>, SettingKey<?>> AUTO_ADJUSTABLE_MAP = getAutoAdjustableKeys();
 
+    /**
+     * Numeric keys whose values must not be negative.
+     */
+    private static final Set<SettingKey<?>> NON_NEGATIVE_KEYS = Set.of(
+            Keys.FEED_CACHE_MAX_SIZE);
+
     @SuppressWarnings("unchecked")
     static <T> Optional<SettingKey<T>> getAutoAdjustable(final SettingKey<T> key) {
         return Optional.ofNullable((SettingKey<T>) AUTO_ADJUSTABLE_MAP.get(key));
     }
 
+    static boolean isNonNegative(final SettingKey<?> key) {
+        return NON_NEGATIVE_KEYS.contains(key);
+    }
+
     private static Map<SettingKey<?>, SettingKey<?>> getAutoAdjustableKeys() {
         final Map<SettingKey<?>, SettingKey<?>> map = new HashMap<>();
         map.put(Keys.ARRAY_MAX_LENGTH, Keys.ARRAY_MIN_LENGTH);
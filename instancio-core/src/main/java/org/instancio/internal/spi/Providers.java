@@ -16,7 +16,6 @@
 package org.instancio.internal.spi;
 
 import org.instancio.documentation.VisibleForTesting;
-import org.instancio.internal.util.ServiceLoaders;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.InstancioServiceProvider.AnnotationProcessor;
 import org.instancio.spi.InstancioServiceProvider.GeneratorProvider;
@@ -35,8 +34,8 @@ public final class Providers {
     private final List<ProviderEntry<SetterMethodResolver>> setterMethodResolvers;
     private final List<ProviderEntry<AnnotationProcessor>> annotationProcessors;
 
-    public Providers(final ServiceProviderContext context) {
-        this(ServiceLoaders.loadAll(InstancioServiceProvider.class), context);
+    public Providers(final ClassLoader classLoader, final ServiceProviderContext context) {
+        this(ServiceProviderRegistry.getServiceProviders(classLoader), context);
     }
 
     @VisibleForTesting
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.spi;
+
+import org.instancio.internal.util.ServiceLoaders;
+import org.instancio.spi.InstancioServiceProvider;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+/**
+ * A process-wide registry of {@link InstancioServiceProvider} implementations.
+ *
+ * <p>Locating providers requires scanning the classpath for service
+ * configuration files, which is relatively expensive when repeated for every
+ * object created. This registry performs the lookup once per class loader
+ * and caches the discovered provider types.
+ *
+ * <p>Each call to {@link #getServiceProviders()} returns new provider
+ * instances. This preserves the contract that
+ * {@link InstancioServiceProvider#init(org.instancio.spi.ServiceProviderContext)}
+ * is invoked with the {@code Settings} and {@code Random} of the current
+ * context, and that each provider getter is invoked once per instance.
+ *
+ * <p>Class loaders are weakly referenced and cached providers are softly
+ * referenced to allow class loaders to be unloaded.
+ */
+public final class ServiceProviderRegistry {
+
+    private static final Map<ClassLoader, SoftReference<List<ServiceLoader.Provider<InstancioServiceProvider>>>> CACHE =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ServiceProviderRegistry() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns new instances of {@link InstancioServiceProvider} implementations
+     * visible to the current thread's context class loader.
+     *
+     * @return service provider instances, or an empty list if there are none
+     */
+    public static List<InstancioServiceProvider> getServiceProviders() {
+        return getServiceProviders(ServiceLoaders.getClassLoader());
+    }
+
+    /**
+     * Returns new instances of {@link InstancioServiceProvider} implementations
+     * visible to the given class loader. This allows providers to be resolved
+     * using a class loader obtained on a different thread, for example,
+     * when creating objects on threads of a parallel stream.
+     *
+     * @param classLoader for locating service providers
+     * @return service provider instances, or an empty list if there are none
+     */
+    public static List<InstancioServiceProvider> getServiceProviders(final ClassLoader classLoader) {
+        final List<ServiceLoader.Provider<InstancioServiceProvider>> providers = getProviders(classLoader);
+
+        if (providers.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<InstancioServiceProvider> results = new ArrayList<>(providers.size());
+        for (ServiceLoader.Provider<InstancioServiceProvider> provider : providers) {
+            results.add(provider.get());
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private static List<ServiceLoader.Provider<InstancioServiceProvider>> getProviders(final ClassLoader classLoader) {
+        final SoftReference<List<ServiceLoader.Provider<InstancioServiceProvider>>> ref = CACHE.get(classLoader);
+        List<ServiceLoader.Provider<InstancioServiceProvider>> providers = ref == null ? null : ref.get();
+
+        if (providers == null) {
+            providers = ServiceLoaders.loadProviders(InstancioServiceProvider.class, classLoader);
+            CACHE.put(classLoader, new SoftReference<>(providers));
+        }
+        return providers;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import java.util.Arrays;
+
+/**
+ * A compact index of code points that can be used for generating
+ * Unicode strings, that is, code points whose type is not
+ * {@link Character#PRIVATE_USE}, {@link Character#SURROGATE},
+ * or {@link Character#UNASSIGNED}.
+ *
+ * <p>The index stores contiguous ranges of such code points along with
+ * the number of code points preceding each range. This allows looking up
+ * the n-th code point of the index using a binary search, so that a random
+ * code point can be selected using a single random number. To keep
+ * the search short, the range containing every {@code 2^BUCKET_SHIFT}-th
+ * code point is precomputed, so only the ranges between two such
+ * positions need to be searched.
+ */
+public final class CodePointIndex {
+
+    /**
+     * Ranks are grouped into buckets of {@code 2^BUCKET_SHIFT} code points
+     * to narrow down the search for the range containing a given rank.
+     */
+    private static final int BUCKET_SHIFT = 5;
+
+    /**
+     * First code point of each range.
+     */
+    private final int[] rangeStarts;
+
+    /**
+     * Number of code points in the preceding ranges, that is,
+     * the index of the first code point of each range.
+     */
+    private final int[] rangeRanks;
+
+    /**
+     * The range containing the first rank of each bucket.
+     */
+    private final int[] bucketRanges;
+
+    private final int size;
+
+    private CodePointIndex(final int[] rangeStarts, final int[] rangeRanks, final int size) {
+        this.rangeStarts = rangeStarts;
+        this.rangeRanks = rangeRanks;
+        this.size = size;
+        this.bucketRanges = new int[((size - 1) >> BUCKET_SHIFT) + 1];
+
+        int range = 0;
+        for (int bucket = 0; bucket < bucketRanges.length; bucket++) {
+            final int rank = bucket << BUCKET_SHIFT;
+            while (range + 1 < rangeRanks.length && rangeRanks[range + 1] <= rank) {
+                range++;
+            }
+            bucketRanges[bucket] = range;
+        }
+    }
+
+    /**
+     * Returns the index of code points in the range
+     * {@code [0, }{@link Constants#MAX_CODE_POINT}{@code ]}.
+     *
+     * @return the index
+     */
+    public static CodePointIndex getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    /**
+     * Creates an index of code points in the given range.
+     *
+     * @param min the minimum code point (inclusive)
+     * @param max the maximum code point (inclusive)
+     * @return the index
+     */
+    public static CodePointIndex of(final int min, final int max) {
+        int[] starts = new int[16];
+        int[] ranks = new int[16];
+        int rangeCount = 0;
+        int size = 0;
+        boolean inRange = false;
+
+        for (int cp = min; cp <= max; cp++) {
+            if (isValid(cp)) {
+                if (!inRange) {
+                    if (rangeCount == starts.length) {
+                        starts = Arrays.copyOf(starts, rangeCount * 2);
+                        ranks = Arrays.copyOf(ranks, rangeCount * 2);
+                    }
+                    starts[rangeCount] = cp;
+                    ranks[rangeCount] = size;
+                    rangeCount++;
+                    inRange = true;
+                }
+                size++;
+            } else {
+                inRange = false;
+            }
+        }
+        return new CodePointIndex(
+                Arrays.copyOf(starts, rangeCount),
+                Arrays.copyOf(ranks, rangeCount),
+                size);
+    }
+
+    /**
+     * Returns the number of code points in this index.
+     *
+     * @return the number of code points
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the code point at the given position of this index.
+     *
+     * @param rank the position, from zero (inclusive) to {@link #size()} (exclusive)
+     * @return the code point
+     */
+    public int get(final int rank) {
+        final int bucket = rank >> BUCKET_SHIFT;
+        int lo = bucketRanges[bucket];
+        int hi = bucket + 1 < bucketRanges.length
+                ? bucketRanges[bucket + 1]
+                : rangeRanks.length - 1;
+
+        // find the last range whose rank is less than or equal to the given rank
+        while (lo < hi) {
+            final int mid = (lo + hi + 1) >>> 1;
+            if (rangeRanks[mid] <= rank) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return rangeStarts[lo] + rank - rangeRanks[lo];
+    }
+
+    private static boolean isValid(final int codePoint) {
+        final int type = Character.getType(codePoint);
+        return type != Character.PRIVATE_USE
+                && type != Character.SURROGATE
+                && type != Character.UNASSIGNED;
+    }
+
+    private static final class Holder {
+        private static final CodePointIndex DEFAULT = of(0, Constants.MAX_CODE_POINT);
+    }
+}
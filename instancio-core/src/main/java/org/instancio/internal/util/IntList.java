@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A growable list of primitive {@code int} values,
+ * used to avoid boxing large numbers of indices.
+ */
+public final class IntList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values = new int[DEFAULT_CAPACITY];
+    private int size;
+
+    public void add(final int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    public int get(final int index) {
+        return values[Objects.checkIndex(index, size)];
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+/**
+ * Helper methods for accessing elements of primitive arrays
+ * without boxing or {@link java.lang.reflect.Array} accessors.
+ */
+public final class PrimitiveArrayUtils {
+
+    /**
+     * Assigns a boxed value to an element of a primitive array.
+     *
+     * @param arr   a primitive array
+     * @param index of the element
+     * @param value a wrapper of the array's component type
+     */
+    public static void setPrimitive(final Object arr, final int index, final Object value) {
+        if (arr instanceof byte[] array) {
+            array[index] = (Byte) value;
+        } else if (arr instanceof short[] array) {
+            array[index] = (Short) value;
+        } else if (arr instanceof int[] array) {
+            array[index] = (Integer) value;
+        } else if (arr instanceof long[] array) {
+            array[index] = (Long) value;
+        } else if (arr instanceof float[] array) {
+            array[index] = (Float) value;
+        } else if (arr instanceof double[] array) {
+            array[index] = (Double) value;
+        } else if (arr instanceof char[] array) {
+            array[index] = (Character) value;
+        } else if (arr instanceof boolean[] array) {
+            array[index] = (Boolean) value;
+        } else {
+            throw new IllegalArgumentException("Not a primitive array: " + arr);
+        }
+    }
+
+    /**
+     * Checks whether an element of a primitive array has the default value
+     * without boxing it. The result is consistent with comparing the boxed
+     * element to the default value using {@code equals()}, therefore
+     * {@code -0.0} is not considered a default value.
+     *
+     * @param arr   a primitive array
+     * @param index of the element
+     * @return {@code true} if the element has the default value
+     */
+    public static boolean isDefaultPrimitive(final Object arr, final int index) {
+        if (arr instanceof byte[] array) {
+            return array[index] == 0;
+        } else if (arr instanceof short[] array) {
+            return array[index] == 0;
+        } else if (arr instanceof int[] array) {
+            return array[index] == 0;
+        } else if (arr instanceof long[] array) {
+            return array[index] == 0;
+        } else if (arr instanceof float[] array) {
+            return Float.floatToIntBits(array[index]) == 0;
+        } else if (arr instanceof double[] array) {
+            return Double.doubleToLongBits(array[index]) == 0;
+        } else if (arr instanceof char[] array) {
+            return array[index] == 0;
+        } else if (arr instanceof boolean[] array) {
+            return !array[index];
+        } else {
+            throw new IllegalArgumentException("Not a primitive array: " + arr);
+        }
+    }
+
+    private PrimitiveArrayUtils() {
+        // non-instantiable
+    }
+}
@@ -35,7 +35,26 @@ public final class ServiceLoaders {
         return Collections.unmodifiableList(providers);
     }
 
-    private static ClassLoader getClassLoader() {
+    /**
+     * Locates providers of the given service without instantiating them.
+     * A new provider instance is created on each invocation of
+     * {@link ServiceLoader.Provider#get()}.
+     *
+     * @param spi         the service type
+     * @param classLoader the class loader for locating provider classes
+     * @param <T>         service type
+     * @return providers of the given service
+     */
+    public static <T> List<ServiceLoader.Provider<T>> loadProviders(
+            final Class<T> spi,
+            final ClassLoader classLoader) {
+
+        return ServiceLoader.load(spi, classLoader)
+                .stream()
+                .toList();
+    }
+
+    public static ClassLoader getClassLoader() {
         final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         return classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
     }
@@ -16,12 +16,14 @@
 package org.instancio.internal.util;
 
 import org.instancio.internal.ApiValidator;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.Character.UnicodeBlock;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Utility class for querying the code point range
@@ -57,6 +59,7 @@ public final class UnicodeBlocks {
         private final int min;
         private final int max;
         private final String id;
+        private final AtomicReference<@Nullable CodePointIndex> codePoints = new AtomicReference<>();
 
         private BlockRange(int min, int max, String id) {
             this.min = min;
@@ -71,6 +74,22 @@ public final class UnicodeBlocks {
         public int max() {
             return max;
         }
+
+        /**
+         * Returns the index of code points in this block that
+         * can be used for generating Unicode strings.
+         *
+         * @return the code point index
+         */
+        public CodePointIndex codePoints() {
+            // benign race: the index is the same regardless of the thread creating it
+            CodePointIndex index = codePoints.get();
+            if (index == null) {
+                index = CodePointIndex.of(min, max);
+                codePoints.set(index);
+            }
+            return index;
+        }
     }
 
     private static final class Holder {
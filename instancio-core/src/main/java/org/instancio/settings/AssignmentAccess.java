@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.settings;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.internal.util.StringUtils;
+
+/**
+ * A setting that specifies the mechanism used for assigning
+ * values to fields and invoking setter methods.
+ *
+ * @see Settings
+ * @see Keys#ASSIGNMENT_ACCESS
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public enum AssignmentAccess {
+
+    /**
+     * Indicates that values should be assigned using
+     * {@link java.lang.reflect.Field#set(Object, Object)} and
+     * {@link java.lang.reflect.Method#invoke(Object, Object...)}
+     * (default behaviour).
+     */
+    REFLECTION,
+
+    /**
+     * Indicates that values should be assigned using
+     * {@link java.lang.invoke.MethodHandle}s. Handles are created
+     * once per field or setter and cached.
+     *
+     * <p>If a handle cannot be created for a given member,
+     * for example, due to module access restrictions,
+     * the value will be assigned using reflection.
+     */
+    METHOD_HANDLE;
+
+    @Override
+    public String toString() {
+        return StringUtils.enumToString(this);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.settings;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.internal.util.StringUtils;
+
+/**
+ * A setting that specifies how random characters are selected
+ * when generating strings from a fixed set of characters, such as
+ * alphabetic, alphanumeric, digit, and hexadecimal strings, and
+ * strings generated from text patterns.
+ *
+ * <p>For a given seed, each algorithm produces a different,
+ * but reproducible sequence of characters. Therefore, changing
+ * the algorithm will change the strings generated using
+ * an existing seed.
+ *
+ * @see Settings
+ * @see Keys#CHARACTER_ALGORITHM
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public enum CharacterAlgorithm {
+
+    /**
+     * Draws a random number for each character (default behaviour).
+     */
+    PER_CHARACTER,
+
+    /**
+     * Draws a random 64-bit value and extracts several characters
+     * from its bits. Characters are selected uniformly from
+     * the set of allowed characters, for example, alphanumeric
+     * strings contain digits with probability {@code 10/62},
+     * whereas {@link #PER_CHARACTER} generates a digit
+     * with probability {@code 1/3}.
+     */
+    BULK_V1;
+
+    @Override
+    public String toString() {
+        return StringUtils.enumToString(this);
+    }
+}
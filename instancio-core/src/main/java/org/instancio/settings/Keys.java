@@ -52,6 +52,22 @@ public final class Keys {
     private static final RangeAdjuster MAX_ADJUSTER = RangeAdjuster.MAX_ADJUSTER;
     private static final List<SettingKey<Object>> ALL_KEYS = new ArrayList<>();
 
+    /**
+     * Specifies the mechanism used for assigning values to fields
+     * and invoking setter methods;
+     * default is {@link AssignmentAccess#REFLECTION}; property name {@code assignment.access}.
+     *
+     * <p>This setting applies to both, {@link AssignmentType#FIELD}
+     * and {@link AssignmentType#METHOD} assignment types.
+     *
+     * @see AssignmentAccess
+     * @see #ASSIGNMENT_TYPE
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<AssignmentAccess> ASSIGNMENT_ACCESS = registerRequiredNonAdjustable(
+            "assignment.access", AssignmentAccess.class, AssignmentAccess.REFLECTION);
+
     /**
      * Specifies whether to assign values using fields or methods;
      * default is {@link AssignmentType#FIELD}; property name {@code assignment.type}.
@@ -425,6 +441,25 @@ public final class Keys {
      */
     public static final SettingKey<Mode> MODE = registerRequiredNonAdjustable("mode", Mode.class, Mode.STRICT);
 
+    /**
+     * Specifies the maximum number of node trees that are cached for reuse;
+     * default is {@code 256}; property name {@code node.tree.cache.max.size}.
+     *
+     * <p>When an object of a given class is created without selectors that
+     * affect the structure of the object graph (such as {@code ignore()},
+     * {@code subtype()}, {@code assign()}, {@code setModel()}, or
+     * {@code applyFeed()}), the node tree describing the class is cached
+     * and reused by subsequent calls with the same settings.
+     * When the limit is exceeded, the least recently used tree is evicted.
+     * A value of zero disables caching. Cache statistics can be obtained
+     * using {@link org.instancio.CacheStats#nodeTrees()}.
+     *
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Integer> NODE_TREE_CACHE_MAX_SIZE = registerRequiredNonAdjustable(
+            "node.tree.cache.max.size", Integer.class, 256);
+
     /**
      * Specifies what should happen if a feed property is unmatched when using the {@code applyFeed()} method;
      * default is {@link OnFeedPropertyUnmatched#FAIL}; property name {@code on.feed.property.unmatched}.
@@ -549,6 +584,45 @@ public final class Keys {
     public static final SettingKey<Boolean> OVERWRITE_EXISTING_VALUES = registerRequiredNonAdjustable(
             "overwrite.existing.values", Boolean.class, true);
 
+    /**
+     * Specifies the maximum number of data sources whose {@link Feed} data
+     * is cached; default is {@code 100}; property name {@code feed.cache.max.size}.
+     *
+     * <p>Data loaded from files, resources, and inline {@code @Feed.Source}
+     * strings is cached for reuse by subsequent feeds. When the limit
+     * is exceeded, the least recently used data is evicted.
+     * Cached data from a file is reloaded if the file has been modified.
+     * A value of zero disables caching; negative values are not allowed.
+     *
+     * <p>Since the cache is shared by all feeds, this is a global setting
+     * that can only be specified in {@code instancio.properties}.
+     * The value is ignored if it is specified via {@link Settings}.
+     * Cache statistics can be obtained using
+     * {@link org.instancio.CacheStats#feedData()}.
+     *
+     * @see #FEED_CACHE_SOFT_REFERENCES
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Integer> FEED_CACHE_MAX_SIZE = registerRequiredNonAdjustable(
+            "feed.cache.max.size", Integer.class, 100);
+
+    /**
+     * Specifies whether cached {@link Feed} data should be held using soft
+     * references, allowing the garbage collector to reclaim it when memory
+     * is low; default is {@code false}; property name {@code feed.cache.soft.references}.
+     *
+     * <p>This is a global setting that can only be specified
+     * in {@code instancio.properties}. The value is ignored
+     * if it is specified via {@link Settings}.
+     *
+     * @see #FEED_CACHE_MAX_SIZE
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Boolean> FEED_CACHE_SOFT_REFERENCES = registerRequiredNonAdjustable(
+            "feed.cache.soft.references", Boolean.class, false);
+
     /**
      * Specifies whether {@link Feed} data is retrieved sequentially or randomly;
      * default is {@link FeedDataAccess#SEQUENTIAL}; property name {@code feed.data.access}.
@@ -632,6 +706,37 @@ public final class Keys {
     public static final SettingKey<FillType> FILL_TYPE = registerRequiredNonAdjustable(
             "fill.type", FillType.class, FillType.POPULATE_NULLS_AND_DEFAULT_PRIMITIVES);
 
+    /**
+     * Specifies the pseudorandom number generator algorithm;
+     * default is {@link RandomAlgorithm#JAVA_UTIL_RANDOM}; property name {@code random.algorithm}.
+     *
+     * <p>Data generated using a given seed can only be
+     * reproduced using the same algorithm.
+     *
+     * @see RandomAlgorithm
+     * @see #SEED
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<RandomAlgorithm> RANDOM_ALGORITHM = registerRequiredNonAdjustable(
+            "random.algorithm", RandomAlgorithm.class, RandomAlgorithm.JAVA_UTIL_RANDOM);
+
+    /**
+     * Specifies how random characters are selected when generating strings
+     * from a fixed set of characters, such as alphanumeric strings;
+     * default is {@link CharacterAlgorithm#PER_CHARACTER}; property name {@code character.algorithm}.
+     *
+     * <p>Data generated using a given seed can only be
+     * reproduced using the same algorithm.
+     *
+     * @see CharacterAlgorithm
+     * @see #SEED
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<CharacterAlgorithm> CHARACTER_ALGORITHM = registerRequiredNonAdjustable(
+            "character.algorithm", CharacterAlgorithm.class, CharacterAlgorithm.PER_CHARACTER);
+
     /**
      * Specifies the seed value;
      * default is {@code null}; property name {@code seed}.
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.settings;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.internal.util.StringUtils;
+
+/**
+ * A setting that specifies the pseudorandom number generator
+ * algorithm used for generating data.
+ *
+ * <p>For a given seed, each algorithm produces a different,
+ * but reproducible sequence of values. Therefore, changing
+ * the algorithm will change the data generated using
+ * an existing seed.
+ *
+ * @see Settings
+ * @see Keys#RANDOM_ALGORITHM
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public enum RandomAlgorithm {
+
+    /**
+     * Uses {@link java.util.Random} (default behaviour).
+     */
+    JAVA_UTIL_RANDOM,
+
+    /**
+     * Uses the {@code L64X128MixRandom} algorithm
+     * from the {@code java.util.random} package.
+     */
+    L64X128_MIX_RANDOM,
+
+    /**
+     * Uses the {@code Xoshiro256PlusPlus} algorithm
+     * from the {@code java.util.random} package.
+     */
+    XOSHIRO256_PLUS_PLUS,
+
+    /**
+     * Uses {@link java.util.SplittableRandom},
+     * which implements the {@code SplitMix64} algorithm.
+     */
+    SPLIT_MIX_64;
+
+    @Override
+    public String toString() {
+        return StringUtils.enumToString(this);
+    }
+}
@@ -17,20 +17,41 @@ package org.instancio.support;
 
 import org.instancio.Random;
 import org.instancio.documentation.InternalApi;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.random.BulkCharacters;
 import org.instancio.internal.random.RandomDataGenerator;
+import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.Verify;
+import org.instancio.settings.CharacterAlgorithm;
+import org.instancio.settings.RandomAlgorithm;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 @InternalApi
 public class DefaultRandom implements Random {
 
+    private static final Map<RandomAlgorithm, RandomGeneratorFactory<RandomGenerator>> FACTORIES =
+            new ConcurrentHashMap<>();
+
+    private static final char[] DIGITS = "0123456789".toCharArray();
+    private static final char[] LOWER_CASE = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final char[] UPPER_CASE = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] MIXED_CASE = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] ALPHANUMERIC = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
     private final long seed;
-    private final java.util.Random random;
+    private final RandomGenerator random;
     private final Seeds.Source source;
+    private final RandomAlgorithm algorithm;
+    private final CharacterAlgorithm characterAlgorithm;
 
     /**
      * Create an instance with a random seed value.
@@ -45,9 +66,63 @@ public class DefaultRandom implements Random {
      * @param seed for the random generator
      */
     public DefaultRandom(final long seed, final Seeds.Source source) {
+        this(seed, source, RandomAlgorithm.JAVA_UTIL_RANDOM);
+    }
+
+    /**
+     * Create an instance with the given seed value and algorithm.
+     *
+     * @param seed      for the random generator
+     * @param source    of the seed value
+     * @param algorithm of the random generator
+     * @since 6.0.0
+     */
+    public DefaultRandom(final long seed, final Seeds.Source source, final RandomAlgorithm algorithm) {
+        this(seed, source, algorithm, CharacterAlgorithm.PER_CHARACTER);
+    }
+
+    /**
+     * Create an instance with the given seed value and algorithms.
+     *
+     * @param seed               for the random generator
+     * @param source             of the seed value
+     * @param algorithm          of the random generator
+     * @param characterAlgorithm for selecting characters of generated strings
+     * @since 6.0.0
+     */
+    public DefaultRandom(final long seed,
+                         final Seeds.Source source,
+                         final RandomAlgorithm algorithm,
+                         final CharacterAlgorithm characterAlgorithm) {
         this.seed = seed;
-        this.random = new java.util.Random(seed); // NOSONAR
+        this.random = createRandomGenerator(algorithm, seed);
         this.source = source;
+        this.algorithm = algorithm;
+        this.characterAlgorithm = characterAlgorithm;
+    }
+
+    private static RandomGenerator createRandomGenerator(final RandomAlgorithm algorithm, final long seed) {
+        return switch (algorithm) {
+            case JAVA_UTIL_RANDOM -> new java.util.Random(seed); // NOSONAR
+            case SPLIT_MIX_64 -> new SplittableRandom(seed);
+            case L64X128_MIX_RANDOM -> getFactory(algorithm, "L64X128MixRandom").create(seed);
+            case XOSHIRO256_PLUS_PLUS -> getFactory(algorithm, "Xoshiro256PlusPlus").create(seed);
+        };
+    }
+
+    private static RandomGeneratorFactory<RandomGenerator> getFactory(
+            final RandomAlgorithm algorithm, final String name) {
+
+        // RandomGeneratorFactory.of() uses ServiceLoader
+        // and is relatively expensive, so cache factories
+        return FACTORIES.computeIfAbsent(algorithm, k -> {
+            try {
+                return RandomGeneratorFactory.of(name);
+            } catch (IllegalArgumentException ex) {
+                throw Fail.withUsageError("random algorithm %s (%s) is not available. "
+                        + "If using JPMS, ensure the 'jdk.random' module is present", algorithm, name, ex);
+            }
+        });
     }
 
     @Override
@@ -59,6 +134,30 @@ public class DefaultRandom implements Random {
         return source;
     }
 
+    /**
+     * Returns the algorithm used by this random instance.
+     *
+     * @return the random algorithm
+     * @since 6.0.0
+     */
+    public RandomAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Returns the algorithm used for selecting characters of generated strings.
+     *
+     * @return the character algorithm
+     * @since 6.0.0
+     */
+    public CharacterAlgorithm getCharacterAlgorithm() {
+        return characterAlgorithm;
+    }
+
+    private boolean isBulk() {
+        return characterAlgorithm == CharacterAlgorithm.BULK_V1;
+    }
+
     @Override
     public boolean trueOrFalse() {
         return intRange(0, 1) == 1;
@@ -138,6 +237,9 @@ public class DefaultRandom implements Random {
 
     @Override
     public String lowerCaseAlphabetic(final int length) {
+        if (isBulk()) {
+            return bulkString(length, LOWER_CASE);
+        }
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = lowerCaseCharacter();
@@ -148,6 +250,9 @@ public class DefaultRandom implements Random {
 
     @Override
     public String upperCaseAlphabetic(final int length) {
+        if (isBulk()) {
+            return bulkString(length, UPPER_CASE);
+        }
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = upperCaseCharacter();
@@ -158,6 +263,9 @@ public class DefaultRandom implements Random {
 
     @Override
     public String digits(final int length) {
+        if (isBulk()) {
+            return bulkString(length, DIGITS);
+        }
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = digitChar();
@@ -173,15 +281,27 @@ public class DefaultRandom implements Random {
                 "Character array must have at least one element");
 
         char[] s = new char[length];
-        for (int i = 0; i < length; i++) {
-            s[i] = chars[intRange(0, chars.length - 1)];
-        }
-
+        fill(s, 0, length, chars);
         return new String(s);
     }
 
+    @Override
+    public void fill(final char[] dst, final int from, final int to, final char... alphabet) {
+        ApiValidator.validateFillArguments(dst, from, to, alphabet);
+        if (isBulk()) {
+            BulkCharacters.fill(random, dst, from, to, alphabet);
+        } else {
+            for (int i = from; i < to; i++) {
+                dst[i] = alphabet[intRange(0, alphabet.length - 1)];
+            }
+        }
+    }
+
     @Override
     public String alphanumeric(final int length) {
+        if (isBulk()) {
+            return bulkString(length, ALPHANUMERIC);
+        }
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = alphanumericCharacter();
@@ -192,6 +312,9 @@ public class DefaultRandom implements Random {
 
     @Override
     public String mixedCaseAlphabetic(final int length) {
+        if (isBulk()) {
+            return bulkString(length, MIXED_CASE);
+        }
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = character();
@@ -200,6 +323,12 @@ public class DefaultRandom implements Random {
         return new String(s);
     }
 
+    private String bulkString(final int length, final char... alphabet) {
+        final char[] s = new char[length];
+        BulkCharacters.fill(random, s, 0, length, alphabet);
+        return new String(s);
+    }
+
     @SafeVarargs
     @Override
     public final <T extends @Nullable Object> T oneOf(final T... a) {
@@ -31,7 +31,9 @@ public final class Global {
 
     private static final @Nullable Long PROPERTIES_FILE_SEED = PROPERTIES_FILE_SETTINGS.get(Keys.SEED);
     private static final @Nullable Random CONFIGURED_RANDOM = PROPERTIES_FILE_SEED == null
-            ? null : new DefaultRandom(PROPERTIES_FILE_SEED, Seeds.Source.GLOBAL);
+            ? null : new DefaultRandom(PROPERTIES_FILE_SEED, Seeds.Source.GLOBAL,
+            PROPERTIES_FILE_SETTINGS.get(Keys.RANDOM_ALGORITHM),
+            PROPERTIES_FILE_SETTINGS.get(Keys.CHARACTER_ALGORITHM));
 
     /**
      * Default settings overlaid with settings from {@code instancio.properties}.
@@ -17,6 +17,7 @@ package org.instancio.support;
 
 import org.instancio.Random;
 import org.instancio.documentation.InternalApi;
+import org.instancio.settings.RandomAlgorithm;
 
 import java.lang.reflect.Type;
 import java.math.BigInteger;
@@ -70,7 +71,14 @@ public final class Seeds {
     }
 
     public static void logSeed(final Random random, final Type rootType) {
-        Log.msg(Log.Category.SEED, "Generating {} with seed {} (seed source: {})",
-                rootType, random.getSeed(), ((DefaultRandom) random).getSource());
+        final DefaultRandom defaultRandom = (DefaultRandom) random;
+
+        if (defaultRandom.getAlgorithm() == RandomAlgorithm.JAVA_UTIL_RANDOM) {
+            Log.msg(Log.Category.SEED, "Generating {} with seed {} (seed source: {})",
+                    rootType, random.getSeed(), defaultRandom.getSource());
+        } else {
+            Log.msg(Log.Category.SEED, "Generating {} with seed {} (seed source: {}, algorithm: {})",
+                    rootType, random.getSeed(), defaultRandom.getSource(), defaultRandom.getAlgorithm());
+        }
     }
 }
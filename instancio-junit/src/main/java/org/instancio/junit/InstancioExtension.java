@@ -22,6 +22,7 @@ import org.instancio.junit.internal.ElementAnnotations;
 import org.instancio.junit.internal.ExtensionSupport;
 import org.instancio.junit.internal.FieldAnnotationMap;
 import org.instancio.junit.internal.InstancioSourceState;
+import org.instancio.junit.internal.ModelCache;
 import org.instancio.junit.internal.ObjectCreator;
 import org.instancio.junit.internal.ReflectionUtils;
 import org.instancio.settings.Settings;
@@ -50,6 +51,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Objects.requireNonNull;
+import static org.instancio.junit.internal.Constants.INSTANCIO_EXTENSION_REGISTERED;
 import static org.instancio.junit.internal.Constants.INSTANCIO_NAMESPACE;
 import static org.instancio.junit.internal.Constants.INSTANCIO_SOURCE_STATE;
 
@@ -146,6 +148,10 @@ public class InstancioExtension implements
         testClasses.forEach(testClass ->
                 context.getStore(INSTANCIO_NAMESPACE).put(testClass, new FieldAnnotationMap(testClass))
         );
+        // Signals to the InstancioSourceArgumentsProvider that a new random
+        // instance will be set before each test, so that the random used
+        // for generating samples is not shared with the test method
+        context.getStore(INSTANCIO_NAMESPACE).put(INSTANCIO_EXTENSION_REGISTERED, Boolean.TRUE);
     }
 
     @Override
@@ -179,7 +185,7 @@ public class InstancioExtension implements
 
             final ElementAnnotations elementAnnotations = new ElementAnnotations(annotations);
             final Random random = requireNonNull(threadLocalRandom.get());
-            final Object fieldValue = new ObjectCreator(threadLocalSettings.get(), random)
+            final Object fieldValue = new ObjectCreator(threadLocalSettings.get(), random, ModelCache.getInstance(context))
                     .createObject(field, field.getGenericType(), elementAnnotations);
 
             ReflectionUtils.setAccessible(field).set(testInstance, fieldValue);
@@ -193,6 +199,7 @@ public class InstancioExtension implements
         testClasses.forEach(testClass ->
                 context.getStore(INSTANCIO_NAMESPACE).remove(testClass, FieldAnnotationMap.class)
         );
+        context.getStore(INSTANCIO_NAMESPACE).remove(INSTANCIO_EXTENSION_REGISTERED);
     }
 
     @Override
@@ -284,7 +291,7 @@ public class InstancioExtension implements
         final Type targetType = parameter.getParameterizedType();
 
         final Random random = requireNonNull(threadLocalRandom.get());
-        return new ObjectCreator(threadLocalSettings.get(), random)
+        return new ObjectCreator(threadLocalSettings.get(), random, ModelCache.getInstance(extensionContext))
                 .createObject(parameter, targetType, requireNonNull(elementAnnotations));
     }
 
@@ -21,6 +21,7 @@ public final class Constants {
 
     public static final ExtensionContext.Namespace INSTANCIO_NAMESPACE = ExtensionContext.Namespace.create("org.instancio");
     public static final String INSTANCIO_SOURCE_STATE = "instancio.source.state";
+    public static final String INSTANCIO_EXTENSION_REGISTERED = "instancio.extension.registered";
 
     private Constants() {
         // non-instantiable
@@ -18,7 +18,9 @@ package org.instancio.junit.internal;
 import org.instancio.Random;
 import org.instancio.junit.Seed;
 import org.instancio.junit.WithSettings;
+import org.instancio.settings.CharacterAlgorithm;
 import org.instancio.settings.Keys;
+import org.instancio.settings.RandomAlgorithm;
 import org.instancio.settings.Settings;
 import org.instancio.support.DefaultRandom;
 import org.instancio.support.Global;
@@ -77,9 +79,20 @@ public final class ExtensionSupport {
             source = Seeds.Source.RANDOM;
         }
 
+        final RandomAlgorithm tlAlgorithm = tlSettings == null ? null : tlSettings.get(Keys.RANDOM_ALGORITHM);
+        final RandomAlgorithm algorithm = tlAlgorithm != null
+                ? tlAlgorithm
+                : Global.getPropertiesFileSettings().get(Keys.RANDOM_ALGORITHM);
+
+        final CharacterAlgorithm tlCharacterAlgorithm = tlSettings == null
+                ? null : tlSettings.get(Keys.CHARACTER_ALGORITHM);
+        final CharacterAlgorithm characterAlgorithm = tlCharacterAlgorithm != null
+                ? tlCharacterAlgorithm
+                : Global.getPropertiesFileSettings().get(Keys.CHARACTER_ALGORITHM);
+
         // each test method gets a new instance of random to avoid
         // the state of the random leaking across tests
-        threadLocalRandom.set(new DefaultRandom(seed, source));
+        threadLocalRandom.set(new DefaultRandom(seed, source, algorithm, characterAlgorithm));
     }
 
     @SuppressWarnings("java:S3011")
@@ -31,14 +31,14 @@ import org.junit.jupiter.params.support.AnnotationConsumer;
 import org.junit.jupiter.params.support.ParameterDeclaration;
 import org.junit.jupiter.params.support.ParameterDeclarations;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Parameter;
-import java.lang.reflect.Type;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
+import static org.instancio.junit.internal.Constants.INSTANCIO_EXTENSION_REGISTERED;
 import static org.instancio.junit.internal.Constants.INSTANCIO_NAMESPACE;
 import static org.instancio.junit.internal.Constants.INSTANCIO_SOURCE_STATE;
 
@@ -48,6 +48,15 @@ import static org.instancio.junit.internal.Constants.INSTANCIO_SOURCE_STATE;
 public class InstancioSourceArgumentsProvider
         implements ArgumentsProvider, AnnotationConsumer<InstancioSource> {
 
+    /**
+     * Maximum number of samples generated ahead of the test
+     * when samples can be generated in the background.
+     * Note that prefetching changes the order in which seeds are drawn
+     * relative to the test method, therefore it is only enabled if
+     * the test method does not share the random instance.
+     */
+    private static final int PREFETCH_WINDOW = Math.max(2, Runtime.getRuntime().availableProcessors());
+
     private InstancioSource instancioSource;
 
     @Initializer
@@ -73,10 +82,25 @@ public class InstancioSourceArgumentsProvider
         final InstancioSourceState state = new InstancioSourceState(random.getSeed(), samples);
         context.getStore(INSTANCIO_NAMESPACE).put(INSTANCIO_SOURCE_STATE, state);
 
+        final List<Parameter> params = parameters.getAll().stream()
+                .map(ParameterDeclaration::getAnnotatedElement)
+                .map(Parameter.class::cast)
+                .toList();
+
+        final List<ElementAnnotations> elementAnnotations = params.stream()
+                .map(param -> new ElementAnnotations(ReflectionUtils.collectionAnnotations(param)))
+                .toList();
+
+        final ObjectCreator objectCreator = new ObjectCreator(settings, random, ModelCache.getInstance(context));
+        final Supplier<Object[]> sampleSupplier = isRandomIsolatedFromTest(context)
+                && canPrepareSamples(params, elementAnnotations)
+                ? new SamplePrefetcher(() -> prepareObjects(params, objectCreator), samples, PREFETCH_WINDOW)
+                : () -> createObjects(params, elementAnnotations, objectCreator);
+
         return Stream
                 .generate(() -> {
                     state.decrementSamplesRemaining();
-                    return Arguments.of(createObjects(parameters, random, settings));
+                    return Arguments.of(sampleSupplier.get());
                 })
                 .limit(samples);
     }
@@ -95,21 +119,50 @@ public class InstancioSourceArgumentsProvider
         return requireNonNullElse(globalPropertiesSamples, 100);
     }
 
+    /**
+     * Returns {@code true} if the random instance used for generating
+     * samples is not used by the test method. This is the case if the
+     * {@code InstancioExtension} is registered, since it sets a new random
+     * instance before each test invocation. Otherwise, unseeded objects
+     * created in the test method use the same random instance as the samples.
+     */
+    private static boolean isRandomIsolatedFromTest(final ExtensionContext context) {
+        return context.getStore(INSTANCIO_NAMESPACE).get(INSTANCIO_EXTENSION_REGISTERED) != null;
+    }
+
+    private static boolean canPrepareSamples(
+            final List<Parameter> params,
+            final List<ElementAnnotations> elementAnnotations) {
+
+        for (int i = 0; i < params.size(); i++) {
+            if (!ObjectCreator.canPrepareObject(params.get(i).getParameterizedType(), elementAnnotations.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Supplier<Object[]> prepareObjects(
+            final List<Parameter> params,
+            final ObjectCreator objectCreator) {
+
+        final List<Supplier<Object>> suppliers = params.stream()
+                .map(param -> objectCreator.prepareObject(param.getParameterizedType()))
+                .toList();
+
+        return () -> suppliers.stream().map(Supplier::get).toArray();
+    }
+
     private static Object[] createObjects(
-            final ParameterDeclarations parameters,
-            final Random random,
-            @Nullable final Settings settings) {
+            final List<Parameter> params,
+            final List<ElementAnnotations> elementAnnotations,
+            final ObjectCreator objectCreator) {
 
-        return parameters.getAll().stream()
-                .map(ParameterDeclaration::getAnnotatedElement)
-                .map(Parameter.class::cast)
-                .map(param -> {
-                    final Type targetType = param.getParameterizedType();
-                    final List<Annotation> annotations = ReflectionUtils.collectionAnnotations(param);
-                    final ElementAnnotations elementAnnotations = new ElementAnnotations(annotations);
-                    return new ObjectCreator(settings, random)
-                            .createObject(param, targetType, elementAnnotations);
-                })
-                .toArray();
+        final Object[] objects = new Object[params.size()];
+        for (int i = 0; i < objects.length; i++) {
+            final Parameter param = params.get(i);
+            objects[i] = objectCreator.createObject(param, param.getParameterizedType(), elementAnnotations.get(i));
+        }
+        return objects;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.junit.internal;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.Model;
+import org.instancio.documentation.InternalApi;
+import org.instancio.documentation.VisibleForTesting;
+import org.instancio.settings.Settings;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.instancio.junit.internal.Constants.INSTANCIO_NAMESPACE;
+
+/**
+ * Caches models of types generated by the extension, so that
+ * the model for a given type is built once per test class
+ * rather than once per {@code @Given} field, parameter, or sample.
+ *
+ * <p>The cache is held in the store of the test class context
+ * and may be accessed concurrently by tests running in parallel.
+ * Settings are compared by identity, therefore changes made to a
+ * {@code Settings} instance after a model has been cached
+ * will not be reflected in that model. Since a new {@code Settings}
+ * instance may be created for every test (for example, when
+ * {@code @WithSettings} is declared on an instance field), the cache
+ * is bounded and evicts the least recently used model once it
+ * contains {@value #MAX_SIZE} models.
+ */
+@InternalApi
+public final class ModelCache {
+
+    private static final String MODEL_CACHE = "instancio.model.cache";
+
+    @VisibleForTesting
+    static final int MAX_SIZE = 64;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Key, Model<?>> models = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Model<?>> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    /**
+     * Returns the cache for the test class of the given context.
+     *
+     * @param context method or class extension context
+     * @return model cache of the test class
+     */
+    public static ModelCache getInstance(final ExtensionContext context) {
+        ExtensionContext classContext = context;
+        while (classContext.getTestMethod().isPresent() && classContext.getParent().isPresent()) {
+            classContext = classContext.getParent().get();
+        }
+        return classContext.getStore(INSTANCIO_NAMESPACE)
+                .computeIfAbsent(MODEL_CACHE, k -> new ModelCache(), ModelCache.class);
+    }
+
+    public Model<?> getModel(final Type targetType, @Nullable final Settings settings) {
+        final Key key = new Key(targetType, settings);
+        final Model<?> cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // The model is built outside the lock so that tests running
+        // in parallel are not blocked while it is being created.
+        // If another thread builds the same model concurrently,
+        // the first model to be cached is returned by both.
+        final InstancioApi<?> api = Instancio.of(() -> targetType);
+        if (settings != null) {
+            api.withSettings(settings);
+        }
+        final Model<?> model = api.toModel();
+
+        lock.lock();
+        try {
+            final Model<?> existing = models.putIfAbsent(key, model);
+            return existing == null ? model : existing;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @VisibleForTesting
+    int size() {
+        lock.lock();
+        try {
+            return models.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private @Nullable Model<?> get(final Key key) {
+        lock.lock();
+        try {
+            return models.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Key(Type type, @Nullable Settings settings) {
+    }
+}
@@ -40,10 +40,51 @@ public class ObjectCreator {
 
     private final @Nullable Settings settings;
     private final Random random;
+    private final @Nullable ModelCache modelCache;
 
     public ObjectCreator(@Nullable final Settings settings, final Random random) {
+        this(settings, random, null);
+    }
+
+    public ObjectCreator(
+            @Nullable final Settings settings,
+            final Random random,
+            @Nullable final ModelCache modelCache) {
+
         this.settings = settings;
         this.random = Verify.notNull(random, "null random");
+        this.modelCache = modelCache;
+    }
+
+    /**
+     * Returns {@code true} if an object of the given type can be created
+     * using {@link #prepareObject(Type)}, that is, if creating it only
+     * requires a seed from the shared random instance.
+     *
+     * @param targetType         the type of object to create
+     * @param elementAnnotations annotations of the field or parameter
+     * @return whether the object can be created ahead of time
+     */
+    public static boolean canPrepareObject(final Type targetType, final ElementAnnotations elementAnnotations) {
+        final Class<?> targetClass = TypeUtils.getRawType(targetType);
+        return elementAnnotations.getProviderClasses().isEmpty()
+                && targetClass != Supplier.class
+                && targetClass != Stream.class;
+    }
+
+    /**
+     * Draws the seed for an object of the given type from the shared
+     * random instance and returns a supplier that creates the object.
+     * The returned supplier does not use the shared random instance
+     * and may be invoked from another thread.
+     *
+     * @param targetType the type of object to create
+     * @return a supplier that creates the object
+     * @see #canPrepareObject(Type, ElementAnnotations)
+     */
+    public Supplier<Object> prepareObject(final Type targetType) {
+        final long seed = nextSeed();
+        return () -> instancioCreate(targetType, seed);
     }
 
     public Object createObject(
@@ -60,7 +101,7 @@ public class ObjectCreator {
         final Supplier<?> supplier;
 
         if (providerClasses.isEmpty()) {
-            supplier = () -> instancioCreate(actualTargetType);
+            supplier = () -> instancioCreate(actualTargetType, nextSeed());
         } else {
             supplier = () -> {
                 final InternalElementContext elementContext = new InternalElementContext(
@@ -80,10 +121,13 @@ public class ObjectCreator {
         return supplier.get();
     }
 
+    private long nextSeed() {
+        return random.longRange(1, Long.MAX_VALUE);
+    }
+
     @SuppressWarnings("rawtypes")
-    private Object instancioCreate(final Type targetType) {
+    private Object instancioCreate(final Type targetType, final long nextSeed) {
         final Class targetClass = TypeUtils.getRawType(targetType);
-        final long nextSeed = random.longRange(1, Long.MAX_VALUE);
 
         if (Feed.class.isAssignableFrom(targetClass)) {
             final InstancioFeedApi<?> api = Instancio.ofFeed(targetClass);
@@ -93,6 +137,10 @@ public class ObjectCreator {
             return api
                     .withSetting(Keys.SEED, nextSeed)
                     .create();
+        } else if (modelCache != null) {
+            return Instancio.of(modelCache.getModel(targetType, settings))
+                    .withSeed(nextSeed)
+                    .create();
         } else {
             final InstancioApi<?> api = Instancio.of(() -> targetType);
             if (settings != null) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.junit.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Supplies samples that are generated ahead of time in the background.
+ *
+ * <p>Samples are prepared on the calling thread in order, so that each
+ * sample receives the same seeds as it would if it were generated
+ * on demand. Only the creation of objects from those seeds is done
+ * in the background, with at most {@code window} samples in flight.
+ * Background tasks use the context class loader of the thread that
+ * created the prefetcher, since it is used for loading service
+ * providers and feed resources.
+ *
+ * <p>Samples are generated by a dedicated pool of daemon threads
+ * rather than the common pool, so that prefetching does not compete
+ * with parallel streams or other tasks of the test. The pool has at most
+ * {@code availableProcessors()} threads that are released when idle.
+ * If the queue of the pool is full, for example when many tests are
+ * running in parallel, the sample is created on the calling thread.
+ */
+final class SamplePrefetcher implements Supplier<Object[]> {
+
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final int QUEUE_CAPACITY = POOL_SIZE * 4;
+
+    private static final Executor EXECUTOR = createExecutor();
+
+    private final Supplier<Supplier<Object[]>> samplePreparer;
+    private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    private final Deque<CompletableFuture<Object[]>> pending = new ArrayDeque<>();
+    private final int window;
+    private int remaining;
+
+    /**
+     * Creates a prefetcher.
+     *
+     * @param samplePreparer prepares the next sample on the calling thread
+     *                       and returns a task that creates it
+     * @param samples        total number of samples
+     * @param window         maximum number of samples generated ahead
+     */
+    SamplePrefetcher(
+            final Supplier<Supplier<Object[]>> samplePreparer,
+            final int samples,
+            final int window) {
+
+        this.samplePreparer = samplePreparer;
+        this.remaining = samples;
+        this.window = window;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.PreserveStackTrace") // the cause is rethrown as is
+    public Object[] get() {
+        while (pending.size() < window && remaining > 0) {
+            pending.add(CompletableFuture.supplyAsync(withContextClassLoader(samplePreparer.get()), EXECUTOR));
+            remaining--;
+        }
+        final CompletableFuture<Object[]> next = pending.poll();
+        if (next == null) {
+            throw new IllegalStateException("no samples remaining");
+        }
+        try {
+            return next.join();
+        } catch (CompletionException ex) {
+            // rethrow the original error so that it is reported
+            // as if the sample had been created on this thread
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    private Supplier<Object[]> withContextClassLoader(final Supplier<Object[]> task) {
+        return () -> {
+            final Thread thread = Thread.currentThread();
+            final ClassLoader original = thread.getContextClassLoader();
+            thread.setContextClassLoader(contextClassLoader);
+            try {
+                return task.get();
+            } finally {
+                thread.setContextClassLoader(original);
+            }
+        };
+    }
+
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    private static Executor createExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, "instancio-sample-prefetcher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                POOL_SIZE, POOL_SIZE, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(QUEUE_CAPACITY),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
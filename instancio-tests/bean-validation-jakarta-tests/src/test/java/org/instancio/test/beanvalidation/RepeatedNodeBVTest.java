@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.beanvalidation;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.junit.WithSettings;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Annotated nodes that are visited many times (collection elements,
+ * multiple root objects) should produce a constrained value on each visit.
+ */
+@FeatureTag(Feature.BEAN_VALIDATION)
+@ExtendWith(InstancioExtension.class)
+class RepeatedNodeBVTest {
+
+    private static final int SAMPLE_SIZE = 500;
+
+    @WithSettings
+    private final Settings settings = Settings.create()
+            .set(Keys.STRING_NULLABLE, false)
+            .set(Keys.COLLECTION_NULLABLE, false)
+            .set(Keys.COLLECTION_MIN_SIZE, 5)
+            .set(Keys.COLLECTION_MAX_SIZE, 5);
+
+    private static class Pojo {
+        @Size(min = 7, max = 7)
+        String code;
+
+        @Min(10)
+        @Max(20)
+        int number;
+
+        List<@Email String> emails;
+
+        List<@Size(min = 3, max = 3) String> tags;
+    }
+
+    private static class DigitsPojo {
+        List<@Digits(integer = 3, fraction = 2) String> amounts;
+    }
+
+    @Test
+    void shouldApplyConstraintsToEveryValue() {
+        final List<Pojo> results = Instancio.ofList(Pojo.class).size(SAMPLE_SIZE).create();
+
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.code).hasSize(7);
+            assertThat(result.number).isBetween(10, 20);
+            assertThat(result.emails).hasSize(5).allSatisfy(email -> assertThat(email).contains("@"));
+            assertThat(result.tags).hasSize(5).allSatisfy(tag -> assertThat(tag).hasSize(3).doesNotContain("@"));
+        });
+    }
+
+    @Test
+    void shouldGenerateDistinctValues() {
+        final List<Pojo> results = Instancio.stream(Pojo.class).limit(SAMPLE_SIZE).toList();
+
+        assertThat(results).extracting(r -> r.code).doesNotHaveDuplicates();
+        assertThat(results).extracting(r -> r.number).containsAll(List.of(10, 15, 20));
+    }
+
+    @Test
+    void shouldGenerateDistinctFractionsForEachValue() {
+        final List<DigitsPojo> results = Instancio.ofList(DigitsPojo.class).size(SAMPLE_SIZE).create();
+
+        final List<String> amounts = results.stream()
+                .flatMap(result -> result.amounts.stream())
+                .toList();
+
+        assertThat(amounts).allSatisfy(amount -> assertThat(amount).matches("\\d{3}\\.\\d{2}"));
+
+        final Set<String> fractions = amounts.stream()
+                .map(amount -> amount.substring(amount.indexOf('.') + 1))
+                .collect(Collectors.toSet());
+
+        // 100 possible fractions
+        assertThat(fractions).hasSizeGreaterThan(90);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.assignmenttype;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.AssignmentAccess;
+import org.instancio.settings.AssignmentType;
+import org.instancio.settings.Keys;
+import org.instancio.settings.OnSetMethodError;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.assignment.SetterStylePojo;
+import org.instancio.test.support.pojo.assignment.SetterStyleSet;
+import org.instancio.test.support.pojo.basic.SupportedNumericTypes;
+import org.instancio.test.support.pojo.misc.SetterErrorPojo;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatObject;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.allInts;
+import static org.instancio.Select.fields;
+
+@FeatureTag({Feature.ASSIGNMENT_TYPE, Feature.ASSIGNMENT_TYPE_METHOD})
+@ExtendWith(InstancioExtension.class)
+class AssignmentAccessMethodHandleTest {
+
+    private static final Settings FIELD_SETTINGS = Settings.create()
+            .set(Keys.ASSIGNMENT_TYPE, AssignmentType.FIELD)
+            .set(Keys.ASSIGNMENT_ACCESS, AssignmentAccess.METHOD_HANDLE);
+
+    private static final Settings METHOD_SETTINGS = Settings.create()
+            .set(Keys.ASSIGNMENT_TYPE, AssignmentType.METHOD)
+            .set(Keys.ASSIGNMENT_ACCESS, AssignmentAccess.METHOD_HANDLE);
+
+    @Test
+    void assignFields() {
+        final Person result = Instancio.of(Person.class)
+                .withSettings(FIELD_SETTINGS)
+                .create();
+
+        assertThatObject(result).hasNoNullFieldsOrProperties();
+        assertThat(result.getAge()).isPositive();
+        assertThat(result.getAddress().getPhoneNumbers()).isNotEmpty();
+    }
+
+    @Test
+    void assignPrimitiveFields() {
+        final SupportedNumericTypes result = Instancio.of(SupportedNumericTypes.class)
+                .withSettings(FIELD_SETTINGS)
+                .create();
+
+        assertThat(result.getPrimitiveByte()).isNotZero();
+        assertThat(result.getPrimitiveShort()).isNotZero();
+        assertThat(result.getPrimitiveInt()).isNotZero();
+        assertThat(result.getPrimitiveLong()).isNotZero();
+        assertThat(result.getPrimitiveFloat()).isNotZero();
+        assertThat(result.getPrimitiveDouble()).isNotZero();
+    }
+
+    @Test
+    void assignViaSetters() {
+        final SetterStylePojo result = Instancio.of(SetterStyleSet.class)
+                .withSettings(METHOD_SETTINGS)
+                .ignore(fields().matching("viaSetter.*"))
+                .create();
+
+        assertThatObject(result).hasNoNullFieldsOrProperties();
+        assertThat(result.isViaSetter_primitiveInt()).isTrue();
+        assertThat(result.isViaSetter_integerWrapper()).isTrue();
+        assertThat(result.isViaSetter_string()).isTrue();
+        assertThat(result.isViaSetter_isBooleanProperty()).isTrue();
+        assertThat(result.isViaSetter_isBooleanWrapper()).isTrue();
+    }
+
+    @Test
+    void shouldProduceSameResultsAsReflection() {
+        final Person expected = Instancio.of(Person.class)
+                .withSeed(-1)
+                .create();
+
+        final Person actual = Instancio.of(Person.class)
+                .withSettings(FIELD_SETTINGS)
+                .withSeed(-1)
+                .create();
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void setterErrorAssignViaField() {
+        final SetterErrorPojo result = Instancio.of(SetterErrorPojo.class)
+                .withSettings(METHOD_SETTINGS)
+                .withSetting(Keys.ON_SET_METHOD_ERROR, OnSetMethodError.ASSIGN_FIELD)
+                .create();
+
+        assertThat(result.getValue()).isNotZero();
+    }
+
+    @Test
+    void setterErrorFail() {
+        final InstancioApi<SetterErrorPojo> api = Instancio.of(SetterErrorPojo.class)
+                .withSettings(METHOD_SETTINGS)
+                .set(allInts(), 123)
+                .withSetting(Keys.ON_SET_METHOD_ERROR, OnSetMethodError.FAIL);
+
+        assertThatThrownBy(api::create)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasRootCauseExactlyInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("Method invocation failed");
+    }
+
+    @Test
+    void setterThrowingErrorShouldBeIgnored() {
+        final ErrorThrowingSetterPojo result = Instancio.of(ErrorThrowingSetterPojo.class)
+                .withSettings(METHOD_SETTINGS)
+                .withSetting(Keys.ON_SET_METHOD_ERROR, OnSetMethodError.IGNORE)
+                .create();
+
+        assertThat(result.value).isZero();
+    }
+
+    private static class ErrorThrowingSetterPojo {
+        private int value;
+
+        @SuppressWarnings("unused")
+        void setValue(final int value) {
+            throw new AssertionError("expected error");
+        }
+    }
+}
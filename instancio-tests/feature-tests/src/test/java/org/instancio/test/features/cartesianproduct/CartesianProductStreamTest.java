@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.cartesianproduct;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioCartesianProductApi;
+import org.instancio.TypeToken;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.pojo.generics.basic.Pair;
+import org.instancio.test.support.pojo.generics.basic.Triplet;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.instancio.Select.allBooleans;
+import static org.instancio.Select.allInts;
+import static org.instancio.Select.allStrings;
+
+@FeatureTag(Feature.CARTESIAN_PRODUCT)
+@ExtendWith(InstancioExtension.class)
+class CartesianProductStreamTest {
+
+    private static InstancioCartesianProductApi<Triplet<String, Integer, Boolean>> cartesianProduct() {
+        return Instancio.ofCartesianProduct(new TypeToken<Triplet<String, Integer, Boolean>>() {})
+                .with(allStrings(), "foo", "bar", "baz")
+                .with(allInts(), 1, 2)
+                .with(allBooleans(), true, false);
+    }
+
+    private static List<List<Object>> toValues(final List<Triplet<String, Integer, Boolean>> results) {
+        return results.stream()
+                .map(t -> Arrays.<Object>asList(t.getLeft(), t.getMid(), t.getRight()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void streamShouldProduceSameCombinationsAsCreate() {
+        final List<Triplet<String, Integer, Boolean>> expected = cartesianProduct().create();
+        final List<Triplet<String, Integer, Boolean>> results = cartesianProduct().stream()
+                .collect(Collectors.toList());
+
+        assertThat(results).hasSize(12);
+        assertThat(toValues(results)).isEqualTo(toValues(expected));
+    }
+
+    @Test
+    void streamShouldCreateDistinctObjects() {
+        final List<Triplet<String, Integer, Boolean>> results = cartesianProduct().stream()
+                .collect(Collectors.toList());
+
+        assertThat(results).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void streamRange() {
+        final List<List<Object>> all = toValues(cartesianProduct().create());
+
+        final List<Triplet<String, Integer, Boolean>> results = cartesianProduct()
+                .stream(5, 9)
+                .collect(Collectors.toList());
+
+        assertThat(toValues(results)).isEqualTo(all.subList(5, 9));
+    }
+
+    @Test
+    void streamShouldBeLazy() {
+        final List<Triplet<String, Integer, Boolean>> results = Instancio.ofCartesianProduct(
+                        new TypeToken<Triplet<String, Integer, Boolean>>() {})
+                .with(allStrings(), new String[100_000])
+                .with(allInts(), new Integer[100_000])
+                .with(allBooleans(), true, false)
+                .stream()
+                .limit(3)
+                .collect(Collectors.toList());
+
+        assertThat(results).hasSize(3)
+                .extracting(Triplet::getRight)
+                .containsExactly(true, false, true);
+    }
+
+    @Test
+    void streamShouldNotModifyApiInstance() {
+        final List<List<Object>> all = toValues(cartesianProduct().create());
+        final InstancioCartesianProductApi<Triplet<String, Integer, Boolean>> api = cartesianProduct();
+
+        final Stream<Triplet<String, Integer, Boolean>> first = api.stream(0, 6);
+        final Stream<Triplet<String, Integer, Boolean>> second = api.stream(6, 12);
+
+        assertThat(toValues(api.create())).isEqualTo(all);
+        assertThat(toValues(second.collect(Collectors.toList()))).isEqualTo(all.subList(6, 12));
+        assertThat(toValues(first.collect(Collectors.toList()))).isEqualTo(all.subList(0, 6));
+        assertThat(toValues(api.stream().collect(Collectors.toList()))).isEqualTo(all);
+    }
+
+    /**
+     * A selector matching several nodes receives values of consecutive
+     * combinations, as it does with {@code create()}, until there are no
+     * more values available.
+     */
+    @Test
+    void selectorMatchingMultipleNodes() {
+        final InstancioCartesianProductApi<Pair<String, String>> api = Instancio.ofCartesianProduct(
+                        new TypeToken<Pair<String, String>>() {})
+                .with(allStrings(), "a", "b", "c", "d");
+
+        final List<Pair<String, String>> results = api.stream()
+                .limit(2)
+                .collect(Collectors.toList());
+
+        assertThat(results)
+                .extracting(Pair::getLeft, Pair::getRight)
+                .containsExactly(tuple("a", "b"), tuple("c", "d"));
+
+        assertThatThrownBy(() -> api.stream().collect(Collectors.toList()))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("no value is available for selector all(String)")
+                .hasMessageContaining("in the stream() range [0, 4)");
+
+        assertThatThrownBy(api::create)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("no item is available to emit()");
+    }
+
+    @Test
+    void emptyRange() {
+        assertThat(cartesianProduct().stream(12, 12)).isEmpty();
+    }
+
+    @Test
+    void invalidRange() {
+        assertThatThrownBy(() -> cartesianProduct().stream(0, 13))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("invalid stream() range [0, 13) for a Cartesian product of size 12");
+
+        assertThatThrownBy(() -> cartesianProduct().stream(3, 2))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("invalid stream() range [3, 2)");
+    }
+}
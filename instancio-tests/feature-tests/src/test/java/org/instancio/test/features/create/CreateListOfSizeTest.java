@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.create;
+
+import org.instancio.Assign;
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.exception.UnusedSelectorException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.allInts;
+import static org.instancio.Select.field;
+
+/**
+ * Tests for {@link InstancioApi#createList(int)}.
+ */
+@FeatureTag({Feature.GENERATE, Feature.ASSIGN, Feature.ON_COMPLETE, Feature.WITH_UNIQUE})
+@ExtendWith(InstancioExtension.class)
+class CreateListOfSizeTest {
+
+    @Test
+    void createList() {
+        final List<Person> results = Instancio.of(Person.class).createList(10);
+
+        assertThat(results)
+                .hasSize(10)
+                .doesNotContainNull()
+                .allSatisfy(p -> assertThat(p.getAddress().getCity()).isNotBlank())
+                .extracting(Person::getUuid)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void emptyList() {
+        assertThat(Instancio.of(Person.class).createList(0)).isEmpty();
+    }
+
+    @Test
+    void negativeSize() {
+        final InstancioApi<Person> api = Instancio.of(Person.class);
+
+        assertThatThrownBy(() -> api.createList(-1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("size must not be negative: -1");
+    }
+
+    @Test
+    void generatorsShouldBeSharedByAllObjects() {
+        final List<Person> results = Instancio.of(Person.class)
+                .generate(field(Person::getAge), gen -> gen.intSeq())
+                .createList(5);
+
+        assertThat(results).extracting(Person::getAge).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void withUniqueShouldApplyToAllObjects() {
+        final int size = 100;
+        final List<Person> results = Instancio.of(Person.class)
+                .generate(field(Person::getAge), gen -> gen.ints().range(1, size))
+                .withUnique(field(Person::getAge))
+                .createList(size);
+
+        assertThat(results)
+                .extracting(Person::getAge)
+                .containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, size).boxed().toList());
+    }
+
+    @Test
+    void assignmentsShouldBeResolvedPerObject() {
+        final List<Person> results = Instancio.of(Person.class)
+                .assign(Assign.valueOf(Person::getName).to(Address::getCity))
+                .createList(20);
+
+        assertThat(results).allSatisfy(p -> assertThat(p.getAddress().getCity()).isEqualTo(p.getName()));
+    }
+
+    @Test
+    void onCompleteShouldBeInvokedOncePerObject() {
+        final AtomicInteger callbackCount = new AtomicInteger();
+
+        final List<Person> results = Instancio.of(Person.class)
+                .onComplete(field(Person::getAddress), (Address address) -> callbackCount.incrementAndGet())
+                .createList(20);
+
+        assertThat(results).hasSize(20);
+        assertThat(callbackCount.get()).isEqualTo(20);
+    }
+
+    @Test
+    void withSeed() {
+        final List<Person> results1 = Instancio.of(Person.class).withSeed(123).createList(10);
+        final List<Person> results2 = Instancio.of(Person.class).withSeed(123).createList(10);
+
+        assertThat(results1)
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(results2);
+    }
+
+    @Test
+    void unusedSelectorsShouldBeReported() {
+        final InstancioApi<Person> api = Instancio.of(Person.class)
+                .set(allInts().within(field(Person::getName).toScope()), 1);
+
+        assertThatThrownBy(() -> api.createList(3))
+                .isExactlyInstanceOf(UnusedSelectorException.class);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.feed;
+
+import org.instancio.CacheStats;
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@FeatureTag(Feature.FEED)
+@ExtendWith(InstancioExtension.class)
+class FeedCacheSettingsTest {
+
+    private static Path createFile(final String content) {
+        return Instancio.gen().nio().path()
+                .tmp()
+                .createFile(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))
+                .get();
+    }
+
+    private static String firstValue(final Path path) {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .create()
+                .stringSpec("value")
+                .get();
+    }
+
+    @Test
+    void shouldReloadDataIfFileWasModified() throws IOException {
+        final Path path = createFile("value\nfoo");
+        assertThat(firstValue(path)).isEqualTo("foo");
+
+        Files.write(path, "value\nbar".getBytes(StandardCharsets.UTF_8));
+        final FileTime lastModified = Files.getLastModifiedTime(path);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified.toMillis() + 10_000));
+
+        assertThat(firstValue(path)).isEqualTo("bar");
+    }
+
+    @Test
+    void shouldReloadDataIfFileWasTruncated() throws IOException {
+        final Path path = createFile("value\nfoo");
+        final FileTime lastModified = Files.getLastModifiedTime(path);
+        assertThat(firstValue(path)).isEqualTo("foo");
+
+        // same modification time, but a different size
+        Files.write(path, "value\nx".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, lastModified);
+
+        assertThat(firstValue(path)).isEqualTo("x");
+    }
+
+    @Test
+    void shouldReuseCachedData() {
+        final Path path = createFile("value\nfoo");
+        assertThat(firstValue(path)).isEqualTo("foo");
+
+        final CacheStats before = CacheStats.feedData();
+        assertThat(firstValue(path)).isEqualTo("foo");
+        final CacheStats after = CacheStats.feedData();
+
+        assertThat(after.loadCount()).isEqualTo(before.loadCount());
+        assertThat(after.hitCount()).isEqualTo(before.hitCount() + 1);
+    }
+
+    /**
+     * Cache settings are global, therefore specifying them
+     * for a particular feed should not disable caching.
+     */
+    @Test
+    void cacheSettingsSpecifiedViaSettingsShouldBeIgnored() {
+        final Path path = createFile("value\nfoo");
+        assertThat(firstValue(path)).isEqualTo("foo");
+
+        final CacheStats before = CacheStats.feedData();
+
+        final Feed feed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .withSetting(Keys.FEED_CACHE_MAX_SIZE, 0)
+                .withSetting(Keys.FEED_CACHE_SOFT_REFERENCES, true)
+                .create();
+
+        assertThat(feed.stringSpec("value").get()).isEqualTo("foo");
+        assertThat(CacheStats.feedData().loadCount()).isEqualTo(before.loadCount());
+    }
+}
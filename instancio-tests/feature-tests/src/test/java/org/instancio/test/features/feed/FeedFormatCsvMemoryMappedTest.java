@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.feed;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.feed.Feed;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.FeedDataAccess;
+import org.instancio.settings.FeedDataEndAction;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@FeatureTag(Feature.FEED)
+@ExtendWith(InstancioExtension.class)
+class FeedFormatCsvMemoryMappedTest {
+
+    private static final String CSV = """
+            # comment
+            id, value, tag
+            1, foo, a\r
+            
+            # another comment
+            2, "bar, baz", b\r
+            3, Д_3, a
+            4,, b""";
+
+    private static Path createFile(final String content) {
+        return Instancio.gen().nio().path()
+                .tmp()
+                .createFile(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))
+                .get();
+    }
+
+    private static Feed createFeed(final Path path, final FeedDataAccess dataAccess) {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .formatOptions(format -> format.csv().memoryMapped(true))
+                .dataAccess(dataAccess)
+                .onDataEnd(FeedDataEndAction.FAIL)
+                .create();
+    }
+
+    @Test
+    void sequential() {
+        final Feed feed = createFeed(createFile(CSV), FeedDataAccess.SEQUENTIAL);
+
+        assertThat(feed.intSpec("id").get()).isEqualTo(1);
+        assertThat(feed.stringSpec("value").get()).isEqualTo("foo");
+        assertThat(feed.stringSpec("tag").get()).isEqualTo("a");
+
+        assertThat(feed.intSpec("id").get()).isEqualTo(2);
+        assertThat(feed.stringSpec("value").get()).isEqualTo("bar, baz");
+        assertThat(feed.stringSpec("tag").get()).isEqualTo("b");
+
+        assertThat(feed.intSpec("id").get()).isEqualTo(3);
+        assertThat(feed.stringSpec("value").get()).isEqualTo("Д_3");
+
+        assertThat(feed.intSpec("id").get()).isEqualTo(4);
+        assertThat(feed.stringSpec("value").get()).isNull();
+
+        assertThatThrownBy(() -> feed.intSpec("id").get())
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("reached end of data for feed class");
+    }
+
+    @Test
+    void random() {
+        final Feed feed = createFeed(createFile(CSV), FeedDataAccess.RANDOM);
+        final Set<Integer> results = new HashSet<>();
+
+        for (int i = 0; i < 100; i++) {
+            results.add(feed.intSpec("id").get());
+        }
+
+        assertThat(results).containsExactlyInAnyOrder(1, 2, 3, 4);
+    }
+
+    @Test
+    void withTag() {
+        final Path path = createFile(CSV);
+        final Feed feed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .formatOptions(format -> format.csv().memoryMapped(true))
+                .withTagKey("tag")
+                .withTagValue("b")
+                .dataAccess(FeedDataAccess.SEQUENTIAL)
+                .onDataEnd(FeedDataEndAction.RECYCLE)
+                .create();
+
+        assertThat(feed.intSpec("id").get()).isEqualTo(2);
+        assertThat(feed.intSpec("id").get()).isEqualTo(4);
+        assertThat(feed.intSpec("id").get()).isEqualTo(2);
+    }
+
+    @Test
+    void emptyFile() {
+        final Path path = createFile("# comment only");
+
+        assertThatThrownBy(() -> createFeed(path, FeedDataAccess.SEQUENTIAL).stringSpec("id").get())
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("empty data source");
+    }
+
+    @Test
+    void shouldBeIgnoredIfDataSourceIsNotFile() {
+        final Feed feed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofString(CSV))
+                .formatOptions(format -> format.csv().memoryMapped(true))
+                .create();
+
+        assertThat(feed.intSpec("id").get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.generator.array;
+
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.allStrings;
+
+/**
+ * Primitive arrays are populated directly using the element generator
+ * if there are no selectors. Verify that the results are the same
+ * as those produced by the regular path (forced by an unrelated selector).
+ */
+@FeatureTag(Feature.GENERATE)
+@ExtendWith(InstancioExtension.class)
+class PrimitiveArrayElementsTest {
+
+    private static final Settings SETTINGS = Settings.create()
+            .set(Keys.ARRAY_MIN_LENGTH, 500)
+            .set(Keys.ARRAY_MAX_LENGTH, 1000);
+
+    @ValueSource(classes = {
+            boolean[].class,
+            byte[].class,
+            char[].class,
+            double[].class,
+            float[].class,
+            int[].class,
+            long[].class,
+            short[].class
+    })
+    @ParameterizedTest
+    void shouldProduceSameResultWithAndWithoutSelectors(final Class<?> arrayType) {
+        final Object withoutSelectors = Instancio.of(arrayType)
+                .withSettings(SETTINGS)
+                .withSeed(-1)
+                .create();
+
+        final Object withSelectors = Instancio.of(arrayType)
+                .withSettings(SETTINGS)
+                .withSeed(-1)
+                .lenient()
+                .onComplete(allStrings(), s -> {})
+                .create();
+
+        assertThat(withoutSelectors).isEqualTo(withSelectors);
+    }
+
+    @ValueSource(classes = {int[].class, double[].class})
+    @ParameterizedTest
+    void shouldProduceSameResultWithNullableElements(final Class<?> arrayType) {
+        final Settings settings = Settings.from(SETTINGS)
+                .set(Keys.ARRAY_ELEMENTS_NULLABLE, true);
+
+        final Object withoutSelectors = Instancio.of(arrayType)
+                .withSettings(settings)
+                .withSeed(-1)
+                .create();
+
+        final Object withSelectors = Instancio.of(arrayType)
+                .withSettings(settings)
+                .withSeed(-1)
+                .lenient()
+                .onComplete(allStrings(), s -> {})
+                .create();
+
+        assertThat(withoutSelectors).isEqualTo(withSelectors);
+    }
+}
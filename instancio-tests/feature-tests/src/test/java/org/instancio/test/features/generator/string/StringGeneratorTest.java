@@ -17,6 +17,7 @@
 package org.instancio.test.features.generator.string;
 
 import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
 import org.instancio.generator.specs.StringGeneratorSpec;
 import org.instancio.junit.InstancioExtension;
 import org.instancio.settings.Keys;
@@ -37,6 +38,7 @@ import java.util.Set;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.instancio.Select.allStrings;
 
 @FeatureTag({Feature.GENERATE, Feature.STRING_GENERATOR})
@@ -233,10 +235,38 @@ class StringGeneratorTest {
                         .hasCodePointsFrom(UnicodeBlock.CYRILLIC, UnicodeBlock.EMOTICONS);
             }
 
+            @Test
+            void unicodeBlocksShouldBeSelectedRegardlessOfSize() {
+                final int length = 10_000;
+                final String result = create(s -> s.unicode(UnicodeBlock.BASIC_LATIN, UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS).length(length));
+
+                final long basicLatinCount = result.codePoints()
+                        .filter(cp -> UnicodeBlock.of(cp) == UnicodeBlock.BASIC_LATIN)
+                        .count();
+
+                assertThat(basicLatinCount).isBetween(length * 4L / 10, length * 6L / 10);
+            }
+
+            @Test
+            void unicodeBlocksWithoutGeneratableCodePointsShouldBeSkipped() {
+                final String result = create(s -> s.unicode(UnicodeBlock.PRIVATE_USE_AREA, UnicodeBlock.CYRILLIC));
+
+                StringAssertExtras.assertString(result)
+                        .hasCodePointCount(STRING_LENGTH)
+                        .hasCodePointsFrom(UnicodeBlock.CYRILLIC);
+            }
+
             @Test
             void lengthZero() {
                 assertThat(create(s -> s.unicode().length(0))).isEmpty();
             }
+
+            @Test
+            void unicodeBlockWithoutGeneratableCodePoints() {
+                assertThatThrownBy(() -> create(s -> s.unicode(UnicodeBlock.PRIVATE_USE_AREA)))
+                        .isExactlyInstanceOf(InstancioApiException.class)
+                        .hasMessageContaining("unicode blocks [PRIVATE_USE_AREA] do not contain any code points that can be generated");
+            }
         }
     }
 
@@ -80,6 +80,16 @@ class WordGeneratorTest {
         assertWordCount(NUM_ADVERBS, gen -> gen.text().word().adverb());
     }
 
+    @Test
+    void dictionary() {
+        final List<String> results = Instancio.ofList(String.class)
+                .size(100)
+                .generate(allStrings(), gen -> gen.text().word().dictionary(source -> source.ofString("foo\nbar")))
+                .create();
+
+        assertThat(results).containsOnly("foo", "bar");
+    }
+
     @Test
     void nullable() {
         final Set<StringHolder> results = Instancio.ofSet(StringHolder.class)
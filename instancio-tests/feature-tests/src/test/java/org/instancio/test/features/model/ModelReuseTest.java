@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.model;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.Model;
+import org.instancio.exception.UnusedSelectorException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.allInts;
+import static org.instancio.Select.allLongs;
+import static org.instancio.Select.field;
+
+/**
+ * Objects created from an unmodified model reuse the model's node tree.
+ * These tests verify that reusing the node tree does not change
+ * the generated objects, and that overrides are still applied.
+ */
+@FeatureTag({Feature.MODEL, Feature.WITH_SEED})
+@ExtendWith(InstancioExtension.class)
+class ModelReuseTest {
+
+    private static InstancioApi<Person> personApi() {
+        return Instancio.of(Person.class)
+                .set(field(Address::getCity), "city")
+                .generate(allInts(), gen -> gen.ints().range(1, 10));
+    }
+
+    @Test
+    void repeatedCreateShouldProduceSameObjectsAsWithoutModel() {
+        final Model<Person> model = personApi().toModel();
+
+        for (long seed = 1; seed <= 5; seed++) {
+            final Person expected = personApi().withSeed(seed).create();
+
+            assertThat(Instancio.of(model).withSeed(seed).create()).isEqualTo(expected);
+            assertThat(Instancio.of(model).withSeed(seed).create()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void repeatedCreateListShouldProduceSameObjectsAsWithoutModel() {
+        final Model<Person> model = personApi().toModel();
+        final List<Person> expected = personApi().withSeed(123).createList(3);
+
+        assertThat(Instancio.of(model).withSeed(123).createList(3)).isEqualTo(expected);
+        assertThat(Instancio.of(model).withSeed(123).createList(3)).isEqualTo(expected);
+    }
+
+    @Test
+    void overridesShouldBeAppliedAfterModelWasReused() {
+        final Model<Person> model = personApi().toModel();
+
+        Instancio.create(model);
+        Instancio.create(model);
+
+        final Person result = Instancio.of(model)
+                .set(field(Address::getCity), "override")
+                .create();
+
+        assertThat(result.getAddress().getCity()).isEqualTo("override");
+        assertThat(Instancio.create(model).getAddress().getCity()).isEqualTo("city");
+    }
+
+    @Test
+    void unusedSelectorShouldBeReportedOnEachCreate() {
+        final Model<Person> model = Instancio.of(Person.class)
+                .set(allLongs(), 1L)
+                .toModel();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> Instancio.create(model))
+                    .isExactlyInstanceOf(UnusedSelectorException.class);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.seed;
+
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.CharacterAlgorithm;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.allStrings;
+
+@FeatureTag({Feature.WITH_SEED, Feature.SETTINGS})
+@ExtendWith(InstancioExtension.class)
+class CharacterAlgorithmSeedTest {
+
+    private static final long SEED = 123;
+    private static final String PATTERN = "#a#a#a-#h#h#H#H-#d#d#c#C";
+
+    private static Person createPerson(final CharacterAlgorithm algorithm) {
+        return Instancio.of(Person.class)
+                .withSetting(Keys.CHARACTER_ALGORITHM, algorithm)
+                .withSeed(SEED)
+                .create();
+    }
+
+    private static String createFromPattern(final CharacterAlgorithm algorithm) {
+        return Instancio.of(String.class)
+                .withSetting(Keys.CHARACTER_ALGORITHM, algorithm)
+                .generate(allStrings(), gen -> gen.text().pattern(PATTERN))
+                .withSeed(SEED)
+                .create();
+    }
+
+    @EnumSource(CharacterAlgorithm.class)
+    @ParameterizedTest
+    void sameSeedShouldProduceSameObject(final CharacterAlgorithm algorithm) {
+        assertThat(createPerson(algorithm))
+                .usingRecursiveComparison()
+                .isEqualTo(createPerson(algorithm));
+    }
+
+    @EnumSource(CharacterAlgorithm.class)
+    @ParameterizedTest
+    void textPattern(final CharacterAlgorithm algorithm) {
+        final String result = createFromPattern(algorithm);
+
+        assertThat(result)
+                .matches("[a-zA-Z0-9]{3}-[0-9a-f]{2}[0-9A-F]{2}-[0-9]{2}[a-z][A-Z]")
+                .isEqualTo(createFromPattern(algorithm));
+    }
+
+    @Test
+    void defaultAlgorithmShouldBePerCharacter() {
+        final Person expected = createPerson(CharacterAlgorithm.PER_CHARACTER);
+        final Person actual = Instancio.of(Person.class).withSeed(SEED).create();
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void differentAlgorithmsShouldProduceDifferentStrings() {
+        assertThat(createPerson(CharacterAlgorithm.BULK_V1).getName())
+                .isNotEqualTo(createPerson(CharacterAlgorithm.PER_CHARACTER).getName());
+    }
+}
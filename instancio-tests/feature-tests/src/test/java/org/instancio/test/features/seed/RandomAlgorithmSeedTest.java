@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.seed;
+
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.junit.Seed;
+import org.instancio.junit.WithSettings;
+import org.instancio.settings.Keys;
+import org.instancio.settings.RandomAlgorithm;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@FeatureTag({Feature.WITH_SEED, Feature.SETTINGS})
+@ExtendWith(InstancioExtension.class)
+class RandomAlgorithmSeedTest {
+
+    private static final long SEED = 123;
+
+    private static Person createPerson(final RandomAlgorithm algorithm) {
+        return Instancio.of(Person.class)
+                .withSetting(Keys.RANDOM_ALGORITHM, algorithm)
+                .withSeed(SEED)
+                .create();
+    }
+
+    @EnumSource(RandomAlgorithm.class)
+    @ParameterizedTest
+    void sameSeedShouldProduceSameObject(final RandomAlgorithm algorithm) {
+        final Person result1 = createPerson(algorithm);
+        final Person result2 = createPerson(algorithm);
+
+        assertThat(result1).usingRecursiveComparison().isEqualTo(result2);
+    }
+
+    @Test
+    void defaultAlgorithmShouldBeJavaUtilRandom() {
+        final Person expected = createPerson(RandomAlgorithm.JAVA_UTIL_RANDOM);
+        final Person actual = Instancio.of(Person.class).withSeed(SEED).create();
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void differentAlgorithmsShouldProduceDifferentObjects() {
+        final Set<String> names = new HashSet<>();
+
+        for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+            names.add(createPerson(algorithm).getName());
+        }
+
+        assertThat(names).hasSize(RandomAlgorithm.values().length);
+    }
+
+    @Seed(SEED)
+    @Test
+    void shouldDeriveSeedWhenAlgorithmDiffersFromSeedAnnotationRandom() {
+        final Settings settings = Settings.create()
+                .set(Keys.RANDOM_ALGORITHM, RandomAlgorithm.L64X128_MIX_RANDOM);
+
+        final Person result = Instancio.of(Person.class)
+                .withSettings(settings)
+                .create();
+
+        // the seed annotation random uses the default algorithm,
+        // therefore a new random is created with a seed derived from it
+        assertThat(result.getName()).isNotBlank();
+        assertThat(result).usingRecursiveComparison()
+                .isNotEqualTo(createPerson(RandomAlgorithm.L64X128_MIX_RANDOM));
+    }
+
+    @Nested
+    class WithSettingsAnnotationTest {
+
+        @WithSettings
+        private final Settings settings = Settings.create()
+                .set(Keys.RANDOM_ALGORITHM, RandomAlgorithm.XOSHIRO256_PLUS_PLUS);
+
+        @Seed(SEED)
+        @Test
+        void seedAnnotationShouldUseAlgorithmFromWithSettings() {
+            final Person result = Instancio.create(Person.class);
+
+            assertThat(result).usingRecursiveComparison()
+                    .isEqualTo(createPerson(RandomAlgorithm.XOSHIRO256_PLUS_PLUS));
+        }
+    }
+}
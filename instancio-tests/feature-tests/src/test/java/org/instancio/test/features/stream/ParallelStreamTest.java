@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.stream;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.Model;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.exception.UnusedSelectorException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.junit.WithSettings;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Phone;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.all;
+import static org.instancio.Select.allInts;
+import static org.instancio.Select.allStrings;
+import static org.instancio.Select.field;
+
+@FeatureTag({Feature.STREAM, Feature.WITH_SEED})
+@ExtendWith(InstancioExtension.class)
+class ParallelStreamTest {
+
+    private static final long SEED = 123;
+    private static final int SAMPLE_SIZE = 500;
+
+    private static Stream<Person> parallelStream() {
+        return Instancio.of(Person.class).withSeed(SEED).parallelStream();
+    }
+
+    @Test
+    void shouldCreateDistinctObjects() {
+        final List<Person> results = Instancio.of(Person.class)
+                .parallelStream()
+                .limit(SAMPLE_SIZE)
+                .toList();
+
+        assertThat(results)
+                .hasSize(SAMPLE_SIZE)
+                .allSatisfy(p -> assertThat(p.getName()).isNotBlank())
+                .extracting(Person::getUuid)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldProduceSameResultsRegardlessOfParallelism() {
+        final List<Person> parallel = parallelStream().limit(SAMPLE_SIZE).toList();
+        final List<Person> sequential = parallelStream().sequential().limit(SAMPLE_SIZE).toList();
+
+        assertThat(parallel)
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(sequential);
+    }
+
+    @Test
+    void elementShouldDependOnlyOnItsPosition() {
+        final List<Person> all = parallelStream().limit(20).toList();
+        final List<Person> skipped = parallelStream().skip(10).limit(10).toList();
+
+        assertThat(skipped)
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(all.subList(10, 20));
+    }
+
+    @Test
+    void shouldUseMultipleThreads() {
+        final ConcurrentHashMap.KeySetView<Thread, Boolean> threads = ConcurrentHashMap.newKeySet();
+
+        final List<Person> results = Instancio.of(Person.class)
+                .onComplete(allStrings(), (String s) -> threads.add(Thread.currentThread()))
+                .lenient()
+                .parallelStream()
+                .limit(SAMPLE_SIZE)
+                .toList();
+
+        assertThat(results).hasSize(SAMPLE_SIZE);
+
+        if (Runtime.getRuntime().availableProcessors() > 1) {
+            assertThat(threads).hasSizeGreaterThan(1);
+        }
+    }
+
+    @Test
+    void shouldApplySelectors() {
+        final List<Person> results = Instancio.of(Person.class)
+                .set(field(Person::getName), "foo")
+                .generate(allInts(), gen -> gen.ints().range(1, 5))
+                .parallelStream()
+                .limit(SAMPLE_SIZE)
+                .toList();
+
+        assertThat(results).allSatisfy(p -> {
+            assertThat(p.getName()).isEqualTo("foo");
+            assertThat(p.getAge()).isBetween(1, 5);
+        });
+    }
+
+    @Test
+    void unusedSelector() {
+        final Stream<Person> stream = Instancio.of(Person.class)
+                .set(allInts().within(field(Person::getName).toScope()), 1)
+                .parallelStream()
+                .limit(10);
+
+        assertThatThrownBy(stream::toList).isExactlyInstanceOf(UnusedSelectorException.class);
+    }
+
+    @Test
+    void withUniqueIsNotSupported() {
+        final InstancioApi<Person> api = Instancio.of(Person.class)
+                .withUnique(allInts());
+
+        assertThatThrownBy(api::parallelStream)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("withUnique() is not supported by parallelStream()");
+    }
+
+    @Test
+    void withUniqueFromModelIsNotSupported() {
+        final Model<Phone> phoneModel = Instancio.of(Phone.class)
+                .withUnique(field(Phone::getNumber))
+                .toModel();
+
+        final InstancioApi<Person> api = Instancio.of(Person.class)
+                .setModel(all(Phone.class), phoneModel);
+
+        assertThatThrownBy(api::parallelStream)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("withUnique() is not supported by parallelStream()");
+    }
+
+    @Test
+    void seedFromSettingsShouldProduceSameResultsAsWithSeed() {
+        final List<Person> results = Instancio.of(Person.class)
+                .withSetting(Keys.SEED, SEED)
+                .parallelStream()
+                .limit(SAMPLE_SIZE)
+                .toList();
+
+        assertThat(results)
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(parallelStream().limit(SAMPLE_SIZE).toList());
+    }
+
+    @Nested
+    class WithSettingsAnnotationTest {
+
+        @WithSettings
+        private final Settings settings = Settings.create()
+                .set(Keys.STRING_MIN_LENGTH, 50)
+                .set(Keys.STRING_MAX_LENGTH, 50);
+
+        @Test
+        void shouldApplyThreadLocalSettingsToAllElements() {
+            final List<Person> results = Instancio.of(Person.class)
+                    .parallelStream()
+                    .limit(SAMPLE_SIZE)
+                    .toList();
+
+            assertThat(results).allSatisfy(p -> assertThat(p.getName()).hasSize(50));
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.instancio.test.features.values.text;
 
 import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
 import org.instancio.generator.specs.WordSpec;
 import org.instancio.junit.InstancioExtension;
 import org.instancio.test.features.values.AbstractValueSpecTestTemplate;
@@ -23,8 +24,15 @@ import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @FeatureTag(Feature.VALUE_SPEC)
 @ExtendWith(InstancioExtension.class)
@@ -54,4 +62,54 @@ class WordSpecTest extends AbstractValueSpecTestTemplate<String> {
     void adverb() {
         assertThat(spec().adverb().get()).isNotNull();
     }
+
+    @Test
+    void dictionaryFromString() {
+        final WordSpec spec = spec().dictionary(source -> source.ofString("foo\nbar"));
+
+        assertThat(spec.list(100)).containsOnly("foo", "bar");
+    }
+
+    @Test
+    void dictionaryFromResource() {
+        final WordSpec spec = spec().dictionary(source -> source.ofResource("data/colours.txt"));
+
+        assertThat(spec.list(100)).containsOnly("red", "green", "blue");
+    }
+
+    @Test
+    void dictionaryFromFile(@TempDir final Path tempDir) throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("words.txt"), "foo\nbar\n");
+        final WordSpec spec = spec().dictionary(source -> source.ofFile(file));
+
+        assertThat(spec.list(100)).containsOnly("foo", "bar");
+    }
+
+    @Test
+    void dictionaryShouldBeReloadedIfFileWasModified(@TempDir final Path tempDir) throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("words.txt"), "foo\n");
+        assertThat(spec().dictionary(source -> source.ofFile(file)).get()).isEqualTo("foo");
+
+        Files.writeString(file, "bar\n");
+        final FileTime lastModified = Files.getLastModifiedTime(file);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 10_000));
+
+        assertThat(spec().dictionary(source -> source.ofFile(file)).get()).isEqualTo("bar");
+    }
+
+    @Test
+    void dictionaryShouldTakePrecedenceOverWordClass() {
+        final WordSpec spec = spec().noun().dictionary(source -> source.ofString("foo"));
+
+        assertThat(spec.get()).isEqualTo("foo");
+    }
+
+    @Test
+    void dictionaryNotFound() {
+        final WordSpec spec = spec();
+
+        assertThatThrownBy(() -> spec.dictionary(source -> source.ofResource("non-existent.txt")))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("word dictionary not found: non-existent.txt");
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.withunique;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.pojo.person.Gender;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.all;
+import static org.instancio.Select.allInts;
+import static org.instancio.Select.allLongs;
+import static org.instancio.Select.allStrings;
+
+/**
+ * Unique values from finite domains (integral ranges, enums,
+ * fixed-length strings) are produced without retries.
+ */
+@FeatureTag(Feature.WITH_UNIQUE)
+@ExtendWith(InstancioExtension.class)
+class WithUniqueFiniteDomainTest {
+
+    @Test
+    void shouldProduceAllValuesOfRange() {
+        final int size = 10_000;
+        final List<Integer> results = Instancio.ofList(Integer.class)
+                .size(size)
+                .generate(allInts(), gen -> gen.ints().range(1, size))
+                .withUnique(allInts())
+                .create();
+
+        assertThat(results).containsExactlyInAnyOrderElementsOf(
+                IntStream.rangeClosed(1, size).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void largeNumberOfLongsInLargeRange() {
+        final int size = 200_000;
+        final List<Long> results = Instancio.ofList(Long.class)
+                .size(size)
+                .generate(allLongs(), gen -> gen.longs().range(1L, (1L << 40) - 1))
+                .withUnique(allLongs())
+                .create();
+
+        assertThat(results)
+                .hasSize(size)
+                .doesNotHaveDuplicates()
+                .allSatisfy(l -> assertThat(l).isBetween(1L, (1L << 40) - 1));
+    }
+
+    @Test
+    void fixedLengthStrings() {
+        final int size = 100_000;
+        final List<String> results = Instancio.ofList(String.class)
+                .size(size)
+                .generate(allStrings(), gen -> gen.string().length(8).upperCase().prefix("ID-"))
+                .withUnique(allStrings())
+                .create();
+
+        assertThat(results)
+                .hasSize(size)
+                .doesNotHaveDuplicates()
+                .allSatisfy(s -> assertThat(s).matches("ID-[A-Z]{8}"));
+    }
+
+    @Test
+    void allEnumValues() {
+        final List<Gender> results = Instancio.ofList(Gender.class)
+                .size(Gender.values().length)
+                .withUnique(all(Gender.class))
+                .create();
+
+        assertThat(results).containsExactlyInAnyOrder(Gender.values());
+    }
+
+    @Test
+    void sameSeedShouldProduceSameResults() {
+        final Supplier<List<Integer>> supplier = () -> Instancio.ofList(Integer.class)
+                .size(100)
+                .generate(allInts(), gen -> gen.ints().range(1, 1_000_000))
+                .withUnique(allInts())
+                .withSeed(123)
+                .create();
+
+        assertThat(supplier.get()).isEqualTo(supplier.get());
+    }
+
+    @Test
+    void errorWhenDomainIsExhausted() {
+        final InstancioApi<List<Integer>> api = Instancio.ofList(Integer.class)
+                .size(11)
+                .generate(allInts(), gen -> gen.ints().range(1, 10))
+                .withUnique(allInts());
+
+        assertThatThrownBy(api::create)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("Generation was abandoned");
+    }
+}
@@ -15,7 +15,14 @@
  */
 package org.instancio.generator;
 
+import org.instancio.generator.hints.ArrayHint;
+import org.instancio.generator.hints.CollectionHint;
+import org.instancio.generator.hints.MapHint;
+import org.instancio.internal.generator.InternalContainerHint;
+import org.instancio.internal.generator.InternalGeneratorHint;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.testsupport.asserts.HintsAssert.assertHints;
@@ -44,6 +51,63 @@ class HintsTest {
                 .isSameAs(two);
     }
 
+    @Test
+    void getBuiltInHints() {
+        final CollectionHint collectionHint = CollectionHint.builder().build();
+        final MapHint mapHint = MapHint.builder().build();
+        final ArrayHint arrayHint = ArrayHint.builder().build();
+        final InternalContainerHint containerHint = InternalContainerHint.builder().build();
+        final InternalGeneratorHint generatorHint = InternalGeneratorHint.builder().build();
+        final FooHint fooHint = new FooHint();
+
+        final Hints hints = Hints.builder()
+                .with(collectionHint)
+                .with(mapHint)
+                .with(arrayHint)
+                .with(containerHint)
+                .with(generatorHint)
+                .with(fooHint)
+                .build();
+
+        assertThat(hints.get(CollectionHint.class)).isSameAs(collectionHint);
+        assertThat(hints.get(MapHint.class)).isSameAs(mapHint);
+        assertThat(hints.get(ArrayHint.class)).isSameAs(arrayHint);
+        assertThat(hints.get(InternalContainerHint.class)).isSameAs(containerHint);
+        assertThat(hints.get(InternalGeneratorHint.class)).isSameAs(generatorHint);
+        assertThat(hints.get(FooHint.class)).isSameAs(fooHint);
+        assertThat(Hints.builder().build().get(CollectionHint.class)).isNull();
+    }
+
+    @Test
+    void copyShouldNotModifyOriginal() {
+        final FooHint fooHint = new FooHint();
+        final Hints original = Hints.builder()
+                .with(fooHint)
+                .with(MapHint.builder().build())
+                .build();
+
+        final Hints copy = Hints.builder(original)
+                .with(new FooHint())
+                .with(CollectionHint.builder().build())
+                .afterGenerate(AfterGenerate.POPULATE_ALL)
+                .build();
+
+        assertThat(copy.get(MapHint.class)).isSameAs(original.get(MapHint.class));
+        assertThat(copy.get(FooHint.class)).isNotSameAs(fooHint);
+        assertThat(original.get(FooHint.class)).isSameAs(fooHint);
+        assertThat(original.get(CollectionHint.class)).isNull();
+        assertThat(original.afterGenerate()).isNull();
+    }
+
+    @EnumSource(AfterGenerate.class)
+    @ParameterizedTest
+    void afterGenerateShouldReturnSharedInstance(final AfterGenerate afterGenerate) {
+        final Hints hints = Hints.afterGenerate(afterGenerate);
+
+        assertThat(hints.afterGenerate()).isEqualTo(afterGenerate);
+        assertThat(Hints.afterGenerate(afterGenerate)).isSameAs(hints);
+    }
+
     @Test
     void emptyHintsShouldHaveNullAfterGenerate() {
         assertHints(Hints.builder().build())
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.internal.util.CartesianList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CombinationCursorTest {
+
+    private final List<List<Object>> axes = Arrays.asList(
+            Arrays.asList("a", "b", "c"),
+            Arrays.asList(1, 2),
+            Arrays.asList(true, false));
+
+    @Test
+    void shouldProduceSameOrderAsCartesianList() {
+        final List<List<Object>> expected = CartesianList.create(axes);
+        final CombinationCursor cursor = new CombinationCursor(axes, 0, expected.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(nextCombination(cursor)).as("index %s", i).isEqualTo(tuple(expected, i));
+        }
+
+        for (int i = 0; i < axes.size(); i++) {
+            assertThat(cursor.hasNext(i)).isFalse();
+        }
+    }
+
+    @Test
+    void shouldStartAtGivenIndex() {
+        final List<List<Object>> expected = CartesianList.create(axes);
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(nextCombination(new CombinationCursor(axes, i, expected.size())))
+                    .as("index %s", i)
+                    .isEqualTo(tuple(expected, i));
+        }
+    }
+
+    @Test
+    void axesShouldAdvanceIndependently() {
+        final List<List<Object>> expected = CartesianList.create(axes);
+        final CombinationCursor cursor = new CombinationCursor(axes, 2, 5);
+
+        // take values of the first axis only
+        assertThat(cursor.nextValue(0)).isEqualTo(tuple(expected, 2).get(0));
+        assertThat(cursor.nextValue(0)).isEqualTo(tuple(expected, 3).get(0));
+        assertThat(cursor.nextValue(0)).isEqualTo(tuple(expected, 4).get(0));
+        assertThat(cursor.hasNext(0)).isFalse();
+
+        // other axes are still at the first combination
+        assertThat(cursor.hasNext(1)).isTrue();
+        assertThat(cursor.nextValue(1)).isEqualTo(tuple(expected, 2).get(1));
+        assertThat(cursor.nextValue(2)).isEqualTo(tuple(expected, 2).get(2));
+    }
+
+    /**
+     * Copies a tuple of the Cartesian list element by element, since
+     * the returned tuples do not support iteration (or {@code equals()}).
+     */
+    private static List<Object> tuple(final List<List<Object>> cartesianList, final int index) {
+        final List<Object> tuple = cartesianList.get(index);
+        final List<Object> result = new ArrayList<>(tuple.size());
+        for (int i = 0; i < tuple.size(); i++) {
+            result.add(tuple.get(i));
+        }
+        return result;
+    }
+
+    private List<Object> nextCombination(final CombinationCursor cursor) {
+        final List<Object> result = new ArrayList<>();
+        for (int i = 0; i < axes.size(); i++) {
+            result.add(cursor.nextValue(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexedElementSpliteratorTest {
+
+    private final IndexedElementSpliterator<Long> spliterator = new IndexedElementSpliterator<>(i -> i * 10);
+
+    @Test
+    void characteristics() {
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.estimateSize()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void tryAdvance() {
+        final List<Long> results = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(spliterator.tryAdvance(results::add)).isTrue();
+        }
+
+        assertThat(results).containsExactly(0L, 10L, 20L);
+        assertThat(spliterator.estimateSize()).isEqualTo(Long.MAX_VALUE - 3);
+    }
+
+    @Test
+    void trySplitShouldPartitionIndices() {
+        final Spliterator<Long> prefix = spliterator.trySplit();
+
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize() + spliterator.estimateSize()).isEqualTo(Long.MAX_VALUE);
+
+        final List<Long> first = new ArrayList<>();
+        final List<Long> second = new ArrayList<>();
+        prefix.tryAdvance(first::add);
+        spliterator.tryAdvance(second::add);
+
+        assertThat(first).containsExactly(0L);
+        assertThat(second).containsExactly((Long.MAX_VALUE >>> 1) * 10);
+    }
+
+    @Test
+    void trySplitSingleElement() {
+        final Spliterator<Long> prefix = spliterator.trySplit();
+        assertThat(prefix).isNotNull();
+
+        Spliterator<Long> current = prefix;
+        while (current.estimateSize() > 1) {
+            current = current.trySplit();
+            assertThat(current).isNotNull();
+        }
+
+        assertThat(current.trySplit()).isNull();
+    }
+
+    @Test
+    void parallelStreamShouldBeOrdered() {
+        final List<Long> results = StreamSupport.stream(spliterator, true)
+                .skip(100)
+                .limit(1000)
+                .toList();
+
+        assertThat(results).isEqualTo(LongStream.range(100, 1100).mapToObj(i -> i * 10).toList());
+    }
+}
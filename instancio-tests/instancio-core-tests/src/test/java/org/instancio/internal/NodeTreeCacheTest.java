@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.CacheStats;
+import org.instancio.Instancio;
+import org.instancio.Select;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.basic.StringHolder;
+import org.instancio.test.support.pojo.generics.basic.Item;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.field;
+
+class NodeTreeCacheTest {
+
+    private final NodeTreeCache cache = new NodeTreeCache();
+
+    private static ModelContext.Builder builder(final Class<?> klass) {
+        return ModelContext.builder(klass);
+    }
+
+    private static InternalNode createTree(final ModelContext context) {
+        return new InternalModel<>(context).getRootNode();
+    }
+
+    @Test
+    void hitAndMiss() {
+        final ModelContext context = builder(Person.class).build();
+        final NodeTreeCache.Key key = NodeTreeCache.keyFor(context);
+        assertThat(key).isNotNull();
+
+        assertThat(cache.get(key)).isNull();
+
+        final InternalNode root = createTree(context);
+        cache.put(key, root, 5, 10);
+
+        final NodeTreeCache.Key sameKey = NodeTreeCache.keyFor(builder(Person.class).build());
+        assertThat(cache.get(sameKey)).isSameAs(root);
+        assertThat(cache.getStats()).isEqualTo(new CacheStats(1, 1, 1, 0, 1, 5));
+    }
+
+    @Test
+    void nodeTreeCacheStats() {
+        Instancio.create(Person.class);
+        final CacheStats before = CacheStats.nodeTrees();
+
+        Instancio.create(Person.class);
+        final CacheStats after = CacheStats.nodeTrees();
+
+        assertThat(before.size()).isPositive();
+        assertThat(before.loadCount()).isPositive();
+        assertThat(after.hitCount()).isGreaterThan(before.hitCount());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        final NodeTreeCache.Key key1 = NodeTreeCache.keyFor(builder(Person.class).build());
+        final NodeTreeCache.Key key2 = NodeTreeCache.keyFor(builder(Address.class).build());
+        final NodeTreeCache.Key key3 = NodeTreeCache.keyFor(builder(StringHolder.class).build());
+        final InternalNode root1 = createTree(builder(Person.class).build());
+
+        cache.put(key1, root1, 0, 2);
+        cache.put(key2, createTree(builder(Address.class).build()), 0, 2);
+        cache.get(key1); // key2 becomes the least recently used
+        cache.put(key3, createTree(builder(StringHolder.class).build()), 0, 2);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getStats().evictionCount()).isEqualTo(1);
+        assertThat(cache.get(key1)).isSameAs(root1);
+        assertThat(cache.get(key2)).isNull();
+        assertThat(cache.get(key3)).isNotNull();
+    }
+
+    @Test
+    void keyShouldIncludeSettingsAffectingTreeShape() {
+        final NodeTreeCache.Key key = NodeTreeCache.keyFor(builder(Person.class).build());
+
+        assertThat(NodeTreeCache.keyFor(builder(Person.class).withMaxDepth(1).build()))
+                .isNotEqualTo(key);
+
+        assertThat(NodeTreeCache.keyFor(builder(Person.class)
+                .withSetting(Keys.IGNORE_FIELD_NAME_REGEXES, "name")
+                .build()))
+                .isNotEqualTo(key);
+
+        assertThat(NodeTreeCache.keyFor(builder(Person.class)
+                .withSettings(Settings.create().mapType(List.class, LinkedList.class))
+                .build()))
+                .isNotEqualTo(key);
+
+        // does not affect the tree
+        assertThat(NodeTreeCache.keyFor(builder(Person.class)
+                .withSetting(Keys.STRING_MIN_LENGTH, 20)
+                .withSetting(Keys.STRING_MAX_LENGTH, 20)
+                .withGenerator(Select.allInts(), random -> 1)
+                .build()))
+                .isEqualTo(key);
+    }
+
+    @Test
+    void shouldNotCacheTreeWithSelectorsAffectingStructure() {
+        assertThat(NodeTreeCache.keyFor(builder(Person.class)
+                .withIgnored(field(Person::getAddress))
+                .build()))
+                .isNull();
+
+        assertThat(NodeTreeCache.keyFor(builder(Person.class)
+                .withSubtype(Select.all(List.class), LinkedList.class)
+                .build()))
+                .isNull();
+    }
+
+    @Test
+    void shouldNotCacheIfDisabledOrRootTypeHasTypeParameters() {
+        assertThat(NodeTreeCache.keyFor(builder(Person.class)
+                .withSetting(Keys.NODE_TREE_CACHE_MAX_SIZE, 0)
+                .build()))
+                .isNull();
+
+        assertThat(NodeTreeCache.keyFor(builder(Item.class)
+                .withRootTypeParameters(List.of(String.class))
+                .build()))
+                .isNull();
+    }
+}
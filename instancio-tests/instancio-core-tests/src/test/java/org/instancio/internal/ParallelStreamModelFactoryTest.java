@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.internal.context.ModelContext;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelStreamModelFactoryTest {
+
+    //@formatter:off
+    private sealed interface Shape permits Circle, Square {}
+    private record Circle(int radius) implements Shape {}
+    private record Square(int side) implements Shape {}
+    private record ShapeHolder(Shape shape) {}
+    //@formatter:on
+
+    @Test
+    void elementSeedShouldMatchSplittableRandom() {
+        final long baseSeed = 12345;
+        final SplittableRandom random = new SplittableRandom(baseSeed);
+
+        for (long i = 1; i <= 100; i++) {
+            assertThat(ParallelStreamModelFactory.elementSeed(baseSeed, i)).isEqualTo(random.nextLong());
+        }
+    }
+
+    @Test
+    void firstElementShouldUseFirstModel() {
+        final ParallelStreamModelFactory<Person> factory = new ParallelStreamModelFactory<>(
+                ModelContext.builder(Person.class).withSeed(123));
+
+        assertThat(factory.createModel(0)).isSameAs(factory.getFirstModel());
+    }
+
+    @Test
+    void shouldReuseNodeTreeWithNewContext() {
+        final ParallelStreamModelFactory<Person> factory = new ParallelStreamModelFactory<>(
+                ModelContext.builder(Person.class).withSeed(123));
+
+        final InternalModel<Person> first = factory.getFirstModel();
+        final InternalModel<Person> model = factory.createModel(1);
+
+        assertThat(model.getRootNode()).isSameAs(first.getRootNode());
+        assertThat(model.getModelContext()).isNotSameAs(first.getModelContext());
+        assertThat(model.getModelContext().getSettings()).isSameAs(first.getModelContext().getSettings());
+    }
+
+    @Test
+    void shouldNotReuseNodeTreeContainingSealedAbstractType() {
+        final ParallelStreamModelFactory<ShapeHolder> factory = new ParallelStreamModelFactory<>(
+                ModelContext.builder(ShapeHolder.class));
+
+        final InternalModel<ShapeHolder> first = factory.getFirstModel();
+        final InternalModel<ShapeHolder> model = factory.createModel(1);
+
+        assertThat(model.getRootNode()).isNotSameAs(first.getRootNode());
+        assertThat(model.getModelContext().getSettings()).isSameAs(first.getModelContext().getSettings());
+    }
+
+    @Test
+    void elementSeedShouldDependOnlyOnIndex() {
+        final ModelContext.Builder builder = ModelContext.builder(Person.class).withSeed(123);
+        final ParallelStreamModelFactory<Person> factory1 = new ParallelStreamModelFactory<>(builder);
+        final ParallelStreamModelFactory<Person> factory2 = new ParallelStreamModelFactory<>(builder);
+
+        // create models in different order
+        final long seed1 = factory1.createModel(2).getModelContext().getRandom().getSeed();
+        factory2.createModel(1);
+        factory2.createModel(3);
+        final long seed2 = factory2.createModel(2).getModelContext().getRandom().getSeed();
+
+        assertThat(seed1)
+                .isEqualTo(seed2)
+                .isNotEqualTo(factory1.createModel(1).getModelContext().getRandom().getSeed());
+    }
+}
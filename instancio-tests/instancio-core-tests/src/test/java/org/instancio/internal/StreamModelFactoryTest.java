@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.Instancio;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamModelFactoryTest {
+
+    //@formatter:off
+    private sealed interface Shape permits Circle, Square {}
+    private record Circle(int radius) implements Shape {}
+    private record Square(int side) implements Shape {}
+    private record ShapeHolder(Shape shape) {}
+    //@formatter:on
+
+    @Test
+    void shouldReuseNodeTreeWithNewContext() {
+        final StreamModelFactory<Person> factory = new StreamModelFactory<>(
+                ModelContext.builder(Person.class).withSeed(123));
+
+        final InternalModel<Person> first = factory.createModel();
+        final InternalModel<Person> second = factory.createModel();
+
+        assertThat(second.getRootNode()).isSameAs(first.getRootNode());
+        assertThat(second.getModelContext()).isNotSameAs(first.getModelContext());
+        assertThat(second.getModelContext().getRandom()).isNotSameAs(first.getModelContext().getRandom());
+        assertThat(second.getModelContext().getSettings()).isSameAs(first.getModelContext().getSettings());
+    }
+
+    @Test
+    void shouldNotReuseNodeTreeContainingSealedAbstractType() {
+        final StreamModelFactory<ShapeHolder> factory = new StreamModelFactory<>(
+                ModelContext.builder(ShapeHolder.class));
+
+        final InternalModel<ShapeHolder> first = factory.createModel();
+        final InternalModel<ShapeHolder> second = factory.createModel();
+
+        assertThat(first.isNodeTreeReusable()).isFalse();
+        assertThat(second.getRootNode()).isNotSameAs(first.getRootNode());
+    }
+
+    @Test
+    void streamWithSeedShouldProduceSameResults() {
+        final List<Person> results1 = Instancio.of(Person.class)
+                .withSeed(-1)
+                .stream()
+                .limit(5)
+                .toList();
+
+        final List<Person> results2 = Instancio.of(Person.class)
+                .withSeed(-1)
+                .stream()
+                .limit(5)
+                .toList();
+
+        assertThat(results1)
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(results2)
+                .doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.annotation;
+
+import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.GeneratorSpec;
+import org.instancio.internal.generator.lang.StringGenerator;
+import org.instancio.internal.util.ReflectionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AbstractAnnotationLibraryFacadeTest {
+
+    @Retention(RUNTIME)
+    private @interface RandomSuffix {}
+
+    @Retention(RUNTIME)
+    private @interface Prefix {}
+
+    @Retention(RUNTIME)
+    private @interface Unhandled {}
+
+    @Prefix
+    @SuppressWarnings("unused") // used via reflection
+    private static final Object PREFIX = null;
+
+    @Prefix
+    @RandomSuffix
+    @Unhandled
+    @SuppressWarnings("unused") // used via reflection
+    private static final Object PREFIX_AND_RANDOM_SUFFIX = null;
+
+    @Unhandled
+    @SuppressWarnings("unused") // used via reflection
+    private static final Object UNHANDLED = null;
+
+    // does not override isRandomised(), therefore should be treated as randomised
+    private static final FieldAnnotationHandler RANDOM_SUFFIX_HANDLER = (annotation, spec, targetClass, context) -> {
+        if (spec instanceof StringGenerator generator) {
+            generator.suffix(context.random().alphanumeric(5));
+        }
+    };
+
+    private static final FieldAnnotationHandler PREFIX_HANDLER = new FieldAnnotationHandler() {
+        @Override
+        public boolean isRandomised(final Annotation annotation) {
+            return false;
+        }
+
+        @Override
+        public void process(final Annotation annotation,
+                            final GeneratorSpec<?> spec,
+                            final Class<?> targetClass,
+                            final GeneratorContext generatorContext) {
+
+            if (spec instanceof StringGenerator generator) {
+                generator.prefix("foo");
+            }
+        }
+    };
+
+    private final AbstractAnnotationLibraryFacade facade = new AbstractAnnotationLibraryFacade() {
+        private final AnnotationHandlerMap handlerMap = new AnnotationHandlerMap();
+
+        {
+            handlerMap.put(() -> RandomSuffix.class, RANDOM_SUFFIX_HANDLER);
+            handlerMap.put(() -> Prefix.class, PREFIX_HANDLER);
+        }
+
+        @Override
+        protected AnnotationHandlerMap getAnnotationHandlerMap() {
+            return handlerMap;
+        }
+    };
+
+    private static AnnotationMap annotationsOf(final String fieldName) {
+        return new AnnotationMap(ReflectionUtils.getField(
+                AbstractAnnotationLibraryFacadeTest.class, fieldName).getDeclaredAnnotations());
+    }
+
+    @Test
+    void handlerThatDoesNotOptOutShouldBeRandomised() {
+        assertThat(facade.isRandomised(annotationsOf("PREFIX_AND_RANDOM_SUFFIX"))).isTrue();
+    }
+
+    @Test
+    void isNotRandomisedIfAllHandlersOptOut() {
+        assertThat(facade.isRandomised(annotationsOf("PREFIX"))).isFalse();
+    }
+
+    @Test
+    void annotationsWithoutHandlersShouldBeIgnored() {
+        assertThat(facade.isRandomised(annotationsOf("UNHANDLED"))).isFalse();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.assigners;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MethodHandleSettersTest {
+
+    @SuppressWarnings("unused")
+    private static class Pojo {
+        private int primitive;
+        private String string;
+        private static String staticField;
+
+        private void setString(final String string) {
+            this.string = string;
+        }
+
+        private void setPrimitive(final int primitive) {
+            throw new UnsupportedOperationException("expected error");
+        }
+
+        private void setFailing(final String value) {
+            throw new AssertionError("expected error");
+        }
+    }
+
+    @Test
+    void fieldSetterIsCached() throws Exception {
+        final Field field = Pojo.class.getDeclaredField("string");
+
+        assertThat(MethodHandleSetters.getSetter(field))
+                .isNotNull()
+                .isSameAs(MethodHandleSetters.getSetter(field));
+    }
+
+    @Test
+    void invokeFieldSetter() throws Exception {
+        final Pojo pojo = new Pojo();
+        final MethodHandle string = MethodHandleSetters.getSetter(Pojo.class.getDeclaredField("string"));
+        final MethodHandle primitive = MethodHandleSetters.getSetter(Pojo.class.getDeclaredField("primitive"));
+
+        MethodHandleSetters.set(string, pojo, "foo");
+        MethodHandleSetters.set(primitive, pojo, 123);
+
+        assertThat(pojo.string).isEqualTo("foo");
+        assertThat(pojo.primitive).isEqualTo(123);
+    }
+
+    @Test
+    void invokeMethodSetter() throws Exception {
+        final Pojo pojo = new Pojo();
+        final Method method = Pojo.class.getDeclaredMethod("setString", String.class);
+        final MethodHandle handle = MethodHandleSetters.getSetter(method);
+
+        MethodHandleSetters.invoke(handle, pojo, "foo");
+
+        assertThat(pojo.string).isEqualTo("foo");
+    }
+
+    @Test
+    void shouldWrapExceptionThrownBySetter() throws Exception {
+        final Method method = Pojo.class.getDeclaredMethod("setPrimitive", int.class);
+        final MethodHandle handle = MethodHandleSetters.getSetter(method);
+
+        assertThatThrownBy(() -> MethodHandleSetters.invoke(handle, new Pojo(), 1))
+                .isExactlyInstanceOf(InvocationTargetException.class)
+                .hasCauseExactlyInstanceOf(UnsupportedOperationException.class)
+                .hasRootCauseMessage("expected error");
+    }
+
+    @Test
+    void shouldWrapErrorThrownBySetter() throws Exception {
+        final Method method = Pojo.class.getDeclaredMethod("setFailing", String.class);
+        final MethodHandle handle = MethodHandleSetters.getSetter(method);
+
+        assertThatThrownBy(() -> MethodHandleSetters.invoke(handle, new Pojo(), "foo"))
+                .isExactlyInstanceOf(InvocationTargetException.class)
+                .hasCauseExactlyInstanceOf(AssertionError.class)
+                .hasRootCauseMessage("expected error");
+    }
+
+    @Test
+    void typeMismatch() throws Exception {
+        final MethodHandle handle = MethodHandleSetters.getSetter(Pojo.class.getDeclaredField("string"));
+
+        assertThatThrownBy(() -> MethodHandleSetters.set(handle, new Pojo(), 123))
+                .isExactlyInstanceOf(ClassCastException.class);
+    }
+
+    @Test
+    void shouldReturnNullIfHandleCannotBeCreated() throws Exception {
+        final Field field = Pojo.class.getDeclaredField("staticField");
+
+        assertThat(MethodHandleSetters.getSetter(field)).isNull();
+    }
+}
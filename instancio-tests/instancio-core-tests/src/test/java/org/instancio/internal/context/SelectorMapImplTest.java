@@ -43,6 +43,7 @@ import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -201,6 +202,54 @@ class SelectorMapImplTest {
         assertThat(selectorMap.getValue(stringNode)).isEmpty();
     }
 
+    @Test
+    void resolvedMatchesShouldBeReusedForSubsequentLookups() {
+        final AtomicInteger predicateCalls = new AtomicInteger();
+        put(Select.fields(f -> predicateCalls.incrementAndGet() > 0 && f.getName().equals("name")), "foo");
+
+        assertThat(selectorMap.getValue(personNameNode)).contains("foo");
+        final int callsAfterFirstLookup = predicateCalls.get();
+
+        assertThat(selectorMap.getValue(personNameNode)).contains("foo");
+        assertThat(selectorMap.getValues(personNameNode)).containsExactly("foo");
+        assertThat(predicateCalls.get()).isEqualTo(callsAfterFirstLookup);
+    }
+
+    @Test
+    void putShouldDiscardResolvedMatches() {
+        put(allStrings(), "foo");
+        assertThat(selectorMap.getValue(personNameNode)).contains("foo");
+        assertThat(selectorMap.getValue(petNameNode)).contains("foo");
+
+        put(field(Person.class, "name"), "bar");
+        assertThat(selectorMap.getValue(personNameNode)).contains("bar");
+        assertThat(selectorMap.getValues(personNameNode)).containsExactly("bar", "foo");
+        assertThat(selectorMap.getValue(petNameNode)).contains("foo");
+    }
+
+    @Test
+    void nodesFromDifferentTreesWithSameOrdinal() {
+        put(allStrings().within(scope(Pet.class)), "foo");
+
+        final InternalNode petName = nodeFactory.createRootNode(Pet.class).getOnlyChild();
+        assertThat(selectorMap.getValue(petName)).contains("foo");
+
+        final InternalNode otherNode = rootNode.getChildren().get(0);
+        assertThat(otherNode.getOrdinal()).isEqualTo(petName.getOrdinal());
+        assertThat(selectorMap.getValue(otherNode)).isEmpty();
+        assertThat(selectorMap.getValue(petNameNode)).contains("foo");
+    }
+
+    @Test
+    void nodeWithoutOrdinal() {
+        put(field(Person.class, "name"), "foo");
+        final InternalNode copy = personNameNode.toBuilder().build();
+
+        assertThat(copy.getOrdinal()).isNegative();
+        assertThat(selectorMap.getValue(copy)).contains("foo");
+        assertThat(selectorMap.getValue(copy)).contains("foo");
+    }
+
     private static InternalNode getNodeWithField(final InternalNode node, final Class<?> declaringClass, final String fieldName) {
         final Field field = ReflectionUtils.getField(declaringClass, fieldName);
         assertThat(field).as("null field").isNotNull();
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.CacheStats;
+import org.instancio.internal.feed.FeedDataCache.SourceVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class FeedDataCacheTest {
+
+    private static final boolean STRONG = false;
+    private static final boolean SOFT = true;
+
+    private final FeedDataCache<Object> cache = new FeedDataCache<>(10, STRONG);
+
+    @Test
+    void hitAndMiss() {
+        final Object data = new Object();
+
+        assertThat(cache.get("key", null)).isNull();
+        cache.put("key", data, null);
+
+        assertThat(cache.get("key", null)).isSameAs(data);
+        assertThat(cache.getStats().hitCount()).isEqualTo(1);
+        assertThat(cache.getStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        final FeedDataCache<Object> cache = new FeedDataCache<>(2, STRONG);
+        final Object data1 = new Object();
+        final Object data2 = new Object();
+        final Object data3 = new Object();
+
+        cache.put("1", data1, null);
+        cache.put("2", data2, null);
+        cache.get("1", null); // "2" becomes the least recently used
+        cache.put("3", data3, null);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getStats().evictionCount()).isEqualTo(1);
+        assertThat(cache.get("1", null)).isSameAs(data1);
+        assertThat(cache.get("2", null)).isNull();
+        assertThat(cache.get("3", null)).isSameAs(data3);
+    }
+
+    @Test
+    void shouldCloseEvictedData() throws IOException {
+        final FeedDataCache<Object> cache = new FeedDataCache<>(1, STRONG);
+        final Closeable data1 = mock(Closeable.class);
+        final Closeable data2 = mock(Closeable.class);
+
+        cache.put("1", data1, null);
+        cache.put("2", data2, null);
+
+        verify(data1).close();
+        verifyNoInteractions(data2);
+    }
+
+    @Test
+    void shouldDiscardEntryIfSourceWasModified() throws IOException {
+        final Closeable data = mock(Closeable.class);
+        final FileTime time = FileTime.fromMillis(1000);
+
+        cache.put("key", data, new SourceVersion(10, time));
+
+        assertThat(cache.get("key", new SourceVersion(10, time))).isSameAs(data);
+        assertThat(cache.get("key", new SourceVersion(10, FileTime.fromMillis(2000)))).isNull();
+        assertThat(cache.size()).isZero();
+        verify(data).close();
+    }
+
+    @Test
+    void shouldDiscardEntryIfSourceWasTruncated() {
+        final FileTime time = FileTime.fromMillis(1000);
+
+        cache.put("key", new Object(), new SourceVersion(10, time));
+
+        assertThat(cache.get("key", new SourceVersion(5, time))).isNull();
+    }
+
+    @Test
+    void sourceVersionOfFile(@TempDir final Path tempDir) throws IOException {
+        final Path path = Files.writeString(tempDir.resolve("test.csv"), "value\nfoo");
+        final FileTime time = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(path, time);
+
+        assertThat(SourceVersion.of(path)).isEqualTo(new SourceVersion(9, time));
+        assertThat(SourceVersion.of(tempDir.resolve("non-existent"))).isNull();
+    }
+
+    @Test
+    void softReferencesShouldBeReclaimable() {
+        final FeedDataCache<Object> cache = new FeedDataCache<>(10, SOFT);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad("key", null, () -> loads.incrementAndGet());
+        cache.clearSoftReferences();
+        cache.getOrLoad("key", null, () -> loads.incrementAndGet());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void strongReferencesShouldNotBeReclaimable() {
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad("key", null, () -> loads.incrementAndGet());
+        cache.clearSoftReferences();
+        cache.getOrLoad("key", null, () -> loads.incrementAndGet());
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void cachingDisabled() {
+        final FeedDataCache<Object> cache = new FeedDataCache<>(0, STRONG);
+        final AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.getOrLoad("key", null, () -> loads.incrementAndGet())).isEqualTo(1);
+        assertThat(cache.getOrLoad("key", null, () -> loads.incrementAndGet())).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getStats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getOrLoad() {
+        final Object data = new Object();
+
+        assertThat(cache.getOrLoad("key", null, () -> data)).isSameAs(data);
+        assertThat(cache.getOrLoad("key", null, () -> {
+            throw new AssertionError("should not be loaded again");
+        })).isSameAs(data);
+
+        final CacheStats stats = cache.getStats();
+        assertThat(stats.loadCount()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.size()).isEqualTo(1);
+    }
+
+    @Test
+    void failedLoadShouldNotBeCached() {
+        assertThatThrownBy(() -> cache.getOrLoad("key", null, () -> {
+            throw new IllegalStateException("expected");
+        })).isExactlyInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.getOrLoad("key", null, () -> "data")).isEqualTo("data");
+    }
+
+    @Test
+    void concurrentGetOrLoadShouldLoadOnce() throws Exception {
+        final Object data = new Object();
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.getOrLoad("key", null, () -> {
+                        loads.incrementAndGet();
+                        return data;
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<Object> future : futures) {
+                assertThat(future.get()).isSameAs(data);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    /**
+     * Loading data for one key should not block requests for other keys.
+     */
+    @Test
+    void loadShouldNotBlockOtherKeys() throws Exception {
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            final Future<Object> slowLoad = executor.submit(() -> cache.getOrLoad("slow", null, () -> {
+                loadStarted.countDown();
+                await(releaseLoad);
+                return "slow";
+            }));
+
+            assertThat(loadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(cache.getOrLoad("fast", null, () -> "fast")).isEqualTo("fast");
+
+            releaseLoad.countDown();
+            assertThat(slowLoad.get()).isEqualTo("slow");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void verifyToString() {
+        cache.getOrLoad("key", null, Object::new);
+        cache.getOrLoad("key", null, Object::new);
+
+        assertThat(cache.toString()).startsWith(
+                "FeedDataCache[size=1, hits=1, misses=1, evictions=0, loads=1, loadTimeMs=");
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.csv;
+
+import org.instancio.exception.InstancioApiException;
+import org.instancio.feed.DataSource;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedCsvDataLoaderTest {
+
+    private static final String CSV = """
+            # comment
+            id,value
+            1,foo\r
+            
+            # another comment
+            2,"bar, baz"\r\n\
+            3,Д_3
+            4,
+            5,last""";
+
+    private static final InternalCsvFormatOptions FORMAT_OPTIONS =
+            InternalCsvFormatOptions.defaults(Settings.defaults());
+
+    private static final DataSource DATA_SOURCE = new DataSource() {
+        @Override
+        public InputStream getInputStream() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getName() {
+            return "test.csv";
+        }
+    };
+
+    @TempDir
+    private Path tempDir;
+
+    private Path createFile(final String content) throws IOException {
+        return Files.write(tempDir.resolve("test.csv"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<List<String>> lines(final MappedCsvFile file) {
+        final List<List<String>> lines = new ArrayList<>();
+        for (int i = 0; i < file.size(); i++) {
+            lines.add(Arrays.asList(file.getLine(i)));
+        }
+        return lines;
+    }
+
+    @Test
+    void load() throws IOException {
+        final MappedCsvFile file = new MappedCsvDataLoader(createFile(CSV), FORMAT_OPTIONS).load(DATA_SOURCE);
+
+        assertThat(file.size()).isEqualTo(6);
+        assertThat(file.getLine(0)).containsExactly("id", "value");
+        assertThat(file.getLine(2)).containsExactly("2", "bar, baz");
+        assertThat(file.getLine(3)).containsExactly("3", "Д_3");
+        assertThat(file.getLine(4)).containsExactly("4", null);
+        assertThat(file.getLine(5)).containsExactly("5", "last");
+    }
+
+    /**
+     * Lines spanning the boundaries of small regions should be
+     * indexed from the start of the next region. The longest
+     * line (a comment) is 18 bytes including the terminator.
+     */
+    @ValueSource(ints = {18, 19, 20, 24, 32})
+    @ParameterizedTest
+    void loadUsingMultipleRegions(final int maxRegionSize) throws IOException {
+        final Path path = createFile(CSV);
+        final MappedCsvFile expected = new MappedCsvDataLoader(path, FORMAT_OPTIONS).load(DATA_SOURCE);
+        final MappedCsvFile actual = new MappedCsvDataLoader(path, FORMAT_OPTIONS, maxRegionSize).load(DATA_SOURCE);
+
+        assertThat(lines(actual)).isEqualTo(lines(expected));
+    }
+
+    @Test
+    void lineLongerThanRegion() throws IOException {
+        final MappedCsvDataLoader loader = new MappedCsvDataLoader(createFile(CSV), FORMAT_OPTIONS, 5);
+
+        assertThatThrownBy(() -> loader.load(DATA_SOURCE))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("line starting at offset 0 of test.csv is too long");
+    }
+
+    @Test
+    void shouldMapRegionsAgainAfterClose() throws IOException {
+        final MappedCsvFile file = new MappedCsvDataLoader(createFile(CSV), FORMAT_OPTIONS, 20).load(DATA_SOURCE);
+        final List<List<String>> expected = lines(file);
+
+        file.close();
+
+        assertThat(lines(file)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldFailIfFileWasModifiedAfterClose() throws IOException {
+        final Path path = createFile(CSV);
+        final MappedCsvFile file = new MappedCsvDataLoader(path, FORMAT_OPTIONS).load(DATA_SOURCE);
+
+        file.close();
+        Files.write(path, "id,value".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> file.getLine(1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("has been modified after it was loaded");
+    }
+
+    @Test
+    void shouldFailIfFileWasTruncated() throws IOException {
+        final Path path = createFile(CSV);
+        final MappedCsvFile file = new MappedCsvDataLoader(path, FORMAT_OPTIONS).load(DATA_SOURCE);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+        }
+
+        assertThatThrownBy(() -> file.getLine(5))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("error reading line 5 of memory-mapped CSV file");
+    }
+}
@@ -16,9 +16,16 @@
 package org.instancio.internal.generation;
 
 import org.instancio.Assign;
+import org.instancio.TargetSelector;
+import org.instancio.generator.Hints;
 import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.generator.GeneratorResult;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.testsupport.fixtures.Fixtures;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.Select.all;
 
@@ -42,4 +49,25 @@ class AssigmentObjectStoreTest {
 
         assertThat(result).isExactlyInstanceOf(AssigmentObjectStore.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void resetShouldDiscardStoredValues() {
+        final ModelContext ctx = ModelContext.builder(String.class)
+                .withAssignments(Assign.valueOf(String.class).to(all(String.class)))
+                .build();
+
+        final AssigmentObjectStore store = AssigmentObjectStore.create(ctx);
+        final InternalNode node = Fixtures.node(String.class);
+        final List<TargetSelector> destinations = ctx.getAssignmentDestinationSelectors(node);
+
+        store.objectCreated(node, GeneratorResult.create("foo", Hints.builder().build()));
+
+        assertThat(destinations).isNotEmpty();
+        assertThat(store.getValue(destinations.get(0))).isNotNull();
+
+        store.reset();
+
+        assertThat(store.hasNewValues()).isFalse();
+        assertThat(store.getValue(destinations.get(0))).isNull();
+    }
+}
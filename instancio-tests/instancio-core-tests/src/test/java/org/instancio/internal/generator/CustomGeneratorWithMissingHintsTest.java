@@ -22,7 +22,6 @@ import org.instancio.generator.Hints;
 import org.instancio.test.support.pojo.basic.StringHolder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.Select.allStrings;
@@ -32,8 +31,8 @@ class CustomGeneratorWithMissingHintsTest {
     @Test
     @DisplayName("Should generate expected value if hints or AfterGenerate are null")
     void nullHints() {
-        final Hints mockHints = Mockito.mock(Hints.class);
-        assertGeneratedValueWithHints(mockHints);
+        final Hints hintsWithoutAfterGenerate = Hints.builder().build();
+        assertGeneratedValueWithHints(hintsWithoutAfterGenerate);
         assertGeneratedValueWithHints(null);
     }
 
@@ -17,6 +17,7 @@ package org.instancio.internal.generator.lang;
 
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.generator.AbstractGeneratorTestTemplate;
+import org.instancio.internal.generator.unique.ValueDomain;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.instancio.test.support.tags.Feature;
@@ -92,6 +93,23 @@ class StringGeneratorTest extends AbstractGeneratorTestTemplate<String, StringGe
         }
     }
 
+    @Test
+    void valueDomainShouldBeCachedUntilConfigurationChanges() {
+        final StringGenerator generator = new StringGenerator(getGeneratorContext());
+        generator.nullable(false).length(3).allowEmpty(false);
+
+        final ValueDomain<?> domain = generator.getValueDomain();
+        assertThat(generator.getValueDomain()).isNotNull().isSameAs(domain);
+
+        generator.prefix("foo");
+        final ValueDomain<?> domainWithPrefix = generator.getValueDomain();
+        assertThat(domainWithPrefix).isNotEqualTo(domain);
+        assertThat(generator.getValueDomain()).isSameAs(domainWithPrefix);
+
+        generator.lowerCase();
+        assertThat(generator.getValueDomain()).isNotEqualTo(domainWithPrefix);
+    }
+
     private static String[] upperCaseLettersAtoZ() {
         String[] expected = new String[26];
         for (int i = 0; i < expected.length; i++) {
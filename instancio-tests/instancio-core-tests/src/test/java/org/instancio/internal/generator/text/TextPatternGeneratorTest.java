@@ -23,6 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -100,6 +103,18 @@ class TextPatternGeneratorTest extends AbstractGeneratorTestTemplate<String, Tex
         assertThat(generate("#c#C#d###c#C#d")).matches("^[a-z][A-Z]\\d#[a-z][A-Z]\\d$");
     }
 
+    @Test
+    void generatesNewValueOnEachCall() {
+        final TextPatternGenerator generator = new TextPatternGenerator(context, "x-#d#d#d#d#d#d#d#d-#c#c#c#c#c#c#c#c");
+        final Set<String> results = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            final String result = generator.generate(random);
+            assertThat(result).matches("^x-\\d{8}-[a-z]{8}$");
+            results.add(result);
+        }
+        assertThat(results).hasSizeGreaterThan(1);
+    }
+
     @Test
     void lowerCaseHex() {
         assertThat(generate("#h#h#h")).matches("^[a-f0-9]{3}$");
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text;
+
+import org.instancio.exception.InstancioApiException;
+import org.instancio.feed.DataSource;
+import org.instancio.internal.feed.datasource.ResourceDataSource;
+import org.instancio.internal.feed.datasource.StringDataSource;
+import org.instancio.internal.generator.text.WordGenerator.WordClass;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WordDictionaryTest {
+
+    @Test
+    void load() {
+        final WordDictionary dictionary = WordDictionary.load(new StringDataSource("foo\n\n  bar \r\n\tbaz\n"));
+
+        assertThat(dictionary.size()).isEqualTo(3);
+        assertThat(dictionary.get(0)).isEqualTo("foo");
+        assertThat(dictionary.get(1)).isEqualTo("bar");
+        assertThat(dictionary.get(2)).isEqualTo("baz");
+    }
+
+    @Test
+    void getShouldReturnSameInstanceForSameWord() {
+        final WordDictionary dictionary = WordDictionary.load(new StringDataSource("foo\nbar"));
+
+        assertThat(dictionary.get(1)).isSameAs(dictionary.get(1));
+    }
+
+    @Test
+    void pick() {
+        final WordDictionary dictionary = WordDictionary.load(new StringDataSource("foo\nbar\nbaz"));
+        final DefaultRandom random = new DefaultRandom();
+
+        assertThat(IntStream.range(0, 500).mapToObj(i -> dictionary.pick(random)))
+                .containsOnly("foo", "bar", "baz")
+                .contains("foo", "bar", "baz");
+    }
+
+    @Test
+    void pickShouldProduceSameValueAsRandomOneOf() {
+        final List<String> words = List.of("foo", "bar", "baz", "qux");
+        final WordDictionary dictionary = WordDictionary.load(new StringDataSource(String.join("\n", words)));
+        final DefaultRandom random1 = new DefaultRandom(123, Seeds.Source.MANUAL);
+        final DefaultRandom random2 = new DefaultRandom(123, Seeds.Source.MANUAL);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(dictionary.pick(random1)).isEqualTo(random2.oneOf(words));
+        }
+    }
+
+    @Test
+    void emptyDictionary() {
+        final DataSource dataSource = new StringDataSource(" \n\n");
+
+        assertThatThrownBy(() -> WordDictionary.load(dataSource))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("word dictionary must contain at least one word");
+    }
+
+    @Test
+    void dictionaryNotFound() {
+        final DataSource dataSource = new ResourceDataSource("non-existent-dictionary.txt");
+
+        assertThatThrownBy(() -> WordDictionary.load(dataSource))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("word dictionary not found: non-existent-dictionary.txt");
+    }
+
+    @EnumSource(WordClass.class)
+    @ParameterizedTest
+    void builtInDictionaryShouldContainAllWordsInOriginalOrder(final WordClass wordClass) throws IOException {
+        final List<String> expected;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                WordGenerator.class.getResourceAsStream(wordClass.file), StandardCharsets.UTF_8))) {
+            expected = reader.lines().toList();
+        }
+
+        final WordDictionary dictionary = WordDictionaries.get(wordClass);
+
+        assertThat(IntStream.range(0, dictionary.size()).mapToObj(dictionary::get))
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void builtInDictionaryShouldBeLoadedOnceWhenAccessedConcurrently() throws Exception {
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            final Callable<WordDictionary> task = () -> WordDictionaries.get(WordClass.NOUN);
+            final List<Future<WordDictionary>> futures = executor.invokeAll(
+                    IntStream.range(0, threads).mapToObj(i -> task).toList());
+
+            final WordDictionary expected = WordDictionaries.get(WordClass.NOUN);
+            for (Future<WordDictionary> future : futures) {
+                assertThat(future.get()).isSameAs(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void resourceDictionaryShouldBeCached() {
+        final WordDictionary dictionary1 = WordDictionaries.get(new ResourceDataSource("adjectives.txt"));
+        final WordDictionary dictionary2 = WordDictionaries.get(new ResourceDataSource("adjectives.txt"));
+
+        assertThat(dictionary1).isSameAs(dictionary2);
+    }
+
+    @Test
+    void stringDictionaryShouldNotBeCached() {
+        final WordDictionary dictionary1 = WordDictionaries.get(new StringDataSource("foo"));
+        final WordDictionary dictionary2 = WordDictionaries.get(new StringDataSource("foo"));
+
+        assertThat(dictionary1).isNotSameAs(dictionary2);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongHashSetTest {
+
+    private final LongHashSet set = new LongHashSet();
+
+    @Test
+    void empty() {
+        assertThat(set.size()).isZero();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.contains(1)).isFalse();
+    }
+
+    @Test
+    void zeroAndExtremes() {
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+        assertThat(set.add(Long.MIN_VALUE)).isTrue();
+        assertThat(set.add(Long.MAX_VALUE)).isTrue();
+        assertThat(set.add(-1)).isTrue();
+
+        assertThat(set.size()).isEqualTo(4);
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.contains(Long.MIN_VALUE)).isTrue();
+        assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+        assertThat(set.contains(-1)).isTrue();
+        assertThat(set.contains(1)).isFalse();
+    }
+
+    @Test
+    void shouldBehaveLikeHashSet() {
+        final Set<Long> expected = new HashSet<>();
+        final SplittableRandom random = new SplittableRandom(123);
+
+        for (int i = 0; i < 100_000; i++) {
+            // narrow range to produce duplicates
+            final long value = random.nextLong(-50_000, 50_000);
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+        assertThat(set.size()).isEqualTo(expected.size());
+
+        for (long i = -50_000; i < 50_000; i++) {
+            assertThat(set.contains(i)).isEqualTo(expected.contains(i));
+        }
+    }
+
+    @Test
+    void remove() {
+        set.add(0);
+        set.add(1);
+        set.add(-1);
+
+        assertThat(set.remove(0)).isTrue();
+        assertThat(set.remove(0)).isFalse();
+        assertThat(set.remove(1)).isTrue();
+        assertThat(set.remove(2)).isFalse();
+
+        assertThat(set.size()).isOne();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.contains(1)).isFalse();
+        assertThat(set.contains(-1)).isTrue();
+    }
+
+    @Test
+    void addAndRemoveShouldBehaveLikeHashSet() {
+        final Set<Long> expected = new HashSet<>();
+        final SplittableRandom random = new SplittableRandom(123);
+
+        for (int i = 0; i < 200_000; i++) {
+            // narrow range to produce collisions and removals of existing values
+            final long value = random.nextLong(-1_000, 1_000);
+
+            if (random.nextBoolean()) {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+        assertThat(set.size()).isEqualTo(expected.size());
+
+        for (long i = -1_000; i < 1_000; i++) {
+            assertThat(set.contains(i)).isEqualTo(expected.contains(i));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RangePermutationTest {
+
+    @ValueSource(longs = {1, 2, 3, 4, 5, 7, 8, 100, 1000, 4095, 4096, 4097, 100_000})
+    @ParameterizedTest
+    void shouldBeBijectionOnRange(final long size) {
+        final RangePermutation permutation = new RangePermutation(size, 12345L);
+        final BitSet seen = new BitSet((int) size);
+
+        for (long i = 0; i < size; i++) {
+            final long value = permutation.apply(i);
+            assertThat(value).isBetween(0L, size - 1);
+            assertThat(seen.get((int) value)).as("duplicate %s", value).isFalse();
+            seen.set((int) value);
+            assertThat(permutation.inverse(value)).isEqualTo(i);
+        }
+        assertThat(seen.cardinality()).isEqualTo((int) size);
+    }
+
+    @Test
+    void largeRange() {
+        final long size = (1L << 40) - 1;
+        final RangePermutation permutation = new RangePermutation(size, -1L);
+
+        for (long i = 0; i < 10_000; i++) {
+            final long value = permutation.apply(i);
+            assertThat(value).isBetween(0L, size - 1);
+            assertThat(permutation.inverse(value)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void maxSize() {
+        final RangePermutation permutation = new RangePermutation(RangePermutation.MAX_SIZE, 1L);
+
+        for (long i = RangePermutation.MAX_SIZE - 100; i < RangePermutation.MAX_SIZE; i++) {
+            assertThat(permutation.inverse(permutation.apply(i))).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void sameSeedShouldProduceSamePermutation() {
+        final RangePermutation p1 = new RangePermutation(1000, 42L);
+        final RangePermutation p2 = new RangePermutation(1000, 42L);
+        final RangePermutation p3 = new RangePermutation(1000, 43L);
+
+        boolean differs = false;
+        for (long i = 0; i < 1000; i++) {
+            assertThat(p1.apply(i)).isEqualTo(p2.apply(i));
+            differs |= p1.apply(i) != p3.apply(i);
+        }
+        assertThat(differs).isTrue();
+    }
+
+    @ValueSource(longs = {0, -1, RangePermutation.MAX_SIZE + 1})
+    @ParameterizedTest
+    void invalidSize(final long size) {
+        assertThatThrownBy(() -> new RangePermutation(size, 1L))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid permutation size: " + size);
+    }
+}
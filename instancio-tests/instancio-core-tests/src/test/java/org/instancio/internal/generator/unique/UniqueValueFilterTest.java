@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UniqueValueFilterTest {
+
+    private final Random random = new DefaultRandom(1, Seeds.Source.MANUAL);
+    private final UniqueValueFilter filter = new UniqueValueFilter();
+
+    @Test
+    void shouldRejectDuplicates() {
+        assertThat(filter.test(1)).isTrue();
+        assertThat(filter.test(1)).isFalse();
+        assertThat(filter.test(1L)).as("different type").isTrue();
+        assertThat(filter.test("foo")).isTrue();
+        assertThat(filter.test("foo")).isFalse();
+        assertThat(filter.test(null)).isTrue();
+        assertThat(filter.test(null)).isFalse();
+    }
+
+    @Test
+    void nextValueShouldIssueEachValueOfDomainOnce() {
+        final IntegralValueDomain<Integer> domain = IntegralValueDomain.of(Integer.class, 1, 1000);
+        final Set<Object> results = new HashSet<>();
+
+        for (int i = 0; i < 1000; i++) {
+            final Object value = filter.nextValue(domain, random);
+            assertThat(value).isNotNull();
+            assertThat(filter.test(value)).isTrue();
+            results.add(value);
+        }
+
+        assertThat(results).hasSize(1000);
+        assertThat(filter.nextValue(domain, random)).as("domain exhausted").isNull();
+    }
+
+    @Test
+    void issuedValueShouldBeRejectedIfTestedAgain() {
+        final IntegralValueDomain<Integer> domain = IntegralValueDomain.of(Integer.class, 1, 10);
+        final Object value = filter.nextValue(domain, random);
+
+        assertThat(filter.test(value)).isTrue();
+        assertThat(filter.test(value)).isFalse();
+    }
+
+    @Test
+    void nextValueShouldSkipValuesAcceptedBeforehand() {
+        final IntegralValueDomain<Integer> domain = IntegralValueDomain.of(Integer.class, 1, 10);
+
+        // values not issued by nextValue(), e.g. produced by a generator
+        assertThat(filter.test(3)).isTrue();
+        assertThat(filter.test(7)).isTrue();
+
+        final List<Object> results = new ArrayList<>();
+        Object value;
+        while ((value = filter.nextValue(domain, random)) != null) {
+            assertThat(filter.test(value)).isTrue();
+            results.add(value);
+        }
+
+        assertThat(results)
+                .hasSize(8)
+                .doesNotContain(3, 7)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void valuesNotYetIssuedShouldBeAccepted() {
+        final IntegralValueDomain<Integer> domain = IntegralValueDomain.of(Integer.class, 1, 10);
+        final Object first = filter.nextValue(domain, random);
+        assertThat(filter.test(first)).isTrue();
+
+        final List<Object> remaining = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            if (!first.equals(i)) {
+                assertThat(filter.test(i)).isTrue();
+                remaining.add(i);
+            }
+        }
+        assertThat(remaining).hasSize(9);
+        assertThat(filter.nextValue(domain, random)).isNull();
+    }
+
+    @Test
+    void differentDomainShouldReturnNull() {
+        final IntegralValueDomain<Integer> domain1 = IntegralValueDomain.of(Integer.class, 1, 10);
+        final IntegralValueDomain<Integer> domain2 = IntegralValueDomain.of(Integer.class, 1, 20);
+
+        assertThat(filter.nextValue(domain1, random)).isNotNull();
+        assertThat(filter.nextValue(domain2, random)).isNull();
+    }
+
+    @Test
+    void sameSeedShouldProduceSameSequence() {
+        final StringValueDomain domain = StringValueDomain.of("ABCDEFGHIJKLMNOPQRSTUVWXYZ", 8, null, null);
+        final UniqueValueFilter filter1 = new UniqueValueFilter();
+        final UniqueValueFilter filter2 = new UniqueValueFilter();
+        final Random random1 = new DefaultRandom(123, Seeds.Source.MANUAL);
+        final Random random2 = new DefaultRandom(123, Seeds.Source.MANUAL);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(filter1.nextValue(domain, random1)).isEqualTo(filter2.nextValue(domain, random2));
+        }
+    }
+}
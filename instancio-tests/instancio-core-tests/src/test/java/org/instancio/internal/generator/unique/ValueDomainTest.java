@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.instancio.test.support.pojo.person.Gender;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueDomainTest {
+
+    @Nested
+    class IntegralValueDomainTest {
+
+        @Test
+        void intRange() {
+            final IntegralValueDomain<Integer> domain = IntegralValueDomain.of(Integer.class, -5, 5);
+
+            assertThat(domain).isNotNull();
+            assertThat(domain.size()).isEqualTo(11);
+            assertThat(domain.get(0)).isEqualTo(-5);
+            assertThat(domain.get(10)).isEqualTo(5);
+            assertThat(domain.indexOf(-5)).isZero();
+            assertThat(domain.indexOf(5)).isEqualTo(10);
+        }
+
+        @Test
+        void valuesOutsideOfDomain() {
+            final IntegralValueDomain<Integer> domain = IntegralValueDomain.of(Integer.class, 1, 10);
+
+            assertThat(domain).isNotNull();
+            assertThat(domain.indexOf(0)).isEqualTo(-1);
+            assertThat(domain.indexOf(11)).isEqualTo(-1);
+            assertThat(domain.indexOf(5L)).isEqualTo(-1);
+            assertThat(domain.indexOf("5")).isEqualTo(-1);
+            assertThat(domain.indexOf(null)).isEqualTo(-1);
+        }
+
+        @Test
+        void byteAndShortValues() {
+            final IntegralValueDomain<Byte> bytes = IntegralValueDomain.of(Byte.class, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            final IntegralValueDomain<Short> shorts = IntegralValueDomain.of(Short.class, 0, 10);
+
+            assertThat(bytes).isNotNull();
+            assertThat(bytes.size()).isEqualTo(256);
+            assertThat(bytes.get(255)).isEqualTo(Byte.MAX_VALUE);
+            assertThat(shorts).isNotNull();
+            assertThat(shorts.get(3)).isEqualTo((short) 3);
+        }
+
+        @Test
+        void unsupportedRanges() {
+            assertThat(IntegralValueDomain.of(Integer.class, 10, 1)).isNull();
+            assertThat(IntegralValueDomain.of(Long.class, Long.MIN_VALUE, Long.MAX_VALUE)).isNull();
+            assertThat(IntegralValueDomain.of(Long.class, 0, RangePermutation.MAX_SIZE)).isNull();
+            assertThat(IntegralValueDomain.of(Long.class, 0, RangePermutation.MAX_SIZE - 1)).isNotNull();
+        }
+    }
+
+    @Nested
+    class EnumValueDomainTest {
+
+        @Test
+        void enumValues() {
+            final EnumValueDomain<Gender> domain = EnumValueDomain.of(List.of(Gender.values()));
+
+            assertThat(domain).isNotNull();
+            assertThat(domain.size()).isEqualTo(Gender.values().length);
+            for (Gender gender : Gender.values()) {
+                assertThat(domain.get(domain.indexOf(gender))).isEqualTo(gender);
+            }
+            assertThat(domain.indexOf(null)).isEqualTo(-1);
+        }
+
+        @Test
+        void empty() {
+            assertThat(EnumValueDomain.of(List.<Gender>of())).isNull();
+        }
+    }
+
+    @Nested
+    class StringValueDomainTest {
+
+        @Test
+        void stringValues() {
+            final StringValueDomain domain = StringValueDomain.of("ABC", 2, null, null);
+
+            assertThat(domain).isNotNull();
+            assertThat(domain.size()).isEqualTo(9);
+            assertThat(domain.get(0)).isEqualTo("AA");
+            assertThat(domain.get(5)).isEqualTo("BC");
+            assertThat(domain.get(8)).isEqualTo("CC");
+
+            for (long i = 0; i < domain.size(); i++) {
+                assertThat(domain.indexOf(domain.get(i))).isEqualTo(i);
+            }
+        }
+
+        @Test
+        void withPrefixAndSuffix() {
+            final StringValueDomain domain = StringValueDomain.of("01", 3, "pre-", "-suf");
+
+            assertThat(domain).isNotNull();
+            assertThat(domain.get(5)).isEqualTo("pre-101-suf");
+            assertThat(domain.indexOf("pre-101-suf")).isEqualTo(5);
+            assertThat(domain.indexOf("101-suf")).isEqualTo(-1);
+            assertThat(domain.indexOf("pre-101")).isEqualTo(-1);
+            assertThat(domain.indexOf("pre-1010-suf")).isEqualTo(-1);
+            assertThat(domain.indexOf("pre-102-suf")).isEqualTo(-1);
+        }
+
+        @Test
+        void unsupportedDomains() {
+            assertThat(StringValueDomain.of("", 5, null, null)).isNull();
+            // 26^14 exceeds the maximum domain size
+            assertThat(StringValueDomain.of("ABCDEFGHIJKLMNOPQRSTUVWXYZ", 14, null, null)).isNull();
+            assertThat(StringValueDomain.of("ABCDEFGHIJKLMNOPQRSTUVWXYZ", 8, null, null)).isNotNull();
+        }
+    }
+}
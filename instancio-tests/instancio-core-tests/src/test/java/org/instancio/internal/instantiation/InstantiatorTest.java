@@ -15,17 +15,22 @@
  */
 package org.instancio.internal.instantiation;
 
+import org.instancio.internal.spi.ProviderEntry;
+import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.test.support.pojo.basic.IntegerHolder;
 import org.instancio.test.support.pojo.basic.IntegerHolderWithPrivateDefaultConstructor;
 import org.instancio.test.support.pojo.basic.IntegerHolderWithoutDefaultConstructor;
+import org.instancio.test.support.pojo.misc.WithDefaultConstructorThrowingError;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.AbstractList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -50,4 +55,66 @@ class InstantiatorTest {
         final Class<?> klass = List.class;
         assertThat(instantiator.instantiate(klass)).isNull();
     }
+
+    @Test
+    void instantiateRepeatedlyUsingMemoizedStrategy() {
+        final Class<?> klass = WithDefaultConstructorThrowingError.class;
+
+        final Object first = instantiator.instantiate(klass);
+        final Object second = new Instantiator(Collections.emptyList()).instantiate(klass);
+
+        assertThat(first).isNotNull().isNotSameAs(second);
+        assertThat(second).isExactlyInstanceOf(klass);
+    }
+
+    @Test
+    void instantiateRepeatedlyReturnsNullIfTypeCannotBeInstantiated() {
+        assertThat(instantiator.instantiate(AbstractList.class)).isNull();
+        assertThat(instantiator.instantiate(AbstractList.class)).isNull();
+    }
+
+    @Test
+    void shouldNotMemoizeFallbackStrategyIfConstructorFailedTransiently() {
+        final WithConstructorFailingOnce first = instantiator.instantiate(WithConstructorFailingOnce.class);
+        final WithConstructorFailingOnce second = instantiator.instantiate(WithConstructorFailingOnce.class);
+
+        // first instance is created without invoking the constructor
+        assertThat(first).isNotNull();
+        assertThat(first.constructed).isFalse();
+
+        assertThat(second).isNotNull();
+        assertThat(second.constructed).isTrue();
+    }
+
+    @Test
+    void serviceProviderShouldTakePrecedenceOverMemoizedStrategy() {
+        final IntegerHolder expected = new IntegerHolder();
+        final InstancioServiceProvider provider = new InstancioServiceProvider() {
+            @Override
+            public TypeInstantiator getTypeInstantiator() {
+                return type -> type == IntegerHolder.class ? expected : null;
+            }
+        };
+
+        // memoize the default strategy for the class
+        assertThat(instantiator.instantiate(IntegerHolder.class)).isNotNull().isNotSameAs(expected);
+
+        final Instantiator spiInstantiator = new Instantiator(ProviderEntry.from(
+                List.of(provider), InstancioServiceProvider::getTypeInstantiator));
+
+        assertThat(spiInstantiator.instantiate(IntegerHolder.class)).isSameAs(expected);
+    }
+
+    private static final class WithConstructorFailingOnce {
+        private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        private final boolean constructed;
+
+        WithConstructorFailingOnce() {
+            if (INVOCATIONS.getAndIncrement() == 0) {
+                throw new IllegalStateException("expected error");
+            }
+            constructed = true;
+        }
+    }
 }
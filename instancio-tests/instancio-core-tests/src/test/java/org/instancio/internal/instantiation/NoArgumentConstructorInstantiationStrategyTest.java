@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.TreeSet;
 
@@ -54,6 +55,22 @@ class NoArgumentConstructorInstantiationStrategyTest {
         assertThat(strategy.createInstance(klass)).isNull();
     }
 
+    @Test
+    void createInstanceShouldReturnNewInstanceEachTime() {
+        final Object first = strategy.createInstance(IntegerHolder.class);
+        final Object second = strategy.createInstance(IntegerHolder.class);
+
+        assertThat(first).isNotNull().isNotSameAs(second);
+    }
+
+    @Test
+    void createInstanceFailsIfClassIsAbstract() {
+        final Class<?> klass = AbstractList.class;
+        assertThatThrownBy(() -> strategy.createInstance(klass))
+                .isInstanceOf(InstantiationStrategyException.class)
+                .hasMessage("Error instantiating %s", klass);
+    }
+
     @Test
     void createInstanceFails() {
         final Class<?> klass = WithDefaultConstructorThrowingError.class;
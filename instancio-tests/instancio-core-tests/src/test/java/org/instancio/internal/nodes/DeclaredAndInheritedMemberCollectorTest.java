@@ -17,6 +17,8 @@ package org.instancio.internal.nodes;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
+import org.instancio.settings.AssignmentType;
+import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.instancio.test.support.pojo.inheritance.BaseClassSubClassInheritance;
 import org.instancio.test.support.pojo.person.Person;
@@ -76,6 +78,29 @@ class DeclaredAndInheritedMemberCollectorTest {
         assertThat(result.getUnmatchedSetters()).isEmpty();
     }
 
+    @Test
+    void shouldReturnCachedClassDataForEquivalentSettings() {
+        final DeclaredAndInheritedMemberCollector otherCollector = new DeclaredAndInheritedMemberCollector(
+                Settings.defaults());
+
+        assertThat(otherCollector.getClassData(node)).isSameAs(collector.getClassData(node));
+    }
+
+    @Test
+    void shouldNotShareClassDataBetweenDifferentSettings() {
+        final DeclaredAndInheritedMemberCollector methodCollector = new DeclaredAndInheritedMemberCollector(
+                Settings.defaults().set(Keys.ASSIGNMENT_TYPE, AssignmentType.METHOD));
+
+        assertThat(methodCollector.getClassData(node)).isNotSameAs(collector.getClassData(node));
+    }
+
+    @Test
+    void classDataKeyEqualsAndHashCode() {
+        EqualsVerifier.forClass(DeclaredAndInheritedMemberCollector.ClassDataKey.class)
+                .suppress(Warning.NULL_FIELDS)
+                .verify();
+    }
+
     @Test
     void methodKeyEqualsAndHashCode() {
         EqualsVerifier.forClass(DeclaredAndInheritedMemberCollector.MethodKey.class)
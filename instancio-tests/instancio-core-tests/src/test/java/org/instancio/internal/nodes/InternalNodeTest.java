@@ -32,11 +32,14 @@ import org.instancio.testsupport.fixtures.Types;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -100,6 +103,32 @@ class InternalNodeTest {
         assertThat(copy.isCyclic()).isEqualTo(node.isCyclic());
     }
 
+    @Test
+    void ordinalsAreDenseAndAssignedBreadthFirst() {
+        final InternalNode root = NODE_FACTORY.createRootNode(Person.class);
+        final List<InternalNode> nodes = new ArrayList<>();
+        final Queue<InternalNode> queue = new ArrayDeque<>(List.of(root));
+
+        while (!queue.isEmpty()) {
+            final InternalNode node = queue.poll();
+            nodes.add(node);
+            queue.addAll(node.getChildren());
+        }
+
+        for (int i = 0; i < nodes.size(); i++) {
+            assertThat(nodes.get(i).getOrdinal()).isEqualTo(i);
+            assertThat(nodes.get(i).getTreeRoot()).isSameAs(root);
+        }
+    }
+
+    @Test
+    void nodeCreatedOutsideOfTreeHasNoOrdinal() {
+        final InternalNode node = NODE_FACTORY.createRootNode(Person.class).toBuilder().build();
+
+        assertThat(node.getOrdinal()).isEqualTo(-1);
+        assertThat(node.getTreeRoot()).isNull();
+    }
+
     @Nested
     class TargetClassTest {
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.test.support.tags.NonDeterministicTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+class BulkCharactersTest {
+
+    private static final int SAMPLE_SIZE = 200_000;
+
+    private static char[] alphabet(final int size) {
+        final char[] alphabet = new char[size];
+        for (int i = 0; i < size; i++) {
+            alphabet[i] = (char) ('A' + i);
+        }
+        return alphabet;
+    }
+
+    @Test
+    void singleCharacterAlphabet() {
+        final char[] dst = new char[10];
+
+        BulkCharacters.fill(new SplittableRandom(), dst, 0, dst.length, new char[]{'x'});
+
+        assertThat(new String(dst)).isEqualTo("xxxxxxxxxx");
+    }
+
+    @Test
+    void sameStateShouldProduceSameCharacters() {
+        final char[] alphabet = alphabet(62);
+        final char[] dst1 = new char[100];
+        final char[] dst2 = new char[100];
+
+        BulkCharacters.fill(new SplittableRandom(1), dst1, 0, dst1.length, alphabet);
+        BulkCharacters.fill(new SplittableRandom(1), dst2, 0, dst2.length, alphabet);
+
+        assertThat(dst1).isEqualTo(dst2);
+    }
+
+    /**
+     * Verifies that every character of the alphabet is selected
+     * the expected number of times, within a 5% margin, for power-of-two
+     * alphabets, small alphabets, and alphabets larger than 256 characters.
+     */
+    @NonDeterministicTag
+    @ValueSource(ints = {2, 3, 10, 16, 62, 64, 300})
+    @ParameterizedTest
+    void shouldSelectCharactersUniformly(final int size) {
+        final char[] alphabet = alphabet(size);
+        final char[] dst = new char[SAMPLE_SIZE * size / 10];
+
+        BulkCharacters.fill(new SplittableRandom(), dst, 0, dst.length, alphabet);
+
+        final int[] counts = new int[size];
+        for (char c : dst) {
+            counts[c - 'A']++;
+        }
+        for (int count : counts) {
+            assertThat(count).isCloseTo(SAMPLE_SIZE / 10, withPercentage(5));
+        }
+    }
+}
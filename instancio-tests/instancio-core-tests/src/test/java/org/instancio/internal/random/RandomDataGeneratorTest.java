@@ -19,6 +19,8 @@ import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -39,9 +41,54 @@ class RandomDataGeneratorTest {
         assertThat(RandomDataGenerator.nextLong(random, Long.MAX_VALUE, Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE);
     }
 
+    @Test
+    void nextLongShouldMatchOriginalImplementationForWideRanges() {
+        final long seed = new Random().nextLong();
+        final Random actualRandom = new Random(seed);
+        final Random expectedRandom = new Random(seed);
+        final long lower = -Long.MAX_VALUE / 4;
+        final long upper = Long.MAX_VALUE / 4;
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(RandomDataGenerator.nextLong(actualRandom, lower, upper))
+                    .as("seed %s", seed)
+                    .isEqualTo(lower + originalNextLong(expectedRandom, upper - lower + 1));
+        }
+    }
+
+    @Test
+    void nextLongWithRandomGenerator() {
+        final RandomGenerator random = new SplittableRandom();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(RandomDataGenerator.nextLong(random, -5, Long.MAX_VALUE / 2))
+                    .isBetween(-5L, Long.MAX_VALUE / 2);
+        }
+    }
+
     @RepeatedTest(10)
     void nextDouble() {
         assertThat(RandomDataGenerator.nextDouble(random, 3, 3)).isEqualTo(3);
         assertThat(RandomDataGenerator.nextDouble(random, Long.MAX_VALUE, Long.MAX_VALUE)).isEqualTo((double) Long.MAX_VALUE);
     }
+
+    /**
+     * The original implementation, which generates
+     * a positive long value via {@link Random#nextBytes(byte[])}.
+     */
+    private static long originalNextLong(final Random random, final long n) {
+        final byte[] byteArray = new byte[8];
+        long bits;
+        long val;
+        do {
+            random.nextBytes(byteArray);
+            bits = 0;
+            for (final byte b : byteArray) {
+                bits = (bits << 8) | (((long) b) & 0xffL);
+            }
+            bits &= 0x7fffffffffffffffL;
+            val = bits % n;
+        } while (bits - val + (n - 1) < 0);
+        return val;
+    }
 }
@@ -139,6 +139,22 @@ class SettingsTest {
                 .hasCauseExactlyInstanceOf(NumberFormatException.class);
     }
 
+    @Test
+    void negativeFeedCacheMaxSize() {
+        final Settings settings = Settings.create();
+
+        assertThatThrownBy(() -> settings.set(Keys.FEED_CACHE_MAX_SIZE, -1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("setting value for key 'feed.cache.max.size' must not be negative: -1");
+
+        final Map<Object, Object> map = new HashMap<>();
+        map.put(Keys.FEED_CACHE_MAX_SIZE.propertyKey(), "-1");
+
+        assertThatThrownBy(() -> Settings.from(map))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("must not be negative");
+    }
+
     @Test
     void lockSettings() {
         final Settings locked = Settings.create().lock();
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.Character.UnicodeBlock;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodePointIndexTest {
+
+    private static boolean isValid(final int codePoint) {
+        final int type = Character.getType(codePoint);
+        return type != Character.PRIVATE_USE
+                && type != Character.SURROGATE
+                && type != Character.UNASSIGNED;
+    }
+
+    private static List<Integer> validCodePoints(final int min, final int max) {
+        final List<Integer> result = new ArrayList<>();
+        for (int cp = min; cp <= max; cp++) {
+            if (isValid(cp)) {
+                result.add(cp);
+            }
+        }
+        return result;
+    }
+
+    private static List<Integer> toList(final CodePointIndex index) {
+        final List<Integer> result = new ArrayList<>(index.size());
+        for (int i = 0; i < index.size(); i++) {
+            result.add(index.get(i));
+        }
+        return result;
+    }
+
+    @Test
+    void defaultIndexShouldContainAllValidCodePointsInOrder() {
+        final CodePointIndex index = CodePointIndex.getDefault();
+
+        assertThat(toList(index)).isEqualTo(validCodePoints(0, Constants.MAX_CODE_POINT));
+    }
+
+    @Test
+    void blockIndex() {
+        final UnicodeBlocks.BlockRange range = UnicodeBlocks.getInstance().getRange(UnicodeBlock.ARABIC);
+
+        assertThat(toList(range.codePoints())).isEqualTo(validCodePoints(range.min(), range.max()));
+    }
+
+    @Test
+    void indexWithoutValidCodePoints() {
+        final UnicodeBlocks.BlockRange range = UnicodeBlocks.getInstance().getRange(UnicodeBlock.PRIVATE_USE_AREA);
+
+        assertThat(range.codePoints().size()).isZero();
+    }
+}
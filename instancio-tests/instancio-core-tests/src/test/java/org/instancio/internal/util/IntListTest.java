@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntListTest {
+
+    @Test
+    void addBeyondInitialCapacity() {
+        final IntList list = new IntList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 2);
+        }
+
+        assertThat(list.size()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(list.get(i)).isEqualTo(i * 2);
+        }
+    }
+
+    @Test
+    void getOutOfBounds() {
+        final IntList list = new IntList();
+        list.add(1);
+
+        assertThatThrownBy(() -> list.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
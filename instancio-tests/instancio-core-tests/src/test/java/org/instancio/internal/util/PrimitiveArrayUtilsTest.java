@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitiveArrayUtilsTest {
+
+    @Test
+    void setPrimitive() {
+        final byte[] bytes = new byte[1];
+        final short[] shorts = new short[1];
+        final int[] ints = new int[1];
+        final long[] longs = new long[1];
+        final float[] floats = new float[1];
+        final double[] doubles = new double[1];
+        final char[] chars = new char[1];
+        final boolean[] booleans = new boolean[1];
+
+        PrimitiveArrayUtils.setPrimitive(bytes, 0, (byte) 1);
+        PrimitiveArrayUtils.setPrimitive(shorts, 0, (short) 2);
+        PrimitiveArrayUtils.setPrimitive(ints, 0, 3);
+        PrimitiveArrayUtils.setPrimitive(longs, 0, 4L);
+        PrimitiveArrayUtils.setPrimitive(floats, 0, 5f);
+        PrimitiveArrayUtils.setPrimitive(doubles, 0, 6d);
+        PrimitiveArrayUtils.setPrimitive(chars, 0, 'a');
+        PrimitiveArrayUtils.setPrimitive(booleans, 0, true);
+
+        assertThat(bytes).containsExactly(1);
+        assertThat(shorts).containsExactly(2);
+        assertThat(ints).containsExactly(3);
+        assertThat(longs).containsExactly(4L);
+        assertThat(floats).containsExactly(5f);
+        assertThat(doubles).containsExactly(6d);
+        assertThat(chars).containsExactly('a');
+        assertThat(booleans).containsExactly(true);
+    }
+
+    @Test
+    void isDefaultPrimitive() {
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new byte[]{0, 1}, 0)).isTrue();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new byte[]{0, 1}, 1)).isFalse();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new short[]{0, 1}, 0)).isTrue();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new short[]{0, 1}, 1)).isFalse();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new int[]{0, 1}, 0)).isTrue();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new int[]{0, 1}, 1)).isFalse();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new long[]{0, 1}, 0)).isTrue();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new long[]{0, 1}, 1)).isFalse();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new char[]{0, 'a'}, 0)).isTrue();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new char[]{0, 'a'}, 1)).isFalse();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new boolean[]{false, true}, 0)).isTrue();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new boolean[]{false, true}, 1)).isFalse();
+    }
+
+    @Test
+    void isDefaultPrimitiveShouldBeConsistentWithEquals() {
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new float[]{0f, -0f, Float.NaN}, 0)).isTrue();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new float[]{0f, -0f, Float.NaN}, 1)).isFalse();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new float[]{0f, -0f, Float.NaN}, 2)).isFalse();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new double[]{0d, -0d, Double.NaN}, 0)).isTrue();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new double[]{0d, -0d, Double.NaN}, 1)).isFalse();
+        assertThat(PrimitiveArrayUtils.isDefaultPrimitive(new double[]{0d, -0d, Double.NaN}, 2)).isFalse();
+    }
+
+    @Test
+    void nonPrimitiveArray() {
+        final Object[] array = {null};
+
+        assertThatThrownBy(() -> PrimitiveArrayUtils.setPrimitive(array, 0, 1))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Not a primitive array: ");
+
+        assertThatThrownBy(() -> PrimitiveArrayUtils.isDefaultPrimitive(array, 0))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Not a primitive array: ");
+    }
+}
@@ -16,7 +16,10 @@
 package org.instancio.support;
 
 import org.instancio.Random;
+import org.instancio.exception.InstancioApiException;
 import org.instancio.internal.util.CollectionUtils;
+import org.instancio.settings.CharacterAlgorithm;
+import org.instancio.settings.RandomAlgorithm;
 import org.instancio.test.support.tags.NonDeterministicTag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -24,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
@@ -466,4 +470,173 @@ class DefaultRandomTest {
                     .hasMessage(expectedErrorMsg);
         }
     }
+
+    @Nested
+    class RandomAlgorithmTest {
+
+        @Test
+        void defaultAlgorithm() {
+            assertThat(((DefaultRandom) random).getAlgorithm()).isEqualTo(RandomAlgorithm.JAVA_UTIL_RANDOM);
+            assertThat(new DefaultRandom(1, Seeds.Source.MANUAL).getAlgorithm()).isEqualTo(RandomAlgorithm.JAVA_UTIL_RANDOM);
+        }
+
+        @EnumSource(RandomAlgorithm.class)
+        @ParameterizedTest
+        void sameSeedShouldProduceSameSequence(final RandomAlgorithm algorithm) {
+            final DefaultRandom random1 = new DefaultRandom(123, Seeds.Source.MANUAL, algorithm);
+            final DefaultRandom random2 = new DefaultRandom(123, Seeds.Source.MANUAL, algorithm);
+
+            assertThat(random1.getAlgorithm()).isEqualTo(algorithm);
+            assertThat(random1.getSeed()).isEqualTo(123);
+
+            for (int i = 0; i < 100; i++) {
+                assertThat(random1.longRange(Long.MIN_VALUE, Long.MAX_VALUE))
+                        .isEqualTo(random2.longRange(Long.MIN_VALUE, Long.MAX_VALUE));
+                assertThat(random1.alphanumeric(10)).isEqualTo(random2.alphanumeric(10));
+                assertThat(random1.doubleRange(-1, 1)).isEqualTo(random2.doubleRange(-1, 1));
+            }
+        }
+
+        @Test
+        void differentAlgorithmsShouldProduceDifferentSequences() {
+            final Set<String> values = new HashSet<>();
+
+            for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+                values.add(new DefaultRandom(123, Seeds.Source.MANUAL, algorithm).alphanumeric(20));
+            }
+
+            assertThat(values).hasSize(RandomAlgorithm.values().length);
+        }
+
+        @Test
+        void javaUtilRandomShouldMatchTwoArgConstructor() {
+            final DefaultRandom random1 = new DefaultRandom(123, Seeds.Source.MANUAL);
+            final DefaultRandom random2 = new DefaultRandom(123, Seeds.Source.MANUAL, RandomAlgorithm.JAVA_UTIL_RANDOM);
+
+            assertThat(random1.alphanumeric(100)).isEqualTo(random2.alphanumeric(100));
+        }
+    }
+
+    @Nested
+    class CharacterAlgorithmTest {
+
+        private final char[] alphabet = "xyz".toCharArray();
+
+        private DefaultRandom bulkRandom(final long seed) {
+            return new DefaultRandom(seed, Seeds.Source.MANUAL, RandomAlgorithm.JAVA_UTIL_RANDOM, CharacterAlgorithm.BULK_V1);
+        }
+
+        @Test
+        void defaultCharacterAlgorithm() {
+            assertThat(((DefaultRandom) random).getCharacterAlgorithm()).isEqualTo(CharacterAlgorithm.PER_CHARACTER);
+            assertThat(new DefaultRandom(1, Seeds.Source.MANUAL, RandomAlgorithm.SPLIT_MIX_64).getCharacterAlgorithm())
+                    .isEqualTo(CharacterAlgorithm.PER_CHARACTER);
+        }
+
+        @Test
+        void perCharacterFillShouldSelectEachCharacterUsingIntRange() {
+            final DefaultRandom random1 = new DefaultRandom(123, Seeds.Source.MANUAL);
+            final DefaultRandom random2 = new DefaultRandom(123, Seeds.Source.MANUAL);
+
+            final char[] actual = new char[50];
+            random1.fill(actual, alphabet);
+
+            final char[] expected = new char[50];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = alphabet[random2.intRange(0, alphabet.length - 1)];
+            }
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        @Test
+        void bulkSameSeedShouldProduceSameSequence() {
+            final DefaultRandom random1 = bulkRandom(123);
+            final DefaultRandom random2 = bulkRandom(123);
+
+            for (int i = 0; i < 100; i++) {
+                assertThat(random1.alphanumeric(i)).isEqualTo(random2.alphanumeric(i));
+                assertThat(random1.digits(i)).isEqualTo(random2.digits(i));
+                assertThat(random1.stringOf(i, alphabet)).isEqualTo(random2.stringOf(i, alphabet));
+            }
+        }
+
+        @Test
+        void bulkShouldDifferFromPerCharacter() {
+            assertThat(bulkRandom(123).alphanumeric(20))
+                    .isNotEqualTo(new DefaultRandom(123, Seeds.Source.MANUAL).alphanumeric(20));
+        }
+
+        @Test
+        void bulkStrings() {
+            final DefaultRandom bulkRandom = bulkRandom(Seeds.randomSeed());
+
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                final int length = bulkRandom.intRange(0, 20);
+
+                assertThat(bulkRandom.lowerCaseAlphabetic(length)).hasSize(length).containsPattern(LOWER_CASE_ALPHABETIC_PATTERN);
+                assertThat(bulkRandom.upperCaseAlphabetic(length)).hasSize(length).containsPattern(UPPER_CASE_ALPHABETIC_PATTERN);
+                assertThat(bulkRandom.mixedCaseAlphabetic(length)).hasSize(length).containsPattern(MIXED_CASE_ALPHABETIC_PATTERN);
+                assertThat(bulkRandom.alphanumeric(length)).hasSize(length).containsPattern(ALPHANUMERIC_PATTERN);
+                assertThat(bulkRandom.digits(length)).hasSize(length).containsPattern(DIGITS_PATTERN);
+            }
+        }
+
+        @Test
+        void bulkFillShouldOnlyFillGivenRange() {
+            final char[] dst = "----------".toCharArray();
+
+            bulkRandom(123).fill(dst, 3, 7, alphabet);
+
+            assertThat(new String(dst)).matches("---[xyz]{4}---");
+        }
+
+        @ParameterizedTest
+        @EnumSource(CharacterAlgorithm.class)
+        void fillWithNullOrEmptyAlphabet(final CharacterAlgorithm characterAlgorithm) {
+            final Random random = new DefaultRandom(1, Seeds.Source.MANUAL, RandomAlgorithm.JAVA_UTIL_RANDOM, characterAlgorithm);
+            final char[] dst = new char[5];
+            final char[] nullArray = null;
+
+            assertThatThrownBy(() -> random.fill(dst, nullArray))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessageContaining("alphabet must have at least one character");
+
+            assertThatThrownBy(() -> random.fill(dst, new char[0]))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessageContaining("alphabet must have at least one character");
+        }
+
+        @ParameterizedTest
+        @EnumSource(CharacterAlgorithm.class)
+        void fillWithNullDestination(final CharacterAlgorithm characterAlgorithm) {
+            final Random random = new DefaultRandom(1, Seeds.Source.MANUAL, RandomAlgorithm.JAVA_UTIL_RANDOM, characterAlgorithm);
+
+            assertThatThrownBy(() -> random.fill(null, alphabet))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessageContaining("destination array must not be null");
+
+            assertThatThrownBy(() -> random.fill(null, 0, 1, alphabet))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessageContaining("destination array must not be null");
+        }
+
+        @ParameterizedTest
+        @EnumSource(CharacterAlgorithm.class)
+        void fillWithInvalidRange(final CharacterAlgorithm characterAlgorithm) {
+            final Random random = new DefaultRandom(1, Seeds.Source.MANUAL, RandomAlgorithm.JAVA_UTIL_RANDOM, characterAlgorithm);
+            final char[] dst = new char[5];
+
+            assertThatThrownBy(() -> random.fill(dst, -1, 3, alphabet))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessageContaining("invalid range [-1, 3) for array of length 5");
+
+            assertThatThrownBy(() -> random.fill(dst, 3, 2, alphabet))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessageContaining("invalid range [3, 2) for array of length 5");
+
+            assertThatThrownBy(() -> random.fill(dst, 0, 6, alphabet))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessageContaining("invalid range [0, 6) for array of length 5");
+        }
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.junit;
+
+import org.instancio.Instancio;
+import org.instancio.Random;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.instancio.support.ThreadLocalRandom;
+import org.instancio.test.support.pojo.basic.StringHolder;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Samples may be generated ahead of time in the background;
+ * verify each sample still gets the seeds it would get
+ * if it were generated when the test is invoked.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+@ExtendWith(InstancioExtension.class)
+class InstancioSourceSampleSeedsTest {
+
+    private static final long SEED = 2468;
+    private static final int NUM_SAMPLES = 50;
+
+    @WithSettings
+    private static final Settings settings = Settings.create()
+            .set(Keys.STRING_MIN_LENGTH, 15);
+
+    private final Random expectedSeeds = new DefaultRandom(SEED, Seeds.Source.SEED_ANNOTATION);
+    private final Random expectedSeedsWithUnseededBody = new DefaultRandom(SEED, Seeds.Source.SEED_ANNOTATION);
+
+    @Seed(SEED)
+    @InstancioSource(samples = NUM_SAMPLES)
+    @ParameterizedTest
+    void samplesAreGeneratedUsingSeedsInOrder(final String string, final Integer number, final StringHolder holder) {
+        assertThat(string).isEqualTo(create(String.class, nextSeed()));
+        assertThat(number).isEqualTo(create(Integer.class, nextSeed()));
+        assertThat(holder).usingRecursiveComparison().isEqualTo(create(StringHolder.class, nextSeed()));
+        assertThat(string).hasSizeGreaterThanOrEqualTo(15);
+    }
+
+    /**
+     * The extension sets a new random instance before each invocation,
+     * so unseeded objects created in the test body do not affect the samples
+     * and are the same for every invocation.
+     */
+    @Seed(SEED)
+    @InstancioSource(samples = NUM_SAMPLES)
+    @ParameterizedTest
+    void unseededObjectsInTestBodyShouldNotAffectSamples(final String string, final Integer number) {
+        assertThat(string).isEqualTo(create(String.class, expectedSeedsWithUnseededBody.longRange(1, Long.MAX_VALUE)));
+        assertThat(number).isEqualTo(create(Integer.class, expectedSeedsWithUnseededBody.longRange(1, Long.MAX_VALUE)));
+
+        final Random bodyRandom = new DefaultRandom(SEED, Seeds.Source.SEED_ANNOTATION);
+        final String expected = createStringUsingSharedRandom(bodyRandom);
+        assertThat(Instancio.create(String.class)).isEqualTo(expected);
+    }
+
+    private long nextSeed() {
+        return expectedSeeds.longRange(1, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates an unseeded string, as a test method would,
+     * with the given random as the shared random instance.
+     */
+    static String createStringUsingSharedRandom(final Random random) {
+        final ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.getInstance();
+        final Random original = threadLocalRandom.get();
+        threadLocalRandom.set(random);
+        try {
+            return Instancio.create(String.class);
+        } finally {
+            if (original == null) {
+                threadLocalRandom.remove();
+            } else {
+                threadLocalRandom.set(original);
+            }
+        }
+    }
+
+    private static <T> T create(final Class<T> type, final long seed) {
+        return Instancio.of(type)
+                .withSettings(settings)
+                .withSeed(seed)
+                .create();
+    }
+}
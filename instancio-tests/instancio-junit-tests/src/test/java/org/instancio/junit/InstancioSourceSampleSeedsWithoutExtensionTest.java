@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.junit;
+
+import org.instancio.Instancio;
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.instancio.support.ThreadLocalRandom;
+import org.instancio.support.ThreadLocalSettings;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.junit.InstancioSourceSampleSeedsTest.createStringUsingSharedRandom;
+
+/**
+ * Without the extension, unseeded objects created in the test body
+ * use the same random instance as the samples. Verify that samples
+ * and objects created in the test body are generated in the same
+ * order as when each sample is created on demand.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+class InstancioSourceSampleSeedsWithoutExtensionTest {
+
+    private static final long SEED = 1357;
+    private static final int NUM_SAMPLES = 50;
+
+    private final Random expectedRandom = new DefaultRandom(SEED, Seeds.Source.SEED_ANNOTATION);
+
+    @AfterAll
+    static void afterAll() {
+        // the extension would normally clean these up
+        ThreadLocalRandom.getInstance().remove();
+        ThreadLocalSettings.getInstance().remove();
+    }
+
+    @Seed(SEED)
+    @InstancioSource(samples = NUM_SAMPLES)
+    @ParameterizedTest
+    void unseededObjectsInTestBodyShouldUseSharedRandomBetweenSamples(final String string, final Integer number) {
+        assertThat(string).isEqualTo(create(String.class, nextSeed()));
+        assertThat(number).isEqualTo(create(Integer.class, nextSeed()));
+
+        final String expected = createStringUsingSharedRandom(expectedRandom);
+        assertThat(Instancio.create(String.class)).isEqualTo(expected);
+    }
+
+    private long nextSeed() {
+        return expectedRandom.longRange(1, Long.MAX_VALUE);
+    }
+
+    private static <T> T create(final Class<T> type, final long seed) {
+        return Instancio.of(type).withSeed(seed).create();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.junit.internal;
+
+import org.instancio.Model;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelCacheTest {
+
+    private final ModelCache modelCache = new ModelCache();
+
+    @Test
+    void shouldReturnCachedModel() {
+        final Settings settings = Settings.create().set(Keys.STRING_MIN_LENGTH, 5);
+
+        final Model<?> model = modelCache.getModel(Person.class, settings);
+
+        assertThat(modelCache.getModel(Person.class, settings)).isSameAs(model);
+        assertThat(modelCache.getModel(Person.class, null)).isNotSameAs(model);
+        assertThat(modelCache.getModel(Person.class, Settings.from(settings))).isNotSameAs(model);
+        assertThat(modelCache.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedModel() {
+        final Settings first = Settings.create();
+        final Model<?> model = modelCache.getModel(Person.class, first);
+
+        for (int i = 0; i < ModelCache.MAX_SIZE; i++) {
+            // keep the first model recently used
+            assertThat(modelCache.getModel(Person.class, first)).isSameAs(model);
+            modelCache.getModel(Person.class, Settings.create());
+        }
+
+        assertThat(modelCache.size()).isEqualTo(ModelCache.MAX_SIZE);
+        assertThat(modelCache.getModel(Person.class, first)).isSameAs(model);
+    }
+}
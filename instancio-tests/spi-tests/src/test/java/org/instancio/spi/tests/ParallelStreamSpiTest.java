@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi.tests;
+
+import org.example.generator.CustomIntegerGenerator;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelStreamSpiTest {
+
+    private static final int SAMPLE_SIZE = 100;
+
+    /**
+     * Elements should be created using providers visible to the thread
+     * that created the stream, and not the thread processing the element.
+     */
+    @Test
+    void shouldResolveProvidersUsingClassLoaderOfCallingThread() throws Exception {
+        final Stream<Integer> stream = Instancio.of(int.class).parallelStream();
+        final List<Integer> results = new CopyOnWriteArrayList<>();
+
+        try (URLClassLoader classLoaderWithoutProviders = new URLClassLoader(new URL[0], null)) {
+            final Thread thread = new Thread(() -> results.addAll(stream.sequential().limit(SAMPLE_SIZE).toList()));
+            thread.setContextClassLoader(classLoaderWithoutProviders);
+            thread.start();
+            thread.join();
+        }
+
+        assertThat(results)
+                .hasSize(SAMPLE_SIZE)
+                .allSatisfy(n -> assertThat(n).isBetween(CustomIntegerGenerator.MIN, CustomIntegerGenerator.MAX));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi.tests;
+
+import org.example.spi.CustomAnnotationProcessor;
+import org.example.spi.CustomGeneratorProvider;
+import org.example.spi.CustomSetterMethodResolver;
+import org.example.spi.CustomTypeProvider;
+import org.instancio.internal.spi.ServiceProviderRegistry;
+import org.instancio.spi.InstancioServiceProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceProviderRegistryTest {
+
+    @Test
+    void shouldReturnNewProviderInstancesOnEachCall() {
+        final List<InstancioServiceProvider> first = ServiceProviderRegistry.getServiceProviders();
+        final List<InstancioServiceProvider> second = ServiceProviderRegistry.getServiceProviders();
+
+        assertThat(first).hasSameSizeAs(second);
+
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(first.get(i))
+                    .isNotSameAs(second.get(i))
+                    .hasSameClassAs(second.get(i));
+        }
+    }
+
+    @Test
+    void shouldPreserveServiceConfigurationOrder() {
+        assertThat(ServiceProviderRegistry.getServiceProviders())
+                .extracting(Object::getClass)
+                .containsExactly(
+                        CustomTypeProvider.class,
+                        CustomGeneratorProvider.class,
+                        CustomSetterMethodResolver.class,
+                        CustomAnnotationProcessor.class);
+    }
+}